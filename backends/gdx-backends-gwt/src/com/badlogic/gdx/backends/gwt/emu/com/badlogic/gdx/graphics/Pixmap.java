@@ -68,7 +68,8 @@ public class Pixmap implements Disposable {
 	float a;
 	String color = make(r, g, b, a);
 	static String clearColor = make(255, 255, 255, 1.0f);
-	static Blending blending;
+	Blending blending = Blending.SourceOver;
+	Filter filter = Filter.BiLinear;
 	CanvasPixelArray pixels;
 
 	public Pixmap (FileHandle file) {
@@ -113,25 +114,28 @@ public class Pixmap implements Disposable {
 		return "rgba(" + r2 + "," + g2 + "," + b2 + "," + a2 + ")";
 	}
 
-	/** Sets the type of {@link Blending} to be used for all operations. Default is {@link Blending#SourceOver}.
+	/** Sets the type of {@link Blending} to be used for all operations on this Pixmap. Default is {@link Blending#SourceOver}.
 	 * @param blending the blending type */
-	public static void setBlending (Blending blending) {
-		Pixmap.blending = blending;
-		Composite composite = getComposite();
-		for (Pixmap pixmap : pixmaps.values()) {
-			pixmap.context.setGlobalCompositeOperation(composite);
-		}
+	public void setBlending (Blending blending) {
+		this.blending = blending;
+		context.setGlobalCompositeOperation(getComposite());
 	}
 
 	/** @return the currently set {@link Blending} */
-	public static Blending getBlending () {
+	public Blending getBlending () {
 		return blending;
 	}
 
 	/** Sets the type of interpolation {@link Filter} to be used in conjunction with
 	 * {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)}.
 	 * @param filter the filter. */
-	public static void setFilter (Filter filter) {
+	public void setFilter (Filter filter) {
+		this.filter = filter;
+	}
+
+	/** @return the currently set {@link Filter} */
+	public Filter getFilter () {
+		return filter;
 	}
 
 	public Format getFormat () {
@@ -32,6 +32,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
 import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker.Page;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeType.Bitmap;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeType.Face;
@@ -438,6 +439,10 @@ public class FreeTypeFontGenerator implements Disposable {
 		if (ownsAtlas) {
 			data.regions = new Array();
 			packer.updateTextureRegions(data.regions, parameter.minFilter, parameter.magFilter, parameter.genMipMaps);
+			if (incremental && parameter.maxPages > 0) {
+				data.pageUses = new int[Math.max(parameter.maxPages, data.regions.size)];
+				data.currentPage = data.regions.size - 1;
+			}
 		}
 
 		return data;
@@ -495,10 +500,9 @@ public class FreeTypeFontGenerator implements Disposable {
 				// create a new bigger Pixmap with shadowOffset applied, and draw shadow glyph
 				Pixmap shadowPixmap = new Pixmap(shadowPixmapSrc.getWidth() + Math.abs(parameter.shadowOffsetX),
 					shadowPixmapSrc.getHeight() + Math.abs(parameter.shadowOffsetY), Format.RGBA8888);
-				Blending blending = Pixmap.getBlending();
-				Pixmap.setBlending(Blending.None);
+				shadowPixmap.setBlending(Blending.None);
 				shadowPixmap.drawPixmap(shadowPixmapSrc, Math.max(parameter.shadowOffsetX, 0), Math.max(parameter.shadowOffsetY, 0));
-				Pixmap.setBlending(blending);
+				shadowPixmap.setBlending(Blending.SourceOver);
 				// draw main glyph (with border) on top of shadow
 				shadowPixmap.drawPixmap(mainPixmap, Math.max(-parameter.shadowOffsetX, 0), Math.max(-parameter.shadowOffsetY, 0));
 				mainPixmap.dispose();
@@ -531,9 +535,28 @@ public class FreeTypeFontGenerator implements Disposable {
 
 		}
 
+		int pageCount = packer.getPages().size;
 		Rectangle rect = packer.pack(mainPixmap);
 
-		glyph.page = packer.getPages().size - 1; // Glyph is always packed into the last page for now.
+		if (data.pageUses == null)
+			glyph.page = packer.getPages().size - 1; // Glyph is always packed into the last page for now.
+		else {
+			// Glyph is packed into the current page. A page added over the budget replaces the least recently used page.
+			if (packer.getPages().size > pageCount) {
+				int page = pageCount < parameter.maxPages ? -1 : data.replacePage();
+				if (page == -1) {
+					// Under the budget or every page is used by the current layout, keep the new page.
+					page = pageCount;
+					if (data.pageUses.length <= page) {
+						int[] pageUses = new int[page + 1];
+						System.arraycopy(data.pageUses, 0, pageUses, 0, data.pageUses.length);
+						data.pageUses = pageUses;
+					}
+				}
+				data.currentPage = page;
+			}
+			glyph.page = data.currentPage;
+		}
 		glyph.srcX = (int)rect.x;
 		glyph.srcY = (int)rect.y;
 
@@ -591,6 +614,9 @@ public class FreeTypeFontGenerator implements Disposable {
 		Stroker stroker;
 		PixmapPacker packer;
 		Array<Glyph> glyphs;
+		// Fields for the incremental page budget.
+		int[] pageUses;
+		int uses, currentPage;
 
 		@Override
 		public Glyph getGlyph (char ch) {
@@ -619,14 +645,63 @@ public class FreeTypeFontGenerator implements Disposable {
 					}
 				}
 			}
+			if (glyph != null && pageUses != null) pageUses[glyph.page] = uses;
 			return glyph;
 		}
 
 		public void getGlyphs (GlyphRun run, CharSequence str, int start, int end) {
 			if (packer != null) packer.setPackToTexture(true); // All glyphs added after this are packed directly to the texture.
+			uses++;
 			super.getGlyphs(run, str, start, end);
 		}
 
+		/** Returns the number of glyph pages replaced because of {@link FreeTypeFontParameter#maxPages}, see
+		 * {@link BitmapFontData#evictions}. Text laid out when the count was lower may reference removed glyphs and must be laid
+		 * out again, eg by calling {@link com.badlogic.gdx.scenes.scene2d.ui.Label#invalidate()}. */
+		public int getEvictions () {
+			return evictions;
+		}
+
+		/** Moves the page the packer just added in place of the least recently used page, removing the glyphs on that page. Pages
+		 * used by the current {@link #getGlyphs(GlyphRun, CharSequence, int, int) getGlyphs} call are not replaced, since glyphs
+		 * already placed by it reference them. The page of glyph 0, which may be used for missing characters, is also kept.
+		 * @return the index of the replaced page, or -1 if every page is used by the current call. */
+		int replacePage () {
+			Array<Page> pages = packer.getPages();
+			Glyph missing = super.getGlyph((char)0);
+			int index = -1;
+			for (int i = 0, n = pages.size - 1; i < n; i++) {
+				if (pageUses[i] == uses || (missing != null && missing.page == i)) continue;
+				if (index == -1 || pageUses[i] < pageUses[index]) index = i;
+			}
+			if (index == -1) return -1;
+			evictions++;
+
+			// Glyphs without an image don't use the page and are kept.
+			for (Glyph[] glyphPage : super.glyphs) {
+				if (glyphPage == null) continue;
+				for (int i = 0; i < glyphPage.length; i++) {
+					Glyph glyph = glyphPage[i];
+					if (glyph != null && glyph.page == index && glyph.width != 0 && glyph.height != 0) glyphPage[i] = null;
+				}
+			}
+			for (int i = glyphs.size - 1; i >= 0; i--) {
+				Glyph glyph = glyphs.get(i);
+				if (glyph.page == index && glyph.width != 0 && glyph.height != 0) glyphs.removeIndex(i);
+			}
+
+			Page evicted = pages.get(index);
+			pages.set(index, pages.pop());
+			if (evicted.getTexture() != null)
+				evicted.getTexture().dispose(); // Also disposes the pixmap.
+			else
+				evicted.getPixmap().dispose();
+			Page page = pages.get(index);
+			page.updateTexture(parameter.minFilter, parameter.magFilter, parameter.genMipMaps);
+			regions.set(index, new TextureRegion(page.getTexture()));
+			return index;
+		}
+
 		@Override
 		public void dispose () {
 			if (stroker != null) stroker.dispose();
@@ -680,5 +755,13 @@ public class FreeTypeFontGenerator implements Disposable {
 		 * generator) when the font is no longer needed. The FreeTypeFontParameter should not be modified after creating a font. If
 		 * a PixmapPacker is not specified, the font glyph page textures will use {@link FreeTypeFontGenerator#getMaxTextureSize()}. */
 		public boolean incremental;
+		/** When incremental and no PixmapPacker is specified, the maximum number of glyph pages created for glyphs rendered on the fly,
+		 * or 0 for no limit. When a glyph doesn't fit, the glyphs of the page least recently used by
+		 * {@link BitmapFontData#getGlyphs(GlyphRun, CharSequence, int, int) getGlyphs} are removed and the page is replaced. Pages
+		 * used by the text being laid out are never replaced, more pages are created if that text needs them. Text laid out before
+		 * may reference removed glyphs and must be laid out again, incremental GlyphLayout and BitmapFontCache updates then do a
+		 * full layout. Text which is laid out once and then cached doesn't mark its pages as used, check
+		 * {@link FreeTypeBitmapFontData#getEvictions()} to detect when it must be laid out again. */
+		public int maxPages;
 	}
 }
@@ -0,0 +1,418 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tools.json;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ArrayMap;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Field;
+
+/** Generates the Java source for {@link Json.Serializer} implementations that read and write the fields of a class directly,
+ * without the reflection used by {@link Json#writeFields(Object)} and {@link Json#readFields(Object, JsonValue)}. The generated
+ * serializers produce the same JSON as the reflective path: fields are written in the same order, values equal to those of a
+ * newly constructed instance are skipped when {@link Json#getUsePrototypes()} is true, class tags are written through
+ * {@link Json#writeObjectStart(Class, Class)}, and unknown fields honour {@link Json#getIgnoreUnknownFields()}. Element types are
+ * taken from the generic field signatures; types set with {@link Json#setElementType(Class, String, Class)} are not seen.
+ * <p>
+ * The serializer for a class is placed in the same package and named by {@link #getSerializerName(Class)}. Fields that are
+ * private, final or whose type is not visible from that package are still accessed through reflection. Serializers are opt-in:
+ * call the generated static <code>register(Json)</code> method for each class. Regenerate whenever the fields of a class change.
+ * <p>
+ * Usage: <code>JsonSerializerGenerator outputDir className [className ...]</code> */
+public class JsonSerializerGenerator {
+	private String packageName;
+
+	/** Returns the simple name of the serializer class generated for the specified type. */
+	static public String getSerializerName (Class type) {
+		String name = type.getName();
+		return name.substring(name.lastIndexOf('.') + 1).replace('$', '_') + "JsonSerializer";
+	}
+
+	/** Writes the serializer source for the type to its package directory below the output directory.
+	 * @return The file written. */
+	public File generate (Class type, File outputDir) throws IOException {
+		String packageName = getPackageName(type);
+		File dir = packageName.length() == 0 ? outputDir : new File(outputDir, packageName.replace('.', '/'));
+		dir.mkdirs();
+		File file = new File(dir, getSerializerName(type) + ".java");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(generate(type));
+		} finally {
+			StreamUtils.closeQuietly(writer);
+		}
+		return file;
+	}
+
+	/** Returns the serializer source for the type.
+	 * @throws IllegalArgumentException if the type cannot be handled by a generated serializer. */
+	public String generate (Class type) {
+		packageName = getPackageName(type);
+		checkType(type, packageName);
+
+		ArrayList<FieldInfo> fields = getFields(type, packageName);
+		String typeName = typeName(type);
+		String serializerName = getSerializerName(type);
+		boolean reflection = false, equal = false;
+		for (FieldInfo field : fields) {
+			if (field.reflection) reflection = true;
+			if (!field.field.getType().isPrimitive()) equal = true;
+		}
+
+		StringBuilder buffer = new StringBuilder(4096);
+		buffer.append("// Generated by ").append(getClass().getName()).append(" from ").append(type.getName())
+			.append(". Do not edit.\n\n");
+		if (packageName.length() > 0) buffer.append("package ").append(packageName).append(";\n\n");
+		buffer.append("import java.io.IOException;\n");
+		if (equal) buffer.append("import java.util.Arrays;\n");
+		buffer.append("\n");
+		buffer.append("import com.badlogic.gdx.utils.Json;\n");
+		buffer.append("import com.badlogic.gdx.utils.JsonValue;\n");
+		buffer.append("import com.badlogic.gdx.utils.JsonWriter;\n");
+		buffer.append("import com.badlogic.gdx.utils.SerializationException;\n");
+		if (reflection) {
+			buffer.append("import com.badlogic.gdx.utils.reflect.ClassReflection;\n");
+			buffer.append("import com.badlogic.gdx.utils.reflect.Field;\n");
+			buffer.append("import com.badlogic.gdx.utils.reflect.ReflectionException;\n");
+		}
+		buffer.append("\n");
+		buffer.append("/** Reflection-free serializer for {@link ").append(typeName).append("}. */\n");
+		buffer.append("@SuppressWarnings(\"all\")\n");
+		buffer.append("public class ").append(serializerName).append(" implements Json.Serializer<").append(typeName)
+			.append("> {\n");
+		for (FieldInfo field : fields) {
+			if (!field.reflection) continue;
+			buffer.append("\tstatic private final Field ").append(field.variable).append(" = field(")
+				.append(typeName(field.field.getDeclaringClass())).append(".class, \"").append(field.field.getName())
+				.append("\");\n");
+			buffer.append("\tstatic private final Class ").append(field.variable).append("ElementType = ").append(field.variable)
+				.append(".getElementType(").append(field.elementTypeIndex).append(");\n");
+		}
+		if (reflection) buffer.append("\n");
+		buffer.append("\tprivate final ").append(typeName).append(" defaults = new ").append(typeName).append("();\n\n");
+		buffer.append("\tstatic public void register (Json json) {\n");
+		buffer.append("\t\tjson.setSerializer(").append(typeName).append(".class, new ").append(serializerName).append("());\n");
+		buffer.append("\t}\n\n");
+
+		writeMethod(buffer, typeName, fields, reflection);
+		buffer.append("\n");
+		readMethod(buffer, typeName, fields, reflection);
+
+		if (equal) {
+			buffer.append("\n");
+			buffer.append("\tstatic private boolean equal (Object value, Object defaultValue) {\n");
+			buffer.append("\t\tif (value == null) return defaultValue == null;\n");
+			buffer.append("\t\tif (defaultValue == null) return false;\n");
+			buffer.append("\t\tif (value.equals(defaultValue)) return true;\n");
+			buffer.append("\t\tif (value.getClass().isArray() && defaultValue.getClass().isArray())\n");
+			buffer.append("\t\t\treturn Arrays.deepEquals(new Object[] {value}, new Object[] {defaultValue});\n");
+			buffer.append("\t\treturn false;\n");
+			buffer.append("\t}\n");
+		}
+		if (reflection) {
+			buffer.append("\n");
+			buffer.append("\tstatic private Field field (Class type, String name) {\n");
+			buffer.append("\t\ttry {\n");
+			buffer.append("\t\t\tField field = ClassReflection.getDeclaredField(type, name);\n");
+			buffer.append("\t\t\tfield.setAccessible(true);\n");
+			buffer.append("\t\t\treturn field;\n");
+			buffer.append("\t\t} catch (ReflectionException ex) {\n");
+			buffer.append("\t\t\tthrow new SerializationException(\"Error accessing field: \" + name + \" (\" + type.getName() + \")\", ex);\n");
+			buffer.append("\t\t}\n");
+			buffer.append("\t}\n");
+		}
+		buffer.append("}\n");
+		return buffer.toString();
+	}
+
+	private void writeMethod (StringBuilder buffer, String typeName, ArrayList<FieldInfo> fields, boolean reflection) {
+		buffer.append("\tpublic void write (Json json, ").append(typeName).append(" object, Class knownType) {\n");
+		buffer.append("\t\tjson.writeObjectStart(").append(typeName).append(".class, knownType);\n");
+		buffer.append("\t\t").append(typeName).append(" defaults = json.getUsePrototypes() ? this.defaults : null;\n");
+		buffer.append("\t\tJsonWriter writer = json.getWriter();\n");
+		buffer.append("\t\ttry {\n");
+		for (FieldInfo field : fields) {
+			String name = field.field.getName();
+			Class fieldType = field.field.getType();
+			if (field.reflection) {
+				String value = field.variable + "Value";
+				buffer.append("\t\t\tObject ").append(value).append(" = ").append(field.variable).append(".get(object);\n");
+				buffer.append("\t\t\tif (defaults == null || !equal(").append(value).append(", ").append(field.variable)
+					.append(".get(defaults))) {\n");
+				buffer.append("\t\t\t\twriter.name(\"").append(name).append("\");\n");
+				buffer.append("\t\t\t\tjson.writeValue(").append(value).append(", ").append(field.variable).append(".getType(), ")
+					.append(field.variable).append("ElementType);\n");
+				buffer.append("\t\t\t}\n");
+			} else if (fieldType.isPrimitive()) {
+				String value = "object." + name, defaultValue = "defaults." + name;
+				buffer.append("\t\t\tif (defaults == null || ");
+				if (fieldType == float.class)
+					buffer.append("Float.floatToIntBits(").append(value).append(") != Float.floatToIntBits(").append(defaultValue)
+						.append(")");
+				else if (fieldType == double.class)
+					buffer.append("Double.doubleToLongBits(").append(value).append(") != Double.doubleToLongBits(")
+						.append(defaultValue).append(")");
+				else
+					buffer.append(value).append(" != ").append(defaultValue);
+				buffer.append(") writer.name(\"").append(name).append("\").value(").append(value).append(");\n");
+			} else {
+				String value = "object." + name;
+				buffer.append("\t\t\tif (defaults == null || !equal(").append(value).append(", defaults.").append(name)
+					.append(")) ");
+				if (isValueType(fieldType)) {
+					// Json writes these directly when the field type is known.
+					buffer.append("writer.name(\"").append(name).append("\").value(").append(value).append(");\n");
+				} else {
+					buffer.append("{\n");
+					buffer.append("\t\t\t\twriter.name(\"").append(name).append("\");\n");
+					buffer.append("\t\t\t\tjson.writeValue(").append(value).append(", ").append(typeName(fieldType))
+						.append(".class, ").append(elementType(field)).append(");\n");
+					buffer.append("\t\t\t}\n");
+				}
+			}
+		}
+		buffer.append("\t\t} catch (IOException ex) {\n");
+		buffer.append("\t\t\tthrow new SerializationException(ex);\n");
+		if (reflection) {
+			buffer.append("\t\t} catch (ReflectionException ex) {\n");
+			buffer.append("\t\t\tthrow new SerializationException(\"Error accessing field (\" + ").append(typeName)
+				.append(".class.getName() + \")\", ex);\n");
+		}
+		buffer.append("\t\t}\n");
+		buffer.append("\t\tjson.writeObjectEnd();\n");
+		buffer.append("\t}\n");
+	}
+
+	private void readMethod (StringBuilder buffer, String typeName, ArrayList<FieldInfo> fields, boolean reflection) {
+		buffer.append("\tpublic ").append(typeName).append(" read (Json json, JsonValue jsonData, Class type) {\n");
+		buffer.append("\t\tif (jsonData.isNull()) return null;\n");
+		buffer.append("\t\tif (!jsonData.isObject()) throw new SerializationException(\"Unable to convert value to required type: \" + jsonData + \" (\" + ")
+			.append(typeName).append(".class.getName() + \")\");\n");
+		buffer.append("\t\t").append(typeName).append(" object = new ").append(typeName).append("();\n");
+		buffer.append("\t\tfor (JsonValue child = jsonData.child; child != null; child = child.next) {\n");
+		buffer.append("\t\t\tString name = child.name;\n");
+		if (!fields.isEmpty()) {
+			// Dispatch on the name's hash code, Java 6 has no switch on strings.
+			TreeMap<Integer, ArrayList<FieldInfo>> hashToFields = new TreeMap();
+			for (FieldInfo field : fields) {
+				int hash = field.field.getName().hashCode();
+				ArrayList<FieldInfo> bucket = hashToFields.get(hash);
+				if (bucket == null) hashToFields.put(hash, bucket = new ArrayList());
+				bucket.add(field);
+			}
+			buffer.append("\t\t\ttry {\n");
+			buffer.append("\t\t\t\tswitch (name.hashCode()) {\n");
+			for (Entry<Integer, ArrayList<FieldInfo>> entry : hashToFields.entrySet()) {
+				buffer.append("\t\t\t\tcase ").append(entry.getKey()).append(":\n");
+				for (FieldInfo field : entry.getValue()) {
+					buffer.append("\t\t\t\t\tif (name.equals(\"").append(field.field.getName()).append("\")) {\n");
+					buffer.append("\t\t\t\t\t\t");
+					readField(buffer, field);
+					buffer.append("\n");
+					buffer.append("\t\t\t\t\t\tcontinue;\n");
+					buffer.append("\t\t\t\t\t}\n");
+				}
+				buffer.append("\t\t\t\t\tbreak;\n");
+			}
+			buffer.append("\t\t\t\t}\n");
+			if (reflection) {
+				buffer.append("\t\t\t} catch (ReflectionException ex) {\n");
+				buffer.append("\t\t\t\tthrow new SerializationException(\"Error accessing field: \" + name + \" (\" + ").append(typeName)
+					.append(".class.getName() + \")\", ex);\n");
+			}
+			buffer.append("\t\t\t} catch (SerializationException ex) {\n");
+			buffer.append("\t\t\t\tex.addTrace(name + \" (\" + ").append(typeName).append(".class.getName() + \")\");\n");
+			buffer.append("\t\t\t\tthrow ex;\n");
+			buffer.append("\t\t\t} catch (RuntimeException runtimeEx) {\n");
+			buffer.append("\t\t\t\tSerializationException ex = new SerializationException(runtimeEx);\n");
+			buffer.append("\t\t\t\tex.addTrace(name + \" (\" + ").append(typeName).append(".class.getName() + \")\");\n");
+			buffer.append("\t\t\t\tthrow ex;\n");
+			buffer.append("\t\t\t}\n");
+		}
+		buffer.append("\t\t\tif (!json.getIgnoreUnknownFields())\n");
+		buffer.append("\t\t\t\tthrow new SerializationException(\"Field not found: \" + name + \" (\" + ").append(typeName)
+			.append(".class.getName() + \")\");\n");
+		buffer.append("\t\t}\n");
+		buffer.append("\t\treturn object;\n");
+		buffer.append("\t}\n");
+	}
+
+	private void readField (StringBuilder buffer, FieldInfo field) {
+		if (field.reflection) {
+			buffer.append(field.variable).append(".set(object, json.readValue(").append(field.variable).append(".getType(), ")
+				.append(field.variable).append("ElementType, child));");
+			return;
+		}
+		Class fieldType = field.field.getType();
+		buffer.append("object.").append(field.field.getName()).append(" = ");
+		if (fieldType == boolean.class)
+			buffer.append("child.isBoolean() ? child.asBoolean() : ");
+		else if (fieldType == float.class)
+			buffer.append("child.isNumber() ? child.asFloat() : ");
+		else if (fieldType == int.class)
+			buffer.append("child.isNumber() ? child.asInt() : ");
+		else if (fieldType == long.class)
+			buffer.append("child.isNumber() ? child.asLong() : ");
+		else if (fieldType == double.class)
+			buffer.append("child.isNumber() ? child.asDouble() : ");
+		else if (fieldType == short.class)
+			buffer.append("child.isNumber() ? child.asShort() : ");
+		else if (fieldType == byte.class)
+			buffer.append("child.isNumber() ? child.asByte() : ");
+		buffer.append("json.readValue(").append(typeName(fieldType)).append(".class, ")
+			.append(elementType(field)).append(", child);");
+	}
+
+	private String elementType (FieldInfo field) {
+		return field.elementType == null ? "(Class)null" : typeName(field.elementType) + ".class";
+	}
+
+	/** Returns the name used to reference the type, without the package if it is java.lang or the package being
+	 * generated. */
+	private String typeName (Class type) {
+		String name = type.getCanonicalName();
+		Class componentType = type;
+		while (componentType.isArray())
+			componentType = componentType.getComponentType();
+		if (!componentType.isPrimitive() && packageName.length() > 0 && getPackageName(componentType).equals(packageName))
+			return name.substring(packageName.length() + 1);
+		if (componentType.getEnclosingClass() == null && getPackageName(componentType).equals("java.lang"))
+			return name.substring("java.lang.".length());
+		return name;
+	}
+
+	static private boolean isValueType (Class type) {
+		return type == String.class || type == Integer.class || type == Boolean.class || type == Float.class || type == Long.class
+			|| type == Double.class || type == Short.class || type == Byte.class || type == Character.class;
+	}
+
+	/** Returns the fields in the same order and with the same element types as {@link Json} uses. */
+	private ArrayList<FieldInfo> getFields (Class type, String packageName) {
+		Array<Class> classHierarchy = new Array();
+		Class nextClass = type;
+		while (nextClass != Object.class) {
+			classHierarchy.add(nextClass);
+			nextClass = nextClass.getSuperclass();
+		}
+		OrderedMap<String, Field> nameToField = new OrderedMap();
+		for (int i = classHierarchy.size - 1; i >= 0; i--) {
+			for (Field field : ClassReflection.getDeclaredFields(classHierarchy.get(i))) {
+				if (field.isTransient()) continue;
+				if (field.isStatic()) continue;
+				if (field.isSynthetic()) continue;
+				nameToField.put(field.getName(), field);
+			}
+		}
+
+		ArrayList<FieldInfo> fields = new ArrayList();
+		for (Field field : nameToField.values()) {
+			FieldInfo info = new FieldInfo();
+			info.field = field;
+			info.variable = "field" + fields.size();
+			info.elementTypeIndex = ClassReflection.isAssignableFrom(ObjectMap.class, field.getType())
+				|| ClassReflection.isAssignableFrom(Map.class, field.getType()) ? 1 : 0;
+			info.elementType = field.getElementType(info.elementTypeIndex);
+			info.reflection = field.isPrivate() || field.isFinal()
+				|| !(field.isPublic() || getPackageName(field.getDeclaringClass()).equals(packageName))
+				|| !isVisible(field.getType(), packageName)
+				|| (info.elementType != null && !isVisible(info.elementType, packageName));
+			if (info.reflection && !isVisible(field.getDeclaringClass(), packageName))
+				throw new IllegalArgumentException("Field is not accessible: " + field.getName() + " ("
+					+ field.getDeclaringClass().getName() + ")");
+			fields.add(info);
+		}
+		return fields;
+	}
+
+	private void checkType (Class type, String packageName) {
+		if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum() || Modifier.isAbstract(type.getModifiers()))
+			throw new IllegalArgumentException("Type must be a concrete class: " + type.getName());
+		if (type.getEnclosingClass() != null && !ClassReflection.isStaticClass(type))
+			throw new IllegalArgumentException("Type must not be a non-static member class: " + type.getName());
+		if (type.isAnonymousClass() || type.isLocalClass() || !isVisible(type, packageName))
+			throw new IllegalArgumentException("Type must be visible from its package: " + type.getName());
+		if (ClassReflection.isAssignableFrom(Json.Serializable.class, type) || ClassReflection.isAssignableFrom(ObjectMap.class, type)
+			|| ClassReflection.isAssignableFrom(ArrayMap.class, type) || ClassReflection.isAssignableFrom(Map.class, type)
+			|| ClassReflection.isAssignableFrom(Array.class, type) || ClassReflection.isAssignableFrom(Collection.class, type))
+			throw new IllegalArgumentException("Type has its own JSON representation: " + type.getName());
+		try {
+			if (Modifier.isPrivate(type.getDeclaredConstructor().getModifiers()))
+				throw new IllegalArgumentException("Type must have a non-private no-arg constructor: " + type.getName());
+		} catch (NoSuchMethodException ex) {
+			throw new IllegalArgumentException("Type must have a no-arg constructor: " + type.getName());
+		}
+	}
+
+	/** Returns true if the type can be referenced by name from the specified package. */
+	static private boolean isVisible (Class type, String packageName) {
+		while (type.isArray())
+			type = type.getComponentType();
+		if (type.isPrimitive()) return true;
+		if (type.isAnonymousClass() || type.isLocalClass()) return false;
+		for (Class c = type; c != null; c = c.getEnclosingClass()) {
+			int modifiers = c.getModifiers();
+			if (Modifier.isPrivate(modifiers)) return false;
+			if (!Modifier.isPublic(modifiers) && !getPackageName(c).equals(packageName)) return false;
+		}
+		return true;
+	}
+
+	static private String getPackageName (Class type) {
+		String name = type.getName();
+		int index = name.lastIndexOf('.');
+		return index == -1 ? "" : name.substring(0, index);
+	}
+
+	static private class FieldInfo {
+		Field field;
+		String variable;
+		Class elementType;
+		int elementTypeIndex;
+		boolean reflection;
+	}
+
+	static public void main (String[] args) throws Exception {
+		if (args.length < 2) {
+			System.out.println("Usage: outputDir className [className ...]");
+			System.exit(0);
+		}
+		File outputDir = new File(args[0]);
+		JsonSerializerGenerator generator = new JsonSerializerGenerator();
+		for (int i = 1; i < args.length; i++) {
+			File file = generator.generate(Class.forName(args[i]), outputDir);
+			System.out.println("Generated: " + file.getPath());
+		}
+	}
+}
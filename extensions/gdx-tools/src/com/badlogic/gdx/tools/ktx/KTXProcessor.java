@@ -15,7 +15,6 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Pixmap.Blending;
-import com.badlogic.gdx.graphics.Pixmap.Filter;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.glutils.ETC1;
 import com.badlogic.gdx.graphics.glutils.ETC1.ETC1Data;
@@ -132,8 +131,6 @@ public class KTXProcessor {
 			// Process all faces
 			int nFaces = isCubemap ? 6 : 1;
 			Image[][] images = new Image[nFaces][];
-			Pixmap.setBlending(Blending.None);
-			Pixmap.setFilter(Filter.BiLinear);
 			int texWidth = -1, texHeight = -1, texFormat = -1, nLevels = 0;
 			for (int face = 0; face < nFaces; face++) {
 				ETC1Data etc1 = null;
@@ -204,6 +201,7 @@ public class KTXProcessor {
 					}
 					if (levelETCData == null) {
 						levelPixmap = new Pixmap(levelWidth, levelHeight, facePixmap.getFormat());
+						levelPixmap.setBlending(Blending.None);
 						levelPixmap.drawPixmap(facePixmap, 0, 0, facePixmap.getWidth(), facePixmap.getHeight(), 0, 0,
 							levelPixmap.getWidth(), levelPixmap.getHeight());
 					}
@@ -215,6 +213,7 @@ public class KTXProcessor {
 						if (levelPixmap == null) levelPixmap = ETC1.decodeImage(levelETCData, Format.RGB888);
 						int w = levelPixmap.getWidth(), h = levelPixmap.getHeight();
 						Pixmap pm = new Pixmap(w, h * 2, levelPixmap.getFormat());
+						pm.setBlending(Blending.None);
 						pm.drawPixmap(levelPixmap, 0, 0);
 						for (int y = 0; y < h; y++) {
 							for (int x = 0; x < w; x++) {
@@ -233,6 +232,7 @@ public class KTXProcessor {
 							if (!isAlphaAtlas)
 								System.out.println("Converting from " + levelPixmap.getFormat() + " to RGB888 for ETC1 compression");
 							Pixmap tmp = new Pixmap(levelPixmap.getWidth(), levelPixmap.getHeight(), Format.RGB888);
+							tmp.setBlending(Blending.None);
 							tmp.drawPixmap(levelPixmap, 0, 0, 0, 0, levelPixmap.getWidth(), levelPixmap.getHeight());
 							levelPixmap.dispose();
 							levelPixmap = tmp;
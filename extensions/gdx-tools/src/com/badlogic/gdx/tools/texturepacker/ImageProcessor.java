@@ -31,8 +31,12 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -64,6 +68,41 @@ public class ImageProcessor {
 
 	/** The image won't be kept in-memory during packing if {@link Settings#limitMemory} is true. */
 	public void addImage (File file) {
+		ProcessedImage processed = processFile(file);
+		Rect rect = addRect(processed.rect, processed.name, processed.hash);
+		if (rect != null && settings.limitMemory) rect.unloadImage(file);
+	}
+
+	/** Adds the images like {@link #addImage(File)}, reading, processing and hashing them concurrently using the executor. The
+	 * images are added in the order of the files, so the result is the same as adding them one by one.
+	 * @param executor May be null to add the images on the calling thread. */
+	public void addImages (Array<File> files, ExecutorService executor) {
+		if (executor == null) {
+			for (File file : files)
+				addImage(file);
+			return;
+		}
+		// Limit the number of images being processed ahead, so they don't all have to fit in memory at once.
+		int maxPending = Math.max(1, settings.threads) * 4;
+		ArrayDeque<Future<ProcessedImage>> pending = new ArrayDeque();
+		int next = 0;
+		for (int i = 0, n = files.size; i < n; i++) {
+			while (next < n && pending.size() < maxPending) {
+				final File file = files.get(next++);
+				pending.add(executor.submit(new Callable<ProcessedImage>() {
+					public ProcessedImage call () {
+						return processFile(file);
+					}
+				}));
+			}
+			ProcessedImage processed = TexturePacker.waitFor(pending.poll());
+			Rect rect = addRect(processed.rect, processed.name, processed.hash);
+			if (rect != null && settings.limitMemory) rect.unloadImage(files.get(i));
+		}
+	}
+
+	/** Reads, processes and hashes an image. Does not modify the state of this image processor, so can be called concurrently. */
+	private ProcessedImage processFile (File file) {
 		BufferedImage image;
 		try {
 			image = ImageIO.read(file);
@@ -84,22 +123,30 @@ public class ImageProcessor {
 		int dotIndex = name.lastIndexOf('.');
 		if (dotIndex != -1) name = name.substring(0, dotIndex);
 
-		Rect rect = addImage(image, name);
-		if (rect != null && settings.limitMemory) rect.unloadImage(file);
+		ProcessedImage processed = new ProcessedImage();
+		processed.name = name;
+		processed.rect = processImage(image, name);
+		if (processed.rect != null && settings.alias) processed.hash = hash(processed.rect.getImage(this));
+		return processed;
 	}
 
 	/** The image will be kept in-memory during packing.
 	 * @see #addImage(File) */
 	public Rect addImage (BufferedImage image, String name) {
 		Rect rect = processImage(image, name);
+		return addRect(rect, name, rect != null && settings.alias ? hash(rect.getImage(this)) : null);
+	}
 
+	/** @param rect May be null if the image is blank.
+	 * @param crc The hash of the image, or null if {@link Settings#alias} is false.
+	 * @return The rect, or null if it was ignored or is an alias of a previously added rect. */
+	private Rect addRect (Rect rect, String name, String crc) {
 		if (rect == null) {
 			if(!settings.silent) System.out.println("Ignoring blank input image: " + name);
 			return null;
 		}
 
 		if (settings.alias) {
-			String crc = hash(rect.getImage(this));
 			Rect existing = crcs.get(crc);
 			if (existing != null) {
 				if (!settings.silent) System.out.println(rect.name + " (alias of " + existing.name + ")");
@@ -444,4 +491,10 @@ public class ImageProcessor {
 		digest.update((byte)(value >> 8));
 		digest.update((byte)value);
 	}
+
+	static private class ProcessedImage {
+		String name;
+		Rect rect;
+		String hash;
+	}
 }
@@ -25,16 +25,21 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Sort;
 
 import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /** Packs pages of images using the maximal rectangles bin packing algorithm by Jukka Jylänki. A brute force binary search is used
- * to pack into the smallest bin possible.
+ * to pack into the smallest bin possible. If {@link Settings#threads} is greater than one, the heuristics are evaluated
+ * concurrently for each size.
  * @author Nathan Sweet */
 public class MaxRectsPacker implements Packer {
 	private RectComparator rectComparator = new RectComparator();
 	private FreeRectChoiceHeuristic[] methods = FreeRectChoiceHeuristic.values();
-	private MaxRects maxRects = new MaxRects();
+	private MaxRects[] maxRects = new MaxRects[methods.length];
 	Settings settings;
 	private Sort sort = new Sort();
+	private ExecutorService executor;
 
 	public MaxRectsPacker (Settings settings) {
 		this.settings = settings;
@@ -44,6 +49,18 @@ public class MaxRectsPacker implements Packer {
 	}
 
 	public Array<Page> pack (Array<Rect> inputRects) {
+		for (int i = 0, n = methods.length; i < n; i++)
+			if (maxRects[i] == null) maxRects[i] = new MaxRects();
+		executor = TexturePacker.newExecutor(settings);
+		try {
+			return packPages(inputRects);
+		} finally {
+			if (executor != null) executor.shutdown();
+			executor = null;
+		}
+	}
+
+	private Array<Page> packPages (Array<Rect> inputRects) {
 		for (int i = 0, nn = inputRects.size; i < nn; i++) {
 			Rect rect = inputRects.get(i);
 			rect.width += settings.paddingX;
@@ -171,25 +188,30 @@ public class MaxRectsPacker implements Packer {
 
 	/** @param fully If true, the only results that pack all rects will be considered. If false, all results are considered, not all
 	 *           rects may be packed. */
-	private Page packAtSize (boolean fully, int width, int height, Array<Rect> inputRects) {
-		Page bestResult = null;
-		for (int i = 0, n = methods.length; i < n; i++) {
-			maxRects.init(width, height);
-			Page result;
-			if (!settings.fast) {
-				result = maxRects.pack(inputRects, methods[i]);
-			} else {
-				Array<Rect> remaining = new Array();
-				for (int ii = 0, nn = inputRects.size; ii < nn; ii++) {
-					Rect rect = inputRects.get(ii);
-					if (maxRects.insert(rect, methods[i]) == null) {
-						while (ii < nn)
-							remaining.add(inputRects.get(ii++));
+	private Page packAtSize (boolean fully, final int width, final int height, final Array<Rect> inputRects) {
+		Page[] results = new Page[methods.length];
+		if (executor == null) {
+			for (int i = 0, n = methods.length; i < n; i++)
+				results[i] = packAtSize(maxRects[i], methods[i], width, height, inputRects);
+		} else {
+			Future<Page>[] futures = new Future[methods.length];
+			for (int i = 0, n = methods.length; i < n; i++) {
+				final MaxRects maxRects = this.maxRects[i];
+				final FreeRectChoiceHeuristic method = methods[i];
+				futures[i] = executor.submit(new Callable<Page>() {
+					public Page call () {
+						return packAtSize(maxRects, method, width, height, inputRects);
 					}
-				}
-				result = maxRects.getResult();
-				result.remainingRects = remaining;
+				});
 			}
+			for (int i = 0, n = methods.length; i < n; i++)
+				results[i] = TexturePacker.waitFor(futures[i]);
+		}
+
+		// Choose in heuristic order so the result doesn't depend on the number of threads.
+		Page bestResult = null;
+		for (int i = 0, n = methods.length; i < n; i++) {
+			Page result = results[i];
 			if (fully && result.remainingRects.size > 0) continue;
 			if (result.outputRects.size == 0) continue;
 			bestResult = getBest(bestResult, result);
@@ -197,6 +219,22 @@ public class MaxRectsPacker implements Packer {
 		return bestResult;
 	}
 
+	private Page packAtSize (MaxRects maxRects, FreeRectChoiceHeuristic method, int width, int height, Array<Rect> inputRects) {
+		maxRects.init(width, height);
+		if (!settings.fast) return maxRects.pack(inputRects, method);
+		Array<Rect> remaining = new Array();
+		for (int ii = 0, nn = inputRects.size; ii < nn; ii++) {
+			Rect rect = inputRects.get(ii);
+			if (maxRects.insert(rect, method) == null) {
+				while (ii < nn)
+					remaining.add(inputRects.get(ii++));
+			}
+		}
+		Page result = maxRects.getResult();
+		result.remainingRects = remaining;
+		return result;
+	}
+
 	private Page getBest (Page result1, Page result2) {
 		if (result1 == null) return result2;
 		if (result2 == null) return result1;
@@ -32,10 +32,20 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -92,35 +102,54 @@ public class TexturePacker {
 			packFileName = packFileName.substring(0, packFileName.length() - settings.atlasExtension.length());
 		outputDir.mkdirs();
 
-		for (int i = 0, n = settings.scale.length; i < n; i++) {
-			imageProcessor.setScale(settings.scale[i]);
-			for (InputImage inputImage : inputImages) {
-				if (inputImage.file != null)
-					imageProcessor.addImage(inputImage.file);
-				else
-					imageProcessor.addImage(inputImage.image, inputImage.name);
+		ExecutorService executor = newExecutor(settings);
+		try {
+			for (int i = 0, n = settings.scale.length; i < n; i++) {
+				imageProcessor.setScale(settings.scale[i]);
+				addImages(executor);
+
+				Array<Page> pages = packer.pack(imageProcessor.getImages());
+
+				String scaledPackFileName = settings.getScaledPackFileName(packFileName, i);
+				writeImages(outputDir, scaledPackFileName, pages, executor);
+				try {
+					writePackFile(outputDir, scaledPackFileName, pages);
+				} catch (IOException ex) {
+					throw new RuntimeException("Error writing pack file.", ex);
+				}
+				imageProcessor.clear();
 			}
+		} finally {
+			if (executor != null) executor.shutdown();
+		}
+	}
 
-			Array<Page> pages = packer.pack(imageProcessor.getImages());
-
-			String scaledPackFileName = settings.getScaledPackFileName(packFileName, i);
-			writeImages(outputDir, scaledPackFileName, pages);
-			try {
-				writePackFile(outputDir, scaledPackFileName, pages);
-			} catch (IOException ex) {
-				throw new RuntimeException("Error writing pack file.", ex);
+	private void addImages (ExecutorService executor) {
+		Array<File> files = new Array();
+		for (InputImage inputImage : inputImages) {
+			if (inputImage.file != null) {
+				if (executor == null)
+					imageProcessor.addImage(inputImage.file);
+				else
+					files.add(inputImage.file);
+				continue;
 			}
-			imageProcessor.clear();
+			// Keep the order of file and in-memory images, it determines which image the others are an alias of.
+			imageProcessor.addImages(files, executor);
+			files.clear();
+			imageProcessor.addImage(inputImage.image, inputImage.name);
 		}
+		imageProcessor.addImages(files, executor);
 	}
 
-	private void writeImages (File outputDir, String scaledPackFileName, Array<Page> pages) {
+	private void writeImages (File outputDir, String scaledPackFileName, Array<Page> pages, ExecutorService executor) {
 		File packFileNoExt = new File(outputDir, scaledPackFileName);
 		File packDir = packFileNoExt.getParentFile();
 		String imageName = packFileNoExt.getName();
 
+		ArrayList<Future> futures = new ArrayList();
 		int fileIndex = 0;
-		for (Page page : pages) {
+		for (final Page page : pages) {
 			int width = page.width, height = page.height;
 			int paddingX = settings.paddingX;
 			int paddingY = settings.paddingY;
@@ -153,107 +182,122 @@ public class TexturePacker {
 			new FileHandle(outputFile).parent().mkdirs();
 			page.imageName = outputFile.getName();
 
-			BufferedImage canvas = new BufferedImage(width, height, getBufferedImageType(settings.format));
-			Graphics2D g = (Graphics2D)canvas.getGraphics();
+			if (!settings.silent) System.out.println("Writing " + width + "x" + height + ": " + outputFile);
 
-			if (!settings.silent) System.out.println("Writing " + canvas.getWidth() + "x" + canvas.getHeight() + ": " + outputFile);
+			if (executor == null) {
+				writePage(page, outputFile);
+				continue;
+			}
+			final File pageFile = outputFile;
+			futures.add(executor.submit(new Runnable() {
+				public void run () {
+					writePage(page, pageFile);
+				}
+			}));
+		}
+		for (Future future : futures)
+			waitFor(future);
+	}
 
-			for (Rect rect : page.outputRects) {
-				BufferedImage image = rect.getImage(imageProcessor);
-				int iw = image.getWidth();
-				int ih = image.getHeight();
-				int rectX = page.x + rect.x, rectY = page.y + page.height - rect.y - rect.height;
-				if (settings.duplicatePadding) {
-					int amountX = settings.paddingX / 2;
-					int amountY = settings.paddingY / 2;
-					if (rect.rotated) {
-						// Copy corner pixels to fill corners of the padding.
-						for (int i = 1; i <= amountX; i++) {
-							for (int j = 1; j <= amountY; j++) {
-								plot(canvas, rectX - j, rectY + iw - 1 + i, image.getRGB(0, 0));
-								plot(canvas, rectX + ih - 1 + j, rectY + iw - 1 + i, image.getRGB(0, ih - 1));
-								plot(canvas, rectX - j, rectY - i, image.getRGB(iw - 1, 0));
-								plot(canvas, rectX + ih - 1 + j, rectY - i, image.getRGB(iw - 1, ih - 1));
-							}
-						}
-						// Copy edge pixels into padding.
-						for (int i = 1; i <= amountY; i++) {
-							for (int j = 0; j < iw; j++) {
-								plot(canvas, rectX - i, rectY + iw - 1 - j, image.getRGB(j, 0));
-								plot(canvas, rectX + ih - 1 + i, rectY + iw - 1 - j, image.getRGB(j, ih - 1));
-							}
-						}
-						for (int i = 1; i <= amountX; i++) {
-							for (int j = 0; j < ih; j++) {
-								plot(canvas, rectX + j, rectY - i, image.getRGB(iw - 1, j));
-								plot(canvas, rectX + j, rectY + iw - 1 + i, image.getRGB(0, j));
-							}
+	private void writePage (Page page, File outputFile) {
+		int width = page.imageWidth, height = page.imageHeight;
+		BufferedImage canvas = new BufferedImage(width, height, getBufferedImageType(settings.format));
+		Graphics2D g = (Graphics2D)canvas.getGraphics();
+		for (Rect rect : page.outputRects) {
+			BufferedImage image = rect.getImage(imageProcessor);
+			int iw = image.getWidth();
+			int ih = image.getHeight();
+			int rectX = page.x + rect.x, rectY = page.y + page.height - rect.y - rect.height;
+			if (settings.duplicatePadding) {
+				int amountX = settings.paddingX / 2;
+				int amountY = settings.paddingY / 2;
+				if (rect.rotated) {
+					// Copy corner pixels to fill corners of the padding.
+					for (int i = 1; i <= amountX; i++) {
+						for (int j = 1; j <= amountY; j++) {
+							plot(canvas, rectX - j, rectY + iw - 1 + i, image.getRGB(0, 0));
+							plot(canvas, rectX + ih - 1 + j, rectY + iw - 1 + i, image.getRGB(0, ih - 1));
+							plot(canvas, rectX - j, rectY - i, image.getRGB(iw - 1, 0));
+							plot(canvas, rectX + ih - 1 + j, rectY - i, image.getRGB(iw - 1, ih - 1));
 						}
-					} else {
-						// Copy corner pixels to fill corners of the padding.
-						for (int i = 1; i <= amountX; i++) {
-							for (int j = 1; j <= amountY; j++) {
-								plot(canvas, rectX - i, rectY - j, image.getRGB(0, 0));
-								plot(canvas, rectX - i, rectY + ih - 1 + j, image.getRGB(0, ih - 1));
-								plot(canvas, rectX + iw - 1 + i, rectY - j, image.getRGB(iw - 1, 0));
-								plot(canvas, rectX + iw - 1 + i, rectY + ih - 1 + j, image.getRGB(iw - 1, ih - 1));
-							}
+					}
+					// Copy edge pixels into padding.
+					for (int i = 1; i <= amountY; i++) {
+						for (int j = 0; j < iw; j++) {
+							plot(canvas, rectX - i, rectY + iw - 1 - j, image.getRGB(j, 0));
+							plot(canvas, rectX + ih - 1 + i, rectY + iw - 1 - j, image.getRGB(j, ih - 1));
 						}
-						// Copy edge pixels into padding.
-						for (int i = 1; i <= amountY; i++) {
-							copy(image, 0, 0, iw, 1, canvas, rectX, rectY - i, rect.rotated);
-							copy(image, 0, ih - 1, iw, 1, canvas, rectX, rectY + ih - 1 + i, rect.rotated);
+					}
+					for (int i = 1; i <= amountX; i++) {
+						for (int j = 0; j < ih; j++) {
+							plot(canvas, rectX + j, rectY - i, image.getRGB(iw - 1, j));
+							plot(canvas, rectX + j, rectY + iw - 1 + i, image.getRGB(0, j));
 						}
-						for (int i = 1; i <= amountX; i++) {
-							copy(image, 0, 0, 1, ih, canvas, rectX - i, rectY, rect.rotated);
-							copy(image, iw - 1, 0, 1, ih, canvas, rectX + iw - 1 + i, rectY, rect.rotated);
+					}
+				} else {
+					// Copy corner pixels to fill corners of the padding.
+					for (int i = 1; i <= amountX; i++) {
+						for (int j = 1; j <= amountY; j++) {
+							plot(canvas, rectX - i, rectY - j, image.getRGB(0, 0));
+							plot(canvas, rectX - i, rectY + ih - 1 + j, image.getRGB(0, ih - 1));
+							plot(canvas, rectX + iw - 1 + i, rectY - j, image.getRGB(iw - 1, 0));
+							plot(canvas, rectX + iw - 1 + i, rectY + ih - 1 + j, image.getRGB(iw - 1, ih - 1));
 						}
 					}
-				}
-				copy(image, 0, 0, iw, ih, canvas, rectX, rectY, rect.rotated);
-				if (settings.debug) {
-					g.setColor(Color.magenta);
-					g.drawRect(rectX, rectY, rect.width - settings.paddingX - 1, rect.height - settings.paddingY - 1);
+					// Copy edge pixels into padding.
+					for (int i = 1; i <= amountY; i++) {
+						copy(image, 0, 0, iw, 1, canvas, rectX, rectY - i, rect.rotated);
+						copy(image, 0, ih - 1, iw, 1, canvas, rectX, rectY + ih - 1 + i, rect.rotated);
+					}
+					for (int i = 1; i <= amountX; i++) {
+						copy(image, 0, 0, 1, ih, canvas, rectX - i, rectY, rect.rotated);
+						copy(image, iw - 1, 0, 1, ih, canvas, rectX + iw - 1 + i, rectY, rect.rotated);
+					}
 				}
 			}
-
-			if (settings.bleed && !settings.premultiplyAlpha && !settings.outputFormat.equalsIgnoreCase("jpg")) {
-				canvas = new ColorBleedEffect().processImage(canvas, 2);
-				g = (Graphics2D)canvas.getGraphics();
-			}
-
+			copy(image, 0, 0, iw, ih, canvas, rectX, rectY, rect.rotated);
 			if (settings.debug) {
 				g.setColor(Color.magenta);
-				g.drawRect(0, 0, width - 1, height - 1);
+				g.drawRect(rectX, rectY, rect.width - settings.paddingX - 1, rect.height - settings.paddingY - 1);
 			}
+		}
 
-			ImageOutputStream ios = null;
-			try {
-				if (settings.outputFormat.equalsIgnoreCase("jpg")) {
-					BufferedImage newImage = new BufferedImage(canvas.getWidth(), canvas.getHeight(), BufferedImage.TYPE_3BYTE_BGR);
-					newImage.getGraphics().drawImage(canvas, 0, 0, null);
-					canvas = newImage;
-
-					Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
-					ImageWriter writer = writers.next();
-					ImageWriteParam param = writer.getDefaultWriteParam();
-					param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-					param.setCompressionQuality(settings.jpegQuality);
-					ios = ImageIO.createImageOutputStream(outputFile);
-					writer.setOutput(ios);
-					writer.write(null, new IIOImage(canvas, null, null), param);
-				} else {
-					if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
-					ImageIO.write(canvas, "png", outputFile);
-				}
-			} catch (IOException ex) {
-				throw new RuntimeException("Error writing file: " + outputFile, ex);
-			} finally {
-				if (ios != null) {
-					try {
-						ios.close();
-					} catch (Exception ignored) {
-					}
+		if (settings.bleed && !settings.premultiplyAlpha && !settings.outputFormat.equalsIgnoreCase("jpg")) {
+			canvas = new ColorBleedEffect().processImage(canvas, 2);
+			g = (Graphics2D)canvas.getGraphics();
+		}
+
+		if (settings.debug) {
+			g.setColor(Color.magenta);
+			g.drawRect(0, 0, width - 1, height - 1);
+		}
+
+		ImageOutputStream ios = null;
+		try {
+			if (settings.outputFormat.equalsIgnoreCase("jpg")) {
+				BufferedImage newImage = new BufferedImage(canvas.getWidth(), canvas.getHeight(), BufferedImage.TYPE_3BYTE_BGR);
+				newImage.getGraphics().drawImage(canvas, 0, 0, null);
+				canvas = newImage;
+
+				Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+				ImageWriter writer = writers.next();
+				ImageWriteParam param = writer.getDefaultWriteParam();
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(settings.jpegQuality);
+				ios = ImageIO.createImageOutputStream(outputFile);
+				writer.setOutput(ios);
+				writer.write(null, new IIOImage(canvas, null, null), param);
+			} else {
+				if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
+				ImageIO.write(canvas, "png", outputFile);
+			}
+		} catch (IOException ex) {
+			throw new RuntimeException("Error writing file: " + outputFile, ex);
+		} finally {
+			if (ios != null) {
+				try {
+					ios.close();
+				} catch (Exception ignored) {
 				}
 			}
 		}
@@ -275,6 +319,32 @@ public class TexturePacker {
 		}
 	}
 
+	/** @return An executor with {@link Settings#threads} threads, or null if only a single thread should be used. */
+	static ExecutorService newExecutor (Settings settings) {
+		if (settings.threads <= 1) return null;
+		return Executors.newFixedThreadPool(settings.threads, new ThreadFactory() {
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "TexturePacker");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/** Waits for the future to complete, rethrowing any exception of the task. */
+	static <T> T waitFor (Future<T> future) {
+		try {
+			return future.get();
+		} catch (java.util.concurrent.ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+			if (cause instanceof Error) throw (Error)cause;
+			throw new RuntimeException(cause);
+		} catch (InterruptedException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
 	private void writePackFile (File outputDir, String scaledPackFileName, Array<Page> pages) throws IOException {
 		File packFile = new File(outputDir, scaledPackFileName + settings.atlasExtension);
 		File packDir = packFile.getParentFile();
@@ -540,6 +610,9 @@ public class TexturePacker {
 		public float[] scale = {1};
 		public String[] scaleSuffix = {""};
 		public String atlasExtension = ".atlas";
+		/** The number of threads used to load and process images, evaluate packing heuristics and write pages. The packed result
+		 * does not depend on the number of threads. */
+		public int threads = Runtime.getRuntime().availableProcessors();
 
 		public Settings () {
 		}
@@ -581,6 +654,7 @@ public class TexturePacker {
 			scale = settings.scale;
 			scaleSuffix = settings.scaleSuffix;
 			atlasExtension = settings.atlasExtension;
+			threads = settings.threads;
 		}
 
 		public String getScaledPackFileName (String packFileName, int scaleIndex) {
@@ -665,6 +739,90 @@ public class TexturePacker {
 		}
 	}
 
+	/** @return true if the output atlas does not yet exist, or the content of the input directory (all files, including pack.json
+	 *         settings files), the settings or the pack file name changed since the last call to
+	 *         {@link #processIfChanged(Settings, String, String, String)}. The {@link Settings#threads}, {@link Settings#silent}
+	 *         and {@link Settings#limitMemory} settings don't affect the packed output and are ignored. */
+	static public boolean isChanged (String input, String output, String packFileName, Settings settings) {
+		if (packFileName.endsWith(settings.atlasExtension))
+			packFileName = packFileName.substring(0, packFileName.length() - settings.atlasExtension.length());
+		if (!new File(output, packFileName + settings.atlasExtension).exists()) return true;
+		File hashFile = getHashFile(output, packFileName, settings);
+		if (!hashFile.exists()) return true;
+		try {
+			return !new FileHandle(hashFile).readString("UTF-8").equals(hash(new File(input), packFileName, settings));
+		} catch (IOException ex) {
+			throw new RuntimeException("Error hashing input: " + input, ex);
+		}
+	}
+
+	/** Packs the input directory if {@link #isChanged(String, String, String, Settings) changed}, then stores a hash of the input
+	 * next to the pack file. Unlike {@link #processIfModified(Settings, String, String, String)}, this also detects modified
+	 * files in subdirectories and is not affected by file modification dates, eg after a checkout. */
+	static public void processIfChanged (Settings settings, String input, String output, String packFileName) {
+		if (!isChanged(input, output, packFileName, settings)) {
+			if (!settings.silent) System.out.println("Unchanged: " + input);
+			return;
+		}
+		process(settings, input, output, packFileName);
+		if (packFileName.endsWith(settings.atlasExtension))
+			packFileName = packFileName.substring(0, packFileName.length() - settings.atlasExtension.length());
+		try {
+			new FileHandle(getHashFile(output, packFileName, settings)).writeString(hash(new File(input), packFileName, settings),
+				false, "UTF-8");
+		} catch (IOException ex) {
+			throw new RuntimeException("Error hashing input: " + input, ex);
+		}
+	}
+
+	static private File getHashFile (String output, String packFileName, Settings settings) {
+		return new File(output, packFileName + settings.atlasExtension + ".hash");
+	}
+
+	/** @return A SHA1 hash of the settings affecting the output and the names and contents of all files in the input directory. */
+	static private String hash (File input, String packFileName, Settings settings) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA1");
+		} catch (Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		digest.update(packFileName.getBytes("UTF-8"));
+		// Settings that don't change the output are reset, so the hash doesn't depend on the machine or the logging.
+		Settings outputSettings = new Settings(settings);
+		outputSettings.threads = 1;
+		outputSettings.silent = false;
+		outputSettings.limitMemory = true;
+		digest.update(new com.badlogic.gdx.utils.Json().toJson(outputSettings).getBytes("UTF-8"));
+		hash(digest, input, "", new byte[4096]);
+		return new BigInteger(1, digest.digest()).toString(16);
+	}
+
+	static private void hash (MessageDigest digest, File dir, String path, byte[] buffer) throws IOException {
+		File[] files = dir.listFiles();
+		if (files == null) throw new IOException("Unable to list directory: " + dir);
+		Arrays.sort(files);
+		for (File file : files) {
+			String name = path + file.getName();
+			if (file.isDirectory()) {
+				hash(digest, file, name + "/", buffer);
+				continue;
+			}
+			digest.update(name.getBytes("UTF-8"));
+			digest.update((byte)0);
+			InputStream input = new FileInputStream(file);
+			try {
+				while (true) {
+					int count = input.read(buffer);
+					if (count == -1) break;
+					digest.update(buffer, 0, count);
+				}
+			} finally {
+				input.close();
+			}
+		}
+	}
+
 	static public interface Packer {
 		public Array<Page> pack (Array<Rect> inputRects);
 	}
@@ -1,12 +1,12 @@
 #include <com.badlogic.gdx.graphics.g2d.Gdx2DPixmap.h>
 
-//@line:261
+//@line:293
 
 	#include <gdx2d/gdx2d.h>
 	#include <stdlib.h>
 	 JNIEXPORT jobject JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_load(JNIEnv* env, jclass clazz, jlongArray nativeData, jbyteArray buffer, jint offset, jint len) {
 
-//@line:266
+//@line:298
 	
 		const unsigned char* p_buffer = (const unsigned char*)env->GetPrimitiveArrayCritical(buffer, 0);
 		gdx2d_pixmap* pixmap = gdx2d_load(p_buffer + offset, len);
@@ -29,7 +29,7 @@
 
 JNIEXPORT jobject JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_newPixmap(JNIEnv* env, jclass clazz, jlongArray nativeData, jint width, jint height, jint format) {
 
-//@line:285
+//@line:317
 
 		gdx2d_pixmap* pixmap = gdx2d_new(width, height, format);
 		if(pixmap==0)
@@ -50,7 +50,7 @@ JNIEXPORT jobject JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_newPixm
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_free(JNIEnv* env, jclass clazz, jlong pixmap) {
 
 
-//@line:301
+//@line:333
 
 		gdx2d_free((gdx2d_pixmap*)pixmap);
 	
@@ -60,7 +60,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_free(JNIEn
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_clear(JNIEnv* env, jclass clazz, jlong pixmap, jint color) {
 
 
-//@line:305
+//@line:337
 
 		gdx2d_clear((gdx2d_pixmap*)pixmap, color);
 	
@@ -70,7 +70,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_clear(JNIE
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_setPixel(JNIEnv* env, jclass clazz, jlong pixmap, jint x, jint y, jint color) {
 
 
-//@line:309
+//@line:341
 
 		gdx2d_set_pixel((gdx2d_pixmap*)pixmap, x, y, color);
 	
@@ -80,7 +80,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_setPixel(J
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_getPixel(JNIEnv* env, jclass clazz, jlong pixmap, jint x, jint y) {
 
 
-//@line:313
+//@line:345
 
 		return gdx2d_get_pixel((gdx2d_pixmap*)pixmap, x, y);
 	
@@ -90,7 +90,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_getPixel(J
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawLine(JNIEnv* env, jclass clazz, jlong pixmap, jint x, jint y, jint x2, jint y2, jint color) {
 
 
-//@line:317
+//@line:349
 
 		gdx2d_draw_line((gdx2d_pixmap*)pixmap, x, y, x2, y2, color);
 	
@@ -100,7 +100,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawLine(J
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawRect(JNIEnv* env, jclass clazz, jlong pixmap, jint x, jint y, jint width, jint height, jint color) {
 
 
-//@line:321
+//@line:353
 
 		gdx2d_draw_rect((gdx2d_pixmap*)pixmap, x, y, width, height, color);
 	
@@ -110,7 +110,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawRect(J
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawCircle(JNIEnv* env, jclass clazz, jlong pixmap, jint x, jint y, jint radius, jint color) {
 
 
-//@line:325
+//@line:357
 
 		gdx2d_draw_circle((gdx2d_pixmap*)pixmap, x, y, radius, color);	
 	
@@ -120,7 +120,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawCircle
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillRect(JNIEnv* env, jclass clazz, jlong pixmap, jint x, jint y, jint width, jint height, jint color) {
 
 
-//@line:329
+//@line:361
 
 		gdx2d_fill_rect((gdx2d_pixmap*)pixmap, x, y, width, height, color);
 	
@@ -130,7 +130,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillRect(J
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillCircle(JNIEnv* env, jclass clazz, jlong pixmap, jint x, jint y, jint radius, jint color) {
 
 
-//@line:333
+//@line:365
 
 		gdx2d_fill_circle((gdx2d_pixmap*)pixmap, x, y, radius, color);
 	
@@ -140,7 +140,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillCircle
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillTriangle(JNIEnv* env, jclass clazz, jlong pixmap, jint x1, jint y1, jint x2, jint y2, jint x3, jint y3, jint color) {
 
 
-//@line:337
+//@line:369
 
 		gdx2d_fill_triangle((gdx2d_pixmap*)pixmap, x1, y1, x2, y2, x3, y3, color);
 	
@@ -150,29 +150,77 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillTriang
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawPixmap(JNIEnv* env, jclass clazz, jlong src, jlong dst, jint srcX, jint srcY, jint srcWidth, jint srcHeight, jint dstX, jint dstY, jint dstWidth, jint dstHeight) {
 
 
-//@line:342
+//@line:374
 
 		gdx2d_draw_pixmap((gdx2d_pixmap*)src, (gdx2d_pixmap*)dst, srcX, srcY, srcWidth, srcHeight, dstX, dstY, dstWidth, dstHeight);
 	
 
 }
 
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_setBlend(JNIEnv* env, jclass clazz, jint blend) {
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillRectRows(JNIEnv* env, jclass clazz, jlong pixmap, jint rowStart, jint rowEnd, jint x, jint y, jint width, jint height, jint color) {
+
+
+//@line:379
+
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)pixmap, rowStart, rowEnd, &rows);
+		gdx2d_fill_rect(&rows, x, y - rowStart, width, height, color);
+	
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillCircleRows(JNIEnv* env, jclass clazz, jlong pixmap, jint rowStart, jint rowEnd, jint x, jint y, jint radius, jint color) {
+
+
+//@line:385
+
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)pixmap, rowStart, rowEnd, &rows);
+		gdx2d_fill_circle(&rows, x, y - rowStart, radius, color);
+	
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_fillTriangleRows(JNIEnv* env, jclass clazz, jlong pixmap, jint rowStart, jint rowEnd, jint x1, jint y1, jint x2, jint y2, jint x3, jint y3, jint color) {
+
+
+//@line:392
+
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)pixmap, rowStart, rowEnd, &rows);
+		gdx2d_fill_triangle(&rows, x1, y1 - rowStart, x2, y2 - rowStart, x3, y3 - rowStart, color);
+	
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_drawPixmapRows(JNIEnv* env, jclass clazz, jlong src, jlong dst, jint rowStart, jint rowEnd, jint srcX, jint srcY, jint srcWidth, jint srcHeight, jint dstX, jint dstY, jint dstWidth, jint dstHeight) {
+
+
+//@line:399
+
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)dst, rowStart, rowEnd, &rows);
+		gdx2d_draw_pixmap((gdx2d_pixmap*)src, &rows, srcX, srcY, srcWidth, srcHeight, dstX, dstY - rowStart, dstWidth, dstHeight);
+	
+
+}
+
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_setBlend(JNIEnv* env, jclass clazz, jlong src, jint blend) {
 
 
-//@line:346
+//@line:405
 
-		gdx2d_set_blend(blend);
+		gdx2d_set_blend((gdx2d_pixmap*)src, blend);
 	
 
 }
 
-JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_setScale(JNIEnv* env, jclass clazz, jint scale) {
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_setScale(JNIEnv* env, jclass clazz, jlong src, jint scale) {
 
 
-//@line:350
+//@line:409
 
-		gdx2d_set_scale(scale);
+		gdx2d_set_scale((gdx2d_pixmap*)src, scale);
 	
 
 }
@@ -180,7 +228,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_setScale(J
 JNIEXPORT jstring JNICALL Java_com_badlogic_gdx_graphics_g2d_Gdx2DPixmap_getFailureReason(JNIEnv* env, jclass clazz) {
 
 
-//@line:354
+//@line:413
 
      return env->NewStringUTF(gdx2d_get_failure_reason());
    
@@ -58,11 +58,15 @@ extern "C" {
  * simple pixmap struct holding the pixel data,
  * the dimensions and the format of the pixmap.
  * the format is one of the GDX2D_FORMAT_XXX constants.
+ * blend and scale are the GDX2D_BLEND_XXX and GDX2D_SCALE_XXX
+ * modes used when drawing to the pixmap.
  */
 typedef struct {
 	uint32_t width;
 	uint32_t height;
 	uint32_t format;
+	uint32_t blend;
+	uint32_t scale;
 	const unsigned char* pixels;
 } gdx2d_pixmap;
 
@@ -70,8 +74,16 @@ JNIEXPORT gdx2d_pixmap* gdx2d_load (const unsigned char *buffer, uint32_t len);
 JNIEXPORT gdx2d_pixmap* gdx2d_new  (uint32_t width, uint32_t height, uint32_t format);
 JNIEXPORT void 		 gdx2d_free (const gdx2d_pixmap* pixmap);
 
-JNIEXPORT void gdx2d_set_blend	  (uint32_t blend);
-JNIEXPORT void gdx2d_set_scale	  (uint32_t scale);
+JNIEXPORT void gdx2d_set_blend	  (gdx2d_pixmap* pixmap, uint32_t blend);
+JNIEXPORT void gdx2d_set_scale	  (gdx2d_pixmap* pixmap, uint32_t scale);
+
+/**
+ * fills rows with a pixmap aliasing the rows [start, end) of
+ * the given pixmap, sharing its pixels. y coordinates used to
+ * draw to rows are relative to start. drawing to rows of the
+ * same pixmap that do not overlap can happen concurrently.
+ */
+JNIEXPORT void gdx2d_rows		  (const gdx2d_pixmap* pixmap, uint32_t start, uint32_t end, gdx2d_pixmap* rows);
 
 JNIEXPORT const char*   gdx2d_get_failure_reason(void);
 JNIEXPORT void		gdx2d_clear	   	  (const gdx2d_pixmap* pixmap, uint32_t col);
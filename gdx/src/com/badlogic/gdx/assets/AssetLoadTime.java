@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.assets;
+
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+
+/** Timing information of a single asset loaded by an {@link AssetManager}, see {@link AssetManager#setTrackLoadTimes(boolean)}.
+ * All times are in nanoseconds. */
+public class AssetLoadTime {
+	public final String fileName;
+	public final Class type;
+	/** The time between the start of loading and the asset being available, including the time spent loading dependencies and
+	 * waiting for the loading threads and {@link AssetManager#update()} calls. */
+	public final long totalTime;
+	/** The time spent on a loading thread in {@link AsynchronousAssetLoader#getDependencies} and
+	 * {@link AsynchronousAssetLoader#loadAsync}. */
+	public final long asyncTime;
+	/** The time spent on the thread calling {@link AssetManager#update()}. */
+	public final long syncTime;
+
+	public AssetLoadTime (String fileName, Class type, long totalTime, long asyncTime, long syncTime) {
+		this.fileName = fileName;
+		this.type = type;
+		this.totalTime = totalTime;
+		this.asyncTime = asyncTime;
+		this.syncTime = syncTime;
+	}
+
+	@Override
+	public String toString () {
+		return fileName + ", " + ClassReflection.getSimpleName(type) + ", total: " + totalTime / 1000000f + "ms, async: " + asyncTime
+			/ 1000000f + "ms, sync: " + syncTime / 1000000f + "ms";
+	}
+}
@@ -22,7 +22,6 @@ import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
-import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.badlogic.gdx.utils.async.AsyncResult;
@@ -37,6 +36,8 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	final AssetLoader loader;
 	final AsyncExecutor executor;
 	final long startTime;
+	volatile long asyncTime;
+	long syncTime;
 
 	volatile boolean asyncDone = false;
 	volatile boolean dependenciesLoaded = false;
@@ -45,6 +46,10 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	volatile AsyncResult<Void> loadFuture = null;
 	volatile Object asset = null;
 
+	/** Dependencies that are currently being loaded by another loading lane and which have to finish before this task continues.
+	 * May be null. */
+	Array<String> awaitedDependencies;
+
 	int ticks = 0;
 	volatile boolean cancel = false;
 
@@ -53,12 +58,13 @@ class AssetLoadingTask implements AsyncTask<Void> {
 		this.assetDesc = assetDesc;
 		this.loader = loader;
 		this.executor = threadPool;
-		startTime = manager.log.getLevel() == Logger.DEBUG ? TimeUtils.nanoTime() : 0;
+		startTime = TimeUtils.nanoTime();
 	}
 
 	/** Loads parts of the asset asynchronously if the loader is an {@link AsynchronousAssetLoader}. */
 	@Override
 	public Void call () throws Exception {
+		long start = TimeUtils.nanoTime();
 		AsynchronousAssetLoader asyncLoader = (AsynchronousAssetLoader)loader;
 		if (dependenciesLoaded == false) {
 			dependencies = asyncLoader.getDependencies(assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
@@ -72,6 +78,7 @@ class AssetLoadingTask implements AsyncTask<Void> {
 		} else {
 			asyncLoader.loadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
 		}
+		asyncTime += TimeUtils.nanoTime() - start;
 		return null;
 	}
 
@@ -83,11 +90,13 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	 * @throws GdxRuntimeException */
 	public boolean update () {
 		ticks++;
+		long start = TimeUtils.nanoTime();
 		if (loader instanceof SynchronousAssetLoader) {
 			handleSyncLoader();
 		} else {
 			handleAsyncLoader();
 		}
+		syncTime += TimeUtils.nanoTime() - start;
 		return asset != null;
 	}
 
@@ -20,6 +20,7 @@ import java.util.Stack;
 
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.assets.loaders.AssetLoader;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
 import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
 import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.assets.loaders.I18NBundleLoader;
@@ -60,6 +61,14 @@ import com.badlogic.gdx.utils.async.ThreadUtils;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 
 /** Loads and stores assets like textures, bitmapfonts, tile maps, sounds, music and so on.
+ * <p>
+ * By default assets are loaded one after another. If the manager is created with more than one loading thread (see
+ * {@link #AssetManager(FileHandleResolver, int)}), up to that many assets of the load queue are processed at the same time, each
+ * in its own loading lane. The asynchronous parts of independent assets
+ * ({@link AsynchronousAssetLoader#loadAsync(AssetManager, String, com.badlogic.gdx.files.FileHandle, AssetLoaderParameters)})
+ * then run concurrently on the loading threads, dependencies are still loaded before the assets depending on them and the
+ * synchronous parts are still executed on the thread calling {@link #update()}. Since loaders keep the state of the asset they
+ * load in fields, each lane uses its own copy of the loaders, see {@link AssetLoader#newInstance()}.
  * @author mzechner */
 public class AssetManager implements Disposable {
 	final ObjectMap<Class, ObjectMap<String, RefCountedContainer>> assets = new ObjectMap();
@@ -71,7 +80,15 @@ public class AssetManager implements Disposable {
 	final Array<AssetDescriptor> loadQueue = new Array();
 	final AsyncExecutor executor;
 
-	final Stack<AssetLoadingTask> tasks = new Stack();
+	final Array<Lane> lanes = new Array();
+	final int maxLanes;
+	/** The loader copies used by the lanes with an index > 0, the lane with index 0 uses the loaders as they are set. */
+	final ObjectMap<AssetLoader, AssetLoader[]> laneLoaders = new ObjectMap();
+	Lane currentLane;
+
+	boolean trackLoadTimes = false;
+	final Array<AssetLoadTime> loadTimes = new Array();
+
 	AssetErrorListener listener = null;
 	int loaded = 0;
 	int toLoad = 0;
@@ -85,6 +102,15 @@ public class AssetManager implements Disposable {
 
 	/** Creates a new AssetManager with all default loaders. */
 	public AssetManager (FileHandleResolver resolver) {
+		this(resolver, 1);
+	}
+
+	/** Creates a new AssetManager with all default loaders.
+	 * @param loadingThreads the number of threads used for the asynchronous parts of the loaders, which is also the maximum
+	 *           number of assets loaded at the same time. Custom loaders must support {@link AssetLoader#newInstance()} if
+	 *           this is > 1. */
+	public AssetManager (FileHandleResolver resolver, int loadingThreads) {
+		if (loadingThreads < 1) throw new IllegalArgumentException("loadingThreads must be > 0: " + loadingThreads);
 		setLoader(BitmapFont.class, new BitmapFontLoader(resolver));
 		setLoader(Music.class, new MusicLoader(resolver));
 		setLoader(Pixmap.class, new PixmapLoader(resolver));
@@ -100,7 +126,8 @@ public class AssetManager implements Disposable {
 		setLoader(Model.class, ".g3dj", new G3dModelLoader(new JsonReader(), resolver));
 		setLoader(Model.class, ".g3db", new G3dModelLoader(new UBJsonReader(), resolver));
 		setLoader(Model.class, ".obj", new ObjLoader(resolver));
-		executor = new AsyncExecutor(1);
+		maxLanes = loadingThreads;
+		executor = new AsyncExecutor(loadingThreads);
 	}
 
 	/** @param fileName the asset file name
@@ -151,10 +178,10 @@ public class AssetManager implements Disposable {
 	/** Removes the asset and all its dependencies, if they are not used by other assets.
 	 * @param fileName the file name */
 	public synchronized void unload (String fileName) {
-		// check if it's currently processed (and the first element in the stack, thus not a dependency)
+		// check if it's currently processed (and the first element in a lane, thus not a dependency)
 		// and cancel if necessary
-		if (tasks.size() > 0) {
-			AssetLoadingTask currAsset = tasks.firstElement();
+		for (int i = 0; i < lanes.size; i++) {
+			AssetLoadingTask currAsset = lanes.get(i).firstElement();
 			if (currAsset.assetDesc.fileName.equals(fileName)) {
 				currAsset.cancel = true;
 				log.debug("Unload (from tasks): " + fileName);
@@ -313,12 +340,15 @@ public class AssetManager implements Disposable {
 		}
 
 		// check task list
-		for (int i = 0; i < tasks.size(); i++) {
-			AssetDescriptor desc = tasks.get(i).assetDesc;
-			if (desc.fileName.equals(fileName) && !desc.type.equals(type))
-				throw new GdxRuntimeException("Asset with name '" + fileName
-					+ "' already in task list, but has different type (expected: " + ClassReflection.getSimpleName(type) + ", found: "
-					+ ClassReflection.getSimpleName(desc.type) + ")");
+		for (int i = 0; i < lanes.size; i++) {
+			Lane tasks = lanes.get(i);
+			for (int ii = 0; ii < tasks.size(); ii++) {
+				AssetDescriptor desc = tasks.get(ii).assetDesc;
+				if (desc.fileName.equals(fileName) && !desc.type.equals(type))
+					throw new GdxRuntimeException("Asset with name '" + fileName
+						+ "' already in task list, but has different type (expected: " + ClassReflection.getSimpleName(type)
+						+ ", found: " + ClassReflection.getSimpleName(desc.type) + ")");
+			}
 		}
 
 		// check loaded assets
@@ -343,15 +373,22 @@ public class AssetManager implements Disposable {
 	 * @return true if all loading is finished. */
 	public synchronized boolean update () {
 		try {
-			if (tasks.size() == 0) {
-				// loop until we have a new task ready to be processed
-				while (loadQueue.size != 0 && tasks.size() == 0) {
-					nextTask();
-				}
-				// have we not found a task? We are done!
-				if (tasks.size() == 0) return true;
+			// loop until every lane has a task ready to be processed or the queue is empty
+			while (loadQueue.size != 0 && lanes.size < maxLanes) {
+				// an asset already being loaded by another lane is only reference counted once that lane finished it
+				if (findTask(loadQueue.first().fileName, null) != null) break;
+				nextTask();
+			}
+			// have we not found a task? We are done!
+			if (lanes.size == 0) return true;
+
+			for (int i = lanes.size - 1; i >= 0; i--) {
+				currentLane = lanes.get(i);
+				updateTask(currentLane);
+				if (currentLane.isEmpty()) lanes.removeIndex(i);
 			}
-			return updateTask() && loadQueue.size == 0 && tasks.size() == 0;
+			currentLane = null;
+			return loadQueue.size == 0 && lanes.size == 0;
 		} catch (Throwable t) {
 			handleTaskError(t);
 			return loadQueue.size == 0;
@@ -392,15 +429,20 @@ public class AssetManager implements Disposable {
 
 	synchronized void injectDependencies (String parentAssetFilename, Array<AssetDescriptor> dependendAssetDescs) {
 		ObjectSet<String> injected = this.injected;
+		Lane lane = findLane(parentAssetFilename);
+		AssetLoadingTask parent = lane.peek();
 		for (AssetDescriptor desc : dependendAssetDescs) {
 			if (injected.contains(desc.fileName)) continue; // Ignore subsequent dependencies if there are duplicates.
 			injected.add(desc.fileName);
-			injectDependency(parentAssetFilename, desc);
+			injectDependency(lane, parent, desc);
 		}
 		injected.clear();
 	}
 
-	private synchronized void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
+	private synchronized void injectDependency (Lane lane, AssetLoadingTask parent,
+		AssetDescriptor dependendAssetDesc) {
+		String parentAssetFilename = parent.assetDesc.fileName;
+
 		// add the asset as a dependency of the parent asset
 		Array<String> dependencies = assetDependencies.get(parentAssetFilename);
 		if (dependencies == null) {
@@ -417,15 +459,44 @@ public class AssetManager implements Disposable {
 			assetRef.incRefCount();
 			incrementRefCountedDependencies(dependendAssetDesc.fileName);
 		}
+		// if another lane is loading the asset, wait for it and increase its reference count afterwards.
+		else if (findTask(dependendAssetDesc.fileName, lane) != null) {
+			log.debug("Dependency loading in other lane: " + dependendAssetDesc);
+			if (parent.awaitedDependencies == null) parent.awaitedDependencies = new Array();
+			parent.awaitedDependencies.add(dependendAssetDesc.fileName);
+		}
 		// else add a new task for the asset.
 		else {
 			log.info("Loading dependency: " + dependendAssetDesc);
-			addTask(dependendAssetDesc);
+			addTask(lane, dependendAssetDesc);
 		}
 	}
 
-	/** Removes a task from the loadQueue and adds it to the task stack. If the asset is already loaded (which can happen if it was
-	 * a dependency of a previously loaded asset) its reference count will be increased. */
+	/** @return the lane whose current task loads the specified asset. */
+	private Lane findLane (String fileName) {
+		for (int i = 0; i < lanes.size; i++) {
+			Lane lane = lanes.get(i);
+			if (lane.peek().assetDesc.fileName.equals(fileName)) return lane;
+		}
+		throw new GdxRuntimeException("No loading task for asset: " + fileName);
+	}
+
+	/** @param ignoreLane a lane to exclude from the search, may be null.
+	 * @return the task loading the specified asset in any lane, or null. */
+	private AssetLoadingTask findTask (String fileName, Lane ignoreLane) {
+		for (int i = 0; i < lanes.size; i++) {
+			Lane lane = lanes.get(i);
+			if (lane == ignoreLane) continue;
+			for (int ii = 0; ii < lane.size(); ii++) {
+				AssetLoadingTask task = lane.get(ii);
+				if (task.assetDesc.fileName.equals(fileName)) return task;
+			}
+		}
+		return null;
+	}
+
+	/** Removes a task from the loadQueue and adds it to a new lane. If the asset is already loaded (which can happen if it was a
+	 * dependency of a previously loaded asset) its reference count will be increased. */
 	private void nextTask () {
 		AssetDescriptor assetDesc = loadQueue.removeIndex(0);
 
@@ -443,16 +514,34 @@ public class AssetManager implements Disposable {
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading: " + assetDesc);
-			addTask(assetDesc);
+			Lane lane = new Lane(freeLaneIndex());
+			addTask(lane, assetDesc);
+			lanes.add(lane);
 		}
 	}
 
-	/** Adds a {@link AssetLoadingTask} to the task stack for the given asset.
+	/** Adds a {@link AssetLoadingTask} to the task stack of the lane for the given asset.
 	 * @param assetDesc */
-	private void addTask (AssetDescriptor assetDesc) {
+	private void addTask (Lane lane, AssetDescriptor assetDesc) {
 		AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(assetDesc.type));
-		tasks.push(new AssetLoadingTask(this, assetDesc, loader, executor));
+		if (lane.index > 0) {
+			AssetLoader[] copies = laneLoaders.get(loader);
+			if (copies == null) laneLoaders.put(loader, copies = new AssetLoader[maxLanes]);
+			if (copies[lane.index] == null) copies[lane.index] = loader.newInstance();
+			loader = copies[lane.index];
+		}
+		lane.push(new AssetLoadingTask(this, assetDesc, loader, executor));
+	}
+
+	/** @return the lowest lane index not used by any lane. */
+	private int freeLaneIndex () {
+		outer:
+		for (int index = 0;; index++) {
+			for (int i = 0; i < lanes.size; i++)
+				if (lanes.get(i).index == index) continue outer;
+			return index;
+		}
 	}
 
 	/** Adds an asset to this AssetManager */
@@ -469,15 +558,16 @@ public class AssetManager implements Disposable {
 		typeToAssets.put(fileName, new RefCountedContainer(asset));
 	}
 
-	/** Updates the current task on the top of the task stack.
+	/** Updates the current task on the top of the task stack of the lane.
 	 * @return true if the asset is loaded or the task was cancelled. */
-	private boolean updateTask () {
-		AssetLoadingTask task = tasks.peek();
+	private boolean updateTask (Lane lane) {
+		AssetLoadingTask task = lane.peek();
+		if (!task.cancel && !awaitDependencies(lane, task)) return false;
 		// if the task has been cancelled or has finished loading
 		if (task.cancel || task.update()) {
 			// increase the number of loaded assets and pop the task from the stack
-			if (tasks.size() == 1) loaded++;
-			tasks.pop();
+			if (lane.size() == 1) loaded++;
+			lane.pop();
 
 			if (task.cancel) return true;
 
@@ -489,13 +579,47 @@ public class AssetManager implements Disposable {
 			}
 
 			long endTime = TimeUtils.nanoTime();
-			log.debug("Loaded: " + (endTime - task.startTime) / 1000000f + "ms " + task.assetDesc);
+			if (trackLoadTimes) {
+				loadTimes.add(new AssetLoadTime(task.assetDesc.fileName, task.assetDesc.type, endTime - task.startTime,
+					task.asyncTime, task.syncTime));
+			}
+			log.debug("Loaded: " + (endTime - task.startTime) / 1000000f + "ms (async: " + task.asyncTime / 1000000f
+				+ "ms, sync: " + task.syncTime / 1000000f + "ms) " + task.assetDesc);
 
 			return true;
 		}
 		return false;
 	}
 
+	/** Checks the dependencies of the task that are loaded by other lanes. Once such a dependency is loaded its reference count
+	 * is increased. If it is neither loaded nor being loaded anymore, it is loaded by the lane of the task.
+	 * @return true if the task has no more dependencies to wait for. */
+	private boolean awaitDependencies (Lane lane, AssetLoadingTask task) {
+		Array<String> awaited = task.awaitedDependencies;
+		if (awaited == null) return true;
+		for (int i = awaited.size - 1; i >= 0; i--) {
+			String fileName = awaited.get(i);
+			if (isLoaded(fileName)) {
+				Class type = assetTypes.get(fileName);
+				assets.get(type).get(fileName).incRefCount();
+				incrementRefCountedDependencies(fileName);
+				awaited.removeIndex(i);
+			} else if (findTask(fileName, lane) == null) {
+				// the other lane failed or was cancelled, load the dependency in this lane.
+				awaited.removeIndex(i);
+				for (AssetDescriptor desc : task.dependencies) {
+					if (desc.fileName.equals(fileName)) {
+						addTask(lane, desc);
+						break;
+					}
+				}
+			}
+		}
+		if (awaited.size > 0 || lane.peek() != task) return false;
+		task.awaitedDependencies = null;
+		return true;
+	}
+
 	private void incrementRefCountedDependencies (String parent) {
 		Array<String> dependencies = assetDependencies.get(parent);
 		if (dependencies == null) return;
@@ -513,7 +637,9 @@ public class AssetManager implements Disposable {
 	private void handleTaskError (Throwable t) {
 		log.error("Error loading asset.", t);
 
-		if (tasks.isEmpty()) throw new GdxRuntimeException(t);
+		Lane tasks = currentLane;
+		currentLane = null;
+		if (tasks == null || tasks.isEmpty()) throw new GdxRuntimeException(t);
 
 		// pop the faulty task from the stack
 		AssetLoadingTask task = tasks.pop();
@@ -528,6 +654,7 @@ public class AssetManager implements Disposable {
 
 		// clear the rest of the stack
 		tasks.clear();
+		lanes.removeValue(tasks, true);
 
 		// inform the listener that something bad happened
 		if (listener != null) {
@@ -555,7 +682,8 @@ public class AssetManager implements Disposable {
 		log.debug("Loader set: " + ClassReflection.getSimpleName(type) + " -> " + ClassReflection.getSimpleName(loader.getClass()));
 		ObjectMap<String, AssetLoader> loaders = this.loaders.get(type);
 		if (loaders == null) this.loaders.put(type, loaders = new ObjectMap<String, AssetLoader>());
-		loaders.put(suffix == null ? "" : suffix, loader);
+		AssetLoader old = loaders.put(suffix == null ? "" : suffix, loader);
+		if (old != null) laneLoaders.remove(old);
 	}
 
 	/** @return the number of loaded assets */
@@ -565,7 +693,10 @@ public class AssetManager implements Disposable {
 
 	/** @return the number of currently queued assets */
 	public synchronized int getQueuedAssets () {
-		return loadQueue.size + tasks.size();
+		int queued = loadQueue.size;
+		for (int i = 0; i < lanes.size; i++)
+			queued += lanes.get(i).size();
+		return queued;
 	}
 
 	/** @return the progress in percent of completion. */
@@ -627,7 +758,20 @@ public class AssetManager implements Disposable {
 		this.loaded = 0;
 		this.toLoad = 0;
 		this.loadQueue.clear();
-		this.tasks.clear();
+		this.lanes.clear();
+		this.loadTimes.clear();
+	}
+
+	/** Sets whether an {@link AssetLoadTime} is recorded for every asset loaded from now on. Default is false.
+	 * @see #getLoadTimes() */
+	public synchronized void setTrackLoadTimes (boolean trackLoadTimes) {
+		this.trackLoadTimes = trackLoadTimes;
+	}
+
+	/** @return the load times of the assets loaded while {@link #setTrackLoadTimes(boolean)} was enabled, in the order in which
+	 *         loading finished. Cleared by {@link #clear()}. */
+	public synchronized Array<AssetLoadTime> getLoadTimes () {
+		return loadTimes;
 	}
 
 	/** @return the {@link Logger} used by the {@link AssetManager} */
@@ -699,4 +843,13 @@ public class AssetManager implements Disposable {
 		return assetTypes.get(fileName);
 	}
 
+	/** A stack of tasks, the root asset at the bottom and the dependency currently being loaded on top. */
+	static class Lane extends Stack<AssetLoadingTask> {
+		/** Selects the loader copies used by the lane, unique among the active lanes. */
+		final int index;
+
+		Lane (int index) {
+			this.index = index;
+		}
+	}
 }
@@ -20,6 +20,9 @@ import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
 
 /** Abstract base class for asset loaders.
  * @author mzechner
@@ -42,6 +45,22 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
 		return resolver.resolve(fileName);
 	}
 
+	/** @return the {@link FileHandleResolver} set on the loader */
+	public FileHandleResolver getResolver () {
+		return resolver;
+	}
+
+	/** Returns a new loader with the same configuration, used by the {@link com.badlogic.gdx.assets.AssetManager} to load
+	 * assets on several loading threads at once, as loaders keep the state of the asset being loaded. The default implementation
+	 * calls the public constructor taking a {@link FileHandleResolver}, loaders without one must override this method. */
+	public AssetLoader<T, P> newInstance () {
+		try {
+			return (AssetLoader)ClassReflection.getConstructor(getClass(), FileHandleResolver.class).newInstance(resolver);
+		} catch (ReflectionException ex) {
+			throw new GdxRuntimeException("Loader can't be copied, override newInstance(): " + getClass().getName(), ex);
+		}
+	}
+
 	/** Returns the assets this asset requires to be loaded first. This method may be called on a thread other than the GL thread.
 	 * @param fileName name of the asset to load
 	 * @param file the resolved file to load
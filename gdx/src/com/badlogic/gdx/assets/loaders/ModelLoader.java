@@ -51,7 +51,10 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 	/** Directly load the model on the calling thread. The model with not be managed by an {@link AssetManager}. */
 	public Model loadModel (final FileHandle fileHandle, TextureProvider textureProvider, P parameters) {
 		final ModelData data = loadModelData(fileHandle, parameters);
-		return data == null ? null : new Model(data, textureProvider);
+		if (data == null) return null;
+		final Model result = new Model(data, textureProvider);
+		compressAnimations(result, parameters);
+		return result;
 	}
 
 	/** Directly load the model on the calling thread. The model with not be managed by an {@link AssetManager}. */
@@ -112,6 +115,7 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 		}
 		if (data == null) return null;
 		final Model result = new Model(data, new TextureProvider.AssetTextureProvider(manager));
+		compressAnimations(result, parameters);
 		// need to remove the textures from the managed disposables, or else ref counting
 		// doesn't work!
 		Iterator<Disposable> disposables = result.getManagedDisposables().iterator();
@@ -125,8 +129,17 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 		return result;
 	}
 
+	private void compressAnimations (Model model, P parameters) {
+		if (parameters == null || parameters.animationTolerance < 0) return;
+		for (int i = 0, n = model.animations.size; i < n; i++)
+			model.animations.get(i).compress(parameters.animationTolerance);
+	}
+
 	static public class ModelParameters extends AssetLoaderParameters<Model> {
 		public TextureLoader.TextureParameter textureParameter;
+		/** When 0 or more, the keyframes of the animations are packed and reduced with this tolerance, see
+		 * {@link com.badlogic.gdx.graphics.g3d.model.NodeAnimation#compress(float)}. Default is -1, no compression. */
+		public float animationTolerance = -1f;
 
 		public ModelParameters() {
 			textureParameter = new TextureLoader.TextureParameter();
@@ -74,6 +74,9 @@ public class Mesh implements Disposable {
 
 	final VertexData vertices;
 	final IndexData indices;
+	VertexData instances;
+	private boolean ownsInstances;
+	private VertexData boundInstances;
 	boolean autoBind = true;
 	final boolean isVertexArray;
 
@@ -353,6 +356,97 @@ public class Mesh implements Disposable {
 		return vertices.getAttributes().vertexSize;
 	}
 
+	/** Attaches a buffer of per instance attributes to this Mesh, which advance once per instance instead of once per vertex. While
+	 * the buffer is attached the render methods draw {@link #getNumInstances()} instances of the mesh in a single draw call. Replaces
+	 * the current instance buffer, if any. Requires OpenGL ES 3.0 and a Mesh backed by vertex buffer objects.
+	 * 
+	 * @param isStatic whether the instance data is static or updated frequently
+	 * @param maxInstances the maximum number of instances the buffer can hold
+	 * @param attributes the per instance {@link VertexAttribute}s, e.g. the columns of a transform
+	 * @return the mesh for invocation chaining. */
+	public Mesh enableInstancedRendering (boolean isStatic, int maxInstances, VertexAttribute... attributes) {
+		if (Gdx.gl30 == null) throw new GdxRuntimeException("Instanced rendering requires OpenGL ES 3.0");
+		if (isVertexArray) throw new GdxRuntimeException("Instanced rendering requires vertex buffer objects");
+		if (ownsInstances) instances.dispose();
+		instances = new VertexBufferObject(isStatic, maxInstances, attributes);
+		ownsInstances = true;
+		return this;
+	}
+
+	/** Uses the vertices of another Mesh as the per instance attributes of this Mesh, see
+	 * {@link #enableInstancedRendering(boolean, int, VertexAttribute...)}. The other mesh is not disposed by this Mesh and its
+	 * vertices can be shared by several meshes, as long as only one of them is bound at a time. Replaces the current instance
+	 * buffer, if any. Can be called while this Mesh is bound, the buffer that was bound is unbound by
+	 * {@link #unbind(ShaderProgram)}.
+	 * 
+	 * @param instances the mesh holding one vertex per instance, must be backed by a {@link VertexBufferObject}, or null to render
+	 *           this Mesh normally again
+	 * @return the mesh for invocation chaining. */
+	public Mesh setInstances (Mesh instances) {
+		if (instances != null) {
+			if (Gdx.gl30 == null) throw new GdxRuntimeException("Instanced rendering requires OpenGL ES 3.0");
+			if (isVertexArray || !(instances.vertices instanceof VertexBufferObject))
+				throw new GdxRuntimeException("Instanced rendering requires vertex buffer objects");
+		}
+		if (ownsInstances) this.instances.dispose();
+		this.instances = instances != null ? instances.vertices : null;
+		ownsInstances = false;
+		return this;
+	}
+
+	/** Removes the instance buffer attached by {@link #enableInstancedRendering(boolean, int, VertexAttribute...)} or
+	 * {@link #setInstances(Mesh)}, after which the mesh is rendered normally again. The buffer is disposed if it was created by
+	 * enableInstancedRendering.
+	 * @return the mesh for invocation chaining. */
+	public Mesh disableInstancedRendering () {
+		return setInstances(null);
+	}
+
+	/** @return whether this Mesh can be rendered instanced, which requires it to be backed by vertex buffer objects. */
+	public boolean canInstance () {
+		return !isVertexArray;
+	}
+
+	/** @return whether an instance buffer is attached to this Mesh */
+	public boolean isInstanced () {
+		return instances != null;
+	}
+
+	/** Sets the per instance data, the attributes are assumed to be given in float format.
+	 * 
+	 * @param data the instance data.
+	 * @param offset the offset into the data array
+	 * @param count the number of floats to use
+	 * @return the mesh for invocation chaining. */
+	public Mesh setInstanceData (float[] data, int offset, int count) {
+		instances.setVertices(data, offset, count);
+		return this;
+	}
+
+	/** Sets the per instance data, the attributes are assumed to be given in float format.
+	 * 
+	 * @param data the instance data.
+	 * @return the mesh for invocation chaining. */
+	public Mesh setInstanceData (float[] data) {
+		instances.setVertices(data, 0, data.length);
+		return this;
+	}
+
+	/** @return the number of instances drawn by the render methods, 0 if no instance buffer is attached */
+	public int getNumInstances () {
+		return instances != null ? instances.getNumVertices() : 0;
+	}
+
+	/** @return the maximum number of instances the instance buffer can hold, 0 if no instance buffer is attached */
+	public int getMaxInstances () {
+		return instances != null ? instances.getNumMaxVertices() : 0;
+	}
+
+	/** @return the per instance {@link VertexAttributes}, null if no instance buffer is attached */
+	public VertexAttributes getInstanceAttributes () {
+		return instances != null ? instances.getAttributes() : null;
+	}
+
 	/** Sets whether to bind the underlying {@link VertexArray} or {@link VertexBufferObject} automatically on a call to one of the
 	 * render methods. Usually you want to use autobind. Manual binding is an expert functionality. There is a driver bug on the
 	 * MSM720xa chips that will fuck up memory if you manipulate the vertices and indices of a Mesh multiple times while it is
@@ -378,6 +472,11 @@ public class Mesh implements Disposable {
 	 * @param locations array containing the attribute locations. */
 	public void bind (final ShaderProgram shader, final int[] locations) {
 		vertices.bind(shader, locations);
+		if (instances != null) {
+			instances.bind(shader);
+			setInstanceDivisors(shader, instances, 1);
+			boundInstances = instances;
+		}
 		if (indices.getNumIndices() > 0) indices.bind();
 	}
 
@@ -395,10 +494,23 @@ public class Mesh implements Disposable {
 	 * @param shader the shader (does not unbind the shader)
 	 * @param locations array containing the attribute locations. */
 	public void unbind (final ShaderProgram shader, final int[] locations) {
+		if (boundInstances != null) {
+			setInstanceDivisors(shader, boundInstances, 0);
+			boundInstances.unbind(shader);
+			boundInstances = null;
+		}
 		vertices.unbind(shader, locations);
 		if (indices.getNumIndices() > 0) indices.unbind();
 	}
 
+	private void setInstanceDivisors (final ShaderProgram shader, final VertexData instances, final int divisor) {
+		final VertexAttributes attributes = instances.getAttributes();
+		for (int i = 0, n = attributes.size(); i < n; i++) {
+			final int location = shader.getAttributeLocation(attributes.get(i).alias);
+			if (location >= 0) Gdx.gl30.glVertexAttribDivisor(location, divisor);
+		}
+	}
+
 	/** <p>
 	 * Renders the mesh using the given primitive type. If indices are set for this mesh then getNumIndices() / #vertices per
 	 * primitive primitives are rendered. If no indices are set then getNumVertices() / #vertices per primitive are rendered.
@@ -475,6 +587,10 @@ public class Mesh implements Disposable {
 	 * @param autoBind overrides the autoBind member of this Mesh */
 	public void render (ShaderProgram shader, int primitiveType, int offset, int count, boolean autoBind) {
 		if (count == 0) return;
+		if (instances != null) {
+			renderInstanced(shader, primitiveType, offset, count, autoBind);
+			return;
+		}
 
 		if (autoBind) bind(shader);
 
@@ -501,10 +617,25 @@ public class Mesh implements Disposable {
 		if (autoBind) unbind(shader);
 	}
 
+	private void renderInstanced (ShaderProgram shader, int primitiveType, int offset, int count, boolean autoBind) {
+		final int numInstances = instances.getNumVertices();
+		if (numInstances == 0) return;
+
+		if (autoBind) bind(shader);
+
+		if (indices.getNumIndices() > 0)
+			Gdx.gl30.glDrawElementsInstanced(primitiveType, count, GL20.GL_UNSIGNED_SHORT, offset * 2, numInstances);
+		else
+			Gdx.gl30.glDrawArraysInstanced(primitiveType, offset, count, numInstances);
+
+		if (autoBind) unbind(shader);
+	}
+
 	/** Frees all resources associated with this Mesh */
 	public void dispose () {
 		if (meshes.get(Gdx.app) != null) meshes.get(Gdx.app).removeValue(this, true);
 		vertices.dispose();
+		if (ownsInstances) instances.dispose();
 		indices.dispose();
 	}
 
@@ -783,6 +914,7 @@ public class Mesh implements Disposable {
 		if (meshesArray == null) return;
 		for (int i = 0; i < meshesArray.size; i++) {
 			meshesArray.get(i).vertices.invalidate();
+			if (meshesArray.get(i).ownsInstances) meshesArray.get(i).instances.invalidate();
 			meshesArray.get(i).indices.invalidate();
 		}
 	}
@@ -33,7 +33,8 @@ import java.nio.ByteBuffer;
  * <p>
  * By default all methods use blending. You can disable blending with {@link Pixmap#setBlending(Blending)}. The
  * {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)} method will scale and stretch the source image to a
- * target image. There either nearest neighbour or bilinear filtering can be used.
+ * target image. There either nearest neighbour or bilinear filtering can be used. Blending and filtering are set per Pixmap and
+ * apply when it is drawn to, so different Pixmaps can be drawn to from different threads.
  * </p>
  * 
  * <p>
@@ -84,26 +85,29 @@ public class Pixmap implements Disposable {
 		NearestNeighbour, BiLinear
 	}
 
-	/** global blending state **/
-	private static Blending blending = Blending.SourceOver;
+	private Blending blending = Blending.SourceOver;
+	private Filter filter = Filter.BiLinear;
 
 	final Gdx2DPixmap pixmap;
 	int color = 0;
 
 	private boolean disposed;
 
-	/** Sets the type of {@link Blending} to be used for all operations. Default is {@link Blending#SourceOver}.
+	/** Sets the type of {@link Blending} to be used for all operations drawing to this Pixmap. Default is
+	 * {@link Blending#SourceOver}.
 	 * @param blending the blending type */
-	public static void setBlending (Blending blending) {
-		Pixmap.blending = blending;
-		Gdx2DPixmap.setBlend(blending == Blending.None ? 0 : 1);
+	public void setBlending (Blending blending) {
+		this.blending = blending;
+		pixmap.setBlend(blending == Blending.None ? Gdx2DPixmap.GDX2D_BLEND_NONE : Gdx2DPixmap.GDX2D_BLEND_SRC_OVER);
 	}
 
 	/** Sets the type of interpolation {@link Filter} to be used in conjunction with
-	 * {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)}.
+	 * {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)} when drawing to this Pixmap. Default is
+	 * {@link Filter#BiLinear}.
 	 * @param filter the filter. */
-	public static void setFilter (Filter filter) {
-		Gdx2DPixmap.setScale(filter == Filter.NearestNeighbour ? Gdx2DPixmap.GDX2D_SCALE_NEAREST : Gdx2DPixmap.GDX2D_SCALE_LINEAR);
+	public void setFilter (Filter filter) {
+		this.filter = filter;
+		pixmap.setScale(filter == Filter.NearestNeighbour ? Gdx2DPixmap.GDX2D_SCALE_NEAREST : Gdx2DPixmap.GDX2D_SCALE_LINEAR);
 	}
 
 	/** Creates a new Pixmap instance with the given width, height and format.
@@ -363,7 +367,12 @@ public class Pixmap implements Disposable {
 	}
 
 	/** @return the currently set {@link Blending} */
-	public static Blending getBlending () {
+	public Blending getBlending () {
 		return blending;
 	}
+
+	/** @return the currently set {@link Filter} */
+	public Filter getFilter () {
+		return filter;
+	}
 }
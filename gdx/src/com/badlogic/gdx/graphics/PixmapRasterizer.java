@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.g2d.Gdx2DPixmap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Draws to a {@link Pixmap} on multiple threads. The target is split into bands of rows, and every band runs on the executor
+ * and executes all operations, clipped to its rows. The result is identical to calling the same methods on the target one by
+ * one.
+ * <p>
+ * Operations are recorded between {@link #begin(Pixmap)} and {@link #end()}. The blending and filter of the target are used,
+ * and the color is set with {@link #setColor(Color)}. {@link #end()} blocks until all bands are done, source pixmaps must not
+ * be modified or disposed before that. The rasterizer itself must only be used by one thread. */
+public class PixmapRasterizer implements Disposable {
+	static private final int FILL_RECTANGLE = 0, FILL_CIRCLE = 1, FILL_TRIANGLE = 2, DRAW_PIXMAP = 3;
+	static private final int RASTERIZE = 0, PREMULTIPLY = 1;
+
+	private final AsyncExecutor executor;
+	private final boolean ownsExecutor;
+	private final int maxBands;
+	private final Array<Band> bands = new Array();
+	private final Array<AsyncResult<Void>> results = new Array();
+	private int minBandHeight = 32;
+
+	private Pixmap target;
+	private int color;
+	/** Recorded operations: type, first row, last row + 1 and the arguments. */
+	private final IntArray commands = new IntArray();
+	private final Array<Pixmap> sources = new Array();
+
+	/** Creates a rasterizer with its own executor of threads - 1 threads, disposed with the rasterizer. No executor is created
+	 * for a single thread.
+	 * @param threads the number of threads, including the calling thread, and of bands the target is split into. */
+	public PixmapRasterizer (int threads) {
+		this(threads > 1 ? new AsyncExecutor(threads - 1) : null, threads, true);
+	}
+
+	/** @param executor runs the bands, the calling thread works on one band as well. Not disposed with the rasterizer.
+	 * @param maxBands the maximum number of bands the target is split into, usually the number of executor threads + 1. */
+	public PixmapRasterizer (AsyncExecutor executor, int maxBands) {
+		this(executor, maxBands, false);
+	}
+
+	private PixmapRasterizer (AsyncExecutor executor, int maxBands, boolean ownsExecutor) {
+		if (maxBands < 1) throw new IllegalArgumentException("maxBands must be > 0: " + maxBands);
+		this.executor = executor;
+		this.maxBands = maxBands;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	/** Sets the minimum number of rows per band, below which fewer bands are used. Default is 32. */
+	public void setMinBandHeight (int minBandHeight) {
+		this.minBandHeight = Math.max(1, minBandHeight);
+	}
+
+	/** Starts recording operations drawing to the given pixmap. */
+	public void begin (Pixmap target) {
+		if (this.target != null) throw new IllegalStateException("end must be called before begin.");
+		this.target = target;
+		color = target.color;
+	}
+
+	/** Executes all operations recorded since {@link #begin(Pixmap)} and waits for them to complete. */
+	public void end () {
+		if (target == null) throw new IllegalStateException("begin must be called before end.");
+		try {
+			if (commands.size > 0) run(target, RASTERIZE);
+		} finally {
+			commands.clear();
+			sources.clear();
+			target = null;
+		}
+	}
+
+	/** Sets the color for the following operations, encoded as RGBA8888. */
+	public void setColor (int color) {
+		this.color = color;
+	}
+
+	public void setColor (float r, float g, float b, float a) {
+		color = Color.rgba8888(r, g, b, a);
+	}
+
+	public void setColor (Color color) {
+		this.color = Color.rgba8888(color);
+	}
+
+	/** @see Pixmap#fillRectangle(int, int, int, int) */
+	public void fillRectangle (int x, int y, int width, int height) {
+		add(FILL_RECTANGLE, y, y + height);
+		commands.add(x);
+		commands.add(y);
+		commands.add(width);
+		commands.add(height);
+	}
+
+	/** @see Pixmap#fillCircle(int, int, int) */
+	public void fillCircle (int x, int y, int radius) {
+		add(FILL_CIRCLE, y - radius, y + radius + 1);
+		commands.add(x);
+		commands.add(y);
+		commands.add(radius);
+	}
+
+	/** @see Pixmap#fillTriangle(int, int, int, int, int, int) */
+	public void fillTriangle (int x1, int y1, int x2, int y2, int x3, int y3) {
+		add(FILL_TRIANGLE, Math.min(y1, Math.min(y2, y3)), Math.max(y1, Math.max(y2, y3)) + 1);
+		commands.add(x1);
+		commands.add(y1);
+		commands.add(x2);
+		commands.add(y2);
+		commands.add(x3);
+		commands.add(y3);
+	}
+
+	/** @see Pixmap#drawPixmap(Pixmap, int, int) */
+	public void drawPixmap (Pixmap pixmap, int x, int y) {
+		drawPixmap(pixmap, 0, 0, pixmap.getWidth(), pixmap.getHeight(), x, y, pixmap.getWidth(), pixmap.getHeight());
+	}
+
+	/** @see Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int) */
+	public void drawPixmap (Pixmap pixmap, int x, int y, int srcx, int srcy, int srcWidth, int srcHeight) {
+		drawPixmap(pixmap, srcx, srcy, srcWidth, srcHeight, x, y, srcWidth, srcHeight);
+	}
+
+	/** @see Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int) */
+	public void drawPixmap (Pixmap pixmap, int srcx, int srcy, int srcWidth, int srcHeight, int dstx, int dsty, int dstWidth,
+		int dstHeight) {
+		add(DRAW_PIXMAP, dsty, dsty + dstHeight);
+		commands.add(sources.size);
+		commands.add(srcx);
+		commands.add(srcy);
+		commands.add(srcWidth);
+		commands.add(srcHeight);
+		commands.add(dstx);
+		commands.add(dsty);
+		commands.add(dstWidth);
+		commands.add(dstHeight);
+		sources.add(pixmap);
+	}
+
+	private void add (int type, int rowStart, int rowEnd) {
+		if (target == null) throw new IllegalStateException("begin must be called first.");
+		commands.add(type);
+		commands.add(rowStart);
+		commands.add(rowEnd);
+		commands.add(color);
+	}
+
+	/** Returns a new pixmap with the contents of the given pixmap converted to the given format. */
+	public Pixmap convert (Pixmap pixmap, Format format) {
+		Pixmap result = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), format);
+		result.setBlending(Blending.None);
+		begin(result);
+		drawPixmap(pixmap, 0, 0);
+		end();
+		result.setBlending(Blending.SourceOver);
+		return result;
+	}
+
+	/** Multiplies the color components of all pixels with their alpha. Formats without alpha are left untouched. */
+	public void premultiplyAlpha (Pixmap pixmap) {
+		Format format = pixmap.getFormat();
+		if (format != Format.RGBA8888 && format != Format.RGBA4444 && format != Format.LuminanceAlpha) return;
+		run(pixmap, PREMULTIPLY);
+	}
+
+	private void run (Pixmap pixmap, int mode) {
+		int height = pixmap.getHeight();
+		int bandCount = Math.max(1, Math.min(maxBands, height / minBandHeight));
+		int bandHeight = (height + bandCount - 1) / bandCount;
+		bandCount = Math.max(1, (height + bandHeight - 1) / bandHeight);
+		while (bands.size < bandCount)
+			bands.add(new Band());
+		try {
+			for (int i = 0; i < bandCount; i++) {
+				Band band = bands.get(i);
+				band.pixmap = pixmap;
+				band.mode = mode;
+				band.rowStart = i * bandHeight;
+				band.rowEnd = Math.min(height, band.rowStart + bandHeight);
+				if (i < bandCount - 1) results.add(executor.submit(band));
+			}
+			bands.get(bandCount - 1).call();
+		} finally {
+			for (int i = 0, n = results.size; i < n; i++)
+				results.get(i).get();
+			results.clear();
+			for (int i = 0; i < bandCount; i++)
+				bands.get(i).pixmap = null;
+		}
+	}
+
+	void draw (Pixmap pixmap, int rowStart, int rowEnd) {
+		Gdx2DPixmap dst = pixmap.pixmap;
+		int[] commands = this.commands.items;
+		for (int i = 0, n = this.commands.size; i < n;) {
+			int type = commands[i];
+			int start = Math.max(rowStart, commands[i + 1]), end = Math.min(rowEnd, commands[i + 2]);
+			int color = commands[i + 3];
+			i += 4;
+			switch (type) {
+			case FILL_RECTANGLE:
+				if (start < end) dst.fillRectRows(start, end, commands[i], commands[i + 1], commands[i + 2], commands[i + 3], color);
+				i += 4;
+				break;
+			case FILL_CIRCLE:
+				if (start < end) dst.fillCircleRows(start, end, commands[i], commands[i + 1], commands[i + 2], color);
+				i += 3;
+				break;
+			case FILL_TRIANGLE:
+				if (start < end)
+					dst.fillTriangleRows(start, end, commands[i], commands[i + 1], commands[i + 2], commands[i + 3], commands[i + 4],
+						commands[i + 5], color);
+				i += 6;
+				break;
+			case DRAW_PIXMAP:
+				if (start < end)
+					dst.drawPixmapRows(start, end, sources.get(commands[i]).pixmap, commands[i + 1], commands[i + 2], commands[i + 3],
+						commands[i + 4], commands[i + 5], commands[i + 6], commands[i + 7], commands[i + 8]);
+				i += 9;
+				break;
+			}
+		}
+	}
+
+	static void premultiplyAlpha (Pixmap pixmap, int rowStart, int rowEnd) {
+		ByteBuffer pixels = pixmap.getPixels().duplicate();
+		pixels.order(ByteOrder.nativeOrder());
+		int width = pixmap.getWidth();
+		switch (pixmap.getFormat()) {
+		case RGBA8888:
+			for (int i = rowStart * width * 4, n = rowEnd * width * 4; i < n; i += 4) {
+				int a = pixels.get(i + 3) & 0xff;
+				if (a == 255) continue;
+				pixels.put(i, (byte)(((pixels.get(i) & 0xff) * a + 127) / 255));
+				pixels.put(i + 1, (byte)(((pixels.get(i + 1) & 0xff) * a + 127) / 255));
+				pixels.put(i + 2, (byte)(((pixels.get(i + 2) & 0xff) * a + 127) / 255));
+			}
+			break;
+		case LuminanceAlpha:
+			for (int i = rowStart * width * 2, n = rowEnd * width * 2; i < n; i += 2) {
+				int a = pixels.get(i + 1) & 0xff;
+				if (a != 255) pixels.put(i, (byte)(((pixels.get(i) & 0xff) * a + 127) / 255));
+			}
+			break;
+		case RGBA4444:
+			for (int i = rowStart * width * 2, n = rowEnd * width * 2; i < n; i += 2) {
+				int c = pixels.getShort(i) & 0xffff, a = c & 0xf;
+				if (a == 15) continue;
+				int r = ((c >>> 12) * a + 7) / 15, g = ((c >>> 8 & 0xf) * a + 7) / 15, b = ((c >>> 4 & 0xf) * a + 7) / 15;
+				pixels.putShort(i, (short)(r << 12 | g << 8 | b << 4 | a));
+			}
+			break;
+		}
+	}
+
+	/** Disposes the executor if it was created by this rasterizer. */
+	public void dispose () {
+		if (ownsExecutor && executor != null) executor.dispose();
+	}
+
+	private class Band implements AsyncTask<Void> {
+		Pixmap pixmap;
+		int mode, rowStart, rowEnd;
+
+		public Void call () {
+			if (mode == PREMULTIPLY)
+				premultiplyAlpha(pixmap, rowStart, rowEnd);
+			else
+				draw(pixmap, rowStart, rowEnd);
+			return null;
+		}
+	}
+}
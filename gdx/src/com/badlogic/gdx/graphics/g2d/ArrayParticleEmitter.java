@@ -0,0 +1,601 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** A {@link ParticleEmitter} that stores particles in primitive arrays instead of a {@link Particle} sprite per particle. Free
+ * slots are found with a bit mask, particles are updated in place and the vertices of all particles are given to the
+ * {@link Batch} with a single call. Slots are reused and random numbers are drawn in the same order as ParticleEmitter, so an
+ * effect looks the same with either emitter. {@link #newParticle(Sprite)} is not used.
+ * @see ArrayParticleEffect */
+public class ArrayParticleEmitter extends ParticleEmitter {
+	private long[] activeBits;
+	/** Slots below this index have been used at least once. */
+	private int createdCount;
+
+	private int[] lives, currentLives;
+	private float[] scales, scaleDiffs;
+	private float[] rotations, rotationDiffs;
+	private float[] velocities, velocityDiffs;
+	private float[] angles, angleDiffs;
+	private float[] angleCos, angleSin;
+	private float[] transparencies, transparencyDiffs;
+	private float[] winds, windDiffs;
+	private float[] gravities, gravityDiffs;
+	private float[] tints;
+	// The state a Particle keeps in its Sprite.
+	private float[] spriteX, spriteY, spriteScale, spriteRotation, spriteColor;
+
+	private float[] vertices, uvs;
+	private BoundingBox bounds;
+
+	public ArrayParticleEmitter () {
+	}
+
+	public ArrayParticleEmitter (BufferedReader reader) throws IOException {
+		super(reader);
+	}
+
+	public ArrayParticleEmitter (ParticleEmitter emitter) {
+		super(emitter);
+	}
+
+	public void setMaxParticleCount (int maxParticleCount) {
+		// Called from the super constructor, so fields must not have initializers.
+		this.maxParticleCount = maxParticleCount;
+		activeCount = 0;
+		createdCount = 0;
+		activeBits = new long[(maxParticleCount + 63) >>> 6];
+		lives = new int[maxParticleCount];
+		currentLives = new int[maxParticleCount];
+		scales = new float[maxParticleCount];
+		scaleDiffs = new float[maxParticleCount];
+		rotations = new float[maxParticleCount];
+		rotationDiffs = new float[maxParticleCount];
+		velocities = new float[maxParticleCount];
+		velocityDiffs = new float[maxParticleCount];
+		angles = new float[maxParticleCount];
+		angleDiffs = new float[maxParticleCount];
+		angleCos = new float[maxParticleCount];
+		angleSin = new float[maxParticleCount];
+		transparencies = new float[maxParticleCount];
+		transparencyDiffs = new float[maxParticleCount];
+		winds = new float[maxParticleCount];
+		windDiffs = new float[maxParticleCount];
+		gravities = new float[maxParticleCount];
+		gravityDiffs = new float[maxParticleCount];
+		tints = new float[maxParticleCount * 3];
+		spriteX = new float[maxParticleCount];
+		spriteY = new float[maxParticleCount];
+		spriteScale = new float[maxParticleCount];
+		spriteRotation = new float[maxParticleCount];
+		spriteColor = new float[maxParticleCount];
+		vertices = new float[maxParticleCount * Sprite.SPRITE_SIZE];
+		uvs = new float[8];
+	}
+
+	/** Returns the lowest free slot at or after the specified index, or -1. */
+	private int nextFree (int index) {
+		long[] activeBits = this.activeBits;
+		int word = index >>> 6;
+		if (word >= activeBits.length) return -1;
+		long free = ~activeBits[word] & -1L << index;
+		while (free == 0) {
+			if (++word == activeBits.length) return -1;
+			free = ~activeBits[word];
+		}
+		index = word << 6 | Long.numberOfTrailingZeros(free);
+		return index < maxParticleCount ? index : -1;
+	}
+
+	public void addParticle () {
+		if (activeCount == maxParticleCount) return;
+		int index = nextFree(0);
+		if (index == -1) return;
+		activateParticle(index);
+		activeBits[index >>> 6] |= 1L << index;
+		activeCount++;
+	}
+
+	public void addParticles (int count) {
+		count = Math.min(count, maxParticleCount - activeCount);
+		if (count == 0) return;
+		for (int i = 0, index = 0; i < count; i++, index++) {
+			index = nextFree(index);
+			if (index == -1) break;
+			activateParticle(index);
+			activeBits[index >>> 6] |= 1L << index;
+		}
+		activeCount += count;
+	}
+
+	public void update (float delta) {
+		accumulator += delta * 1000;
+		if (accumulator < 1) return;
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		emit(deltaMillis);
+
+		long[] activeBits = this.activeBits;
+		int activeCount = this.activeCount;
+		for (int word = 0, n = activeBits.length; word < n; word++) {
+			long bits = activeBits[word];
+			for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+				int index = word << 6 | Long.numberOfTrailingZeros(remaining);
+				if (!updateParticle(index, delta, deltaMillis)) {
+					bits &= ~(1L << index);
+					activeCount--;
+				}
+			}
+			activeBits[word] = bits;
+		}
+		this.activeCount = activeCount;
+	}
+
+	public void draw (Batch batch) {
+		setBlendFunction(batch);
+		updateUVs();
+		float[] vertices = this.vertices;
+		long[] activeBits = this.activeBits;
+		int offset = 0;
+		for (int word = 0, n = activeBits.length; word < n; word++)
+			for (long remaining = activeBits[word]; remaining != 0; remaining &= remaining - 1)
+				offset = computeVertices(word << 6 | Long.numberOfTrailingZeros(remaining), vertices, offset);
+		if (offset > 0) batch.draw(getSprite().getTexture(), vertices, 0, offset);
+		if (cleansUpBlendFunction && (isAdditive() || isPremultipliedAlpha()))
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	public void draw (Batch batch, float delta) {
+		accumulator += delta * 1000;
+		if (accumulator < 1) {
+			draw(batch);
+			return;
+		}
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		setBlendFunction(batch);
+		updateUVs();
+		float[] vertices = this.vertices;
+		long[] activeBits = this.activeBits;
+		int activeCount = this.activeCount, offset = 0;
+		for (int word = 0, n = activeBits.length; word < n; word++) {
+			long bits = activeBits[word];
+			for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+				int index = word << 6 | Long.numberOfTrailingZeros(remaining);
+				if (updateParticle(index, delta, deltaMillis))
+					offset = computeVertices(index, vertices, offset);
+				else {
+					bits &= ~(1L << index);
+					activeCount--;
+				}
+			}
+			activeBits[word] = bits;
+		}
+		this.activeCount = activeCount;
+		if (offset > 0) batch.draw(getSprite().getTexture(), vertices, 0, offset);
+
+		if (cleansUpBlendFunction && (isAdditive() || isPremultipliedAlpha()))
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+		emit(deltaMillis);
+	}
+
+	private void setBlendFunction (Batch batch) {
+		if (isPremultipliedAlpha()) {
+			batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		} else if (isAdditive()) {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+		} else {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+	}
+
+	public void reset () {
+		emissionDelta = 0;
+		durationTimer = duration;
+		long[] activeBits = this.activeBits;
+		for (int i = 0, n = activeBits.length; i < n; i++)
+			activeBits[i] = 0;
+		activeCount = 0;
+		start();
+	}
+
+	private void activateParticle (int index) {
+		Sprite sprite = getSprite();
+		if (index >= createdCount) {
+			// A new Particle copies the sprite's color and rotation.
+			spriteColor[index] = sprite.getColor().toFloatBits();
+			spriteRotation[index] = sprite.getRotation();
+			createdCount = index + 1;
+		}
+
+		float percent = durationTimer / duration;
+		int updateFlags = this.updateFlags;
+
+		ScaledNumericValue lifeValue = getLife();
+		currentLives[index] = lives[index] = life + (int)(lifeDiff * lifeValue.getScale(percent));
+
+		ScaledNumericValue velocityValue = getVelocity();
+		if (velocityValue.active) {
+			float velocity = velocities[index] = velocityValue.newLowValue();
+			float velocityDiff = velocityValue.newHighValue();
+			if (!velocityValue.isRelative()) velocityDiff -= velocity;
+			velocityDiffs[index] = velocityDiff;
+		}
+
+		ScaledNumericValue angleValue = getAngle();
+		float particleAngle = angles[index] = angleValue.newLowValue();
+		float angleDiff = angleValue.newHighValue();
+		if (!angleValue.isRelative()) angleDiff -= particleAngle;
+		angleDiffs[index] = angleDiff;
+		float angle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle = particleAngle + angleDiff * angleValue.getScale(0);
+			angles[index] = angle;
+			angleCos[index] = MathUtils.cosDeg(angle);
+			angleSin[index] = MathUtils.sinDeg(angle);
+		}
+
+		ScaledNumericValue scaleValue = getScale();
+		float spriteWidth = sprite.getWidth();
+		float scale = scales[index] = scaleValue.newLowValue() / spriteWidth;
+		float scaleDiff = scaleValue.newHighValue() / spriteWidth;
+		if (!scaleValue.isRelative()) scaleDiff -= scale;
+		scaleDiffs[index] = scaleDiff;
+		spriteScale[index] = scale + scaleDiff * scaleValue.getScale(0);
+
+		ScaledNumericValue rotationValue = getRotation();
+		if (rotationValue.active) {
+			float rotation = rotations[index] = rotationValue.newLowValue();
+			float rotationDiff = rotationValue.newHighValue();
+			if (!rotationValue.isRelative()) rotationDiff -= rotation;
+			rotationDiffs[index] = rotationDiff;
+			rotation += rotationDiff * rotationValue.getScale(0);
+			if (isAligned()) rotation += angle;
+			spriteRotation[index] = rotation;
+		}
+
+		ScaledNumericValue windValue = getWind();
+		if (windValue.active) {
+			float wind = winds[index] = windValue.newLowValue();
+			float windDiff = windValue.newHighValue();
+			if (!windValue.isRelative()) windDiff -= wind;
+			windDiffs[index] = windDiff;
+		}
+
+		ScaledNumericValue gravityValue = getGravity();
+		if (gravityValue.active) {
+			float gravity = gravities[index] = gravityValue.newLowValue();
+			float gravityDiff = gravityValue.newHighValue();
+			if (!gravityValue.isRelative()) gravityDiff -= gravity;
+			gravityDiffs[index] = gravityDiff;
+		}
+
+		float[] temp = getTint().getColor(0);
+		float[] tints = this.tints;
+		int tintIndex = index * 3;
+		tints[tintIndex] = temp[0];
+		tints[tintIndex + 1] = temp[1];
+		tints[tintIndex + 2] = temp[2];
+
+		ScaledNumericValue transparencyValue = getTransparency();
+		float transparency = transparencies[index] = transparencyValue.newLowValue();
+		transparencyDiffs[index] = transparencyValue.newHighValue() - transparency;
+
+		// Spawn.
+		float x = this.x;
+		RangedNumericValue xOffsetValue = getXOffsetValue();
+		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
+		float y = this.y;
+		RangedNumericValue yOffsetValue = getYOffsetValue();
+		if (yOffsetValue.active) y += yOffsetValue.newLowValue();
+		SpawnShapeValue spawnShapeValue = getSpawnShape();
+		ScaledNumericValue spawnWidthValue = getSpawnWidth(), spawnHeightValue = getSpawnHeight();
+		switch (spawnShapeValue.shape) {
+		case square: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			x += MathUtils.random(width) - width / 2;
+			y += MathUtils.random(height) - height / 2;
+			break;
+		}
+		case ellipse: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			float radiusX = width / 2;
+			float radiusY = height / 2;
+			if (radiusX == 0 || radiusY == 0) break;
+			float scaleY = radiusX / radiusY;
+			if (spawnShapeValue.edges) {
+				float spawnAngle;
+				switch (spawnShapeValue.side) {
+				case top:
+					spawnAngle = -MathUtils.random(179f);
+					break;
+				case bottom:
+					spawnAngle = MathUtils.random(179f);
+					break;
+				default:
+					spawnAngle = MathUtils.random(360f);
+					break;
+				}
+				float cosDeg = MathUtils.cosDeg(spawnAngle);
+				float sinDeg = MathUtils.sinDeg(spawnAngle);
+				x += cosDeg * radiusX;
+				y += sinDeg * radiusX / scaleY;
+				if ((updateFlags & UPDATE_ANGLE) == 0) {
+					angles[index] = spawnAngle;
+					angleCos[index] = cosDeg;
+					angleSin[index] = sinDeg;
+				}
+			} else {
+				float radius2 = radiusX * radiusX;
+				while (true) {
+					float px = MathUtils.random(width) - radiusX;
+					float py = MathUtils.random(height) - radiusY;
+					if (px * px + py * py <= radius2) {
+						x += px;
+						y += py / scaleY;
+						break;
+					}
+				}
+			}
+			break;
+		}
+		case line: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			if (width != 0) {
+				float lineX = width * MathUtils.random();
+				x += lineX;
+				y += lineX * (height / width);
+			} else
+				y += height * MathUtils.random();
+			break;
+		}
+		}
+
+		spriteX[index] = x - spriteWidth / 2;
+		spriteY[index] = y - sprite.getHeight() / 2;
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * getLifeOffset().getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= currentLives[index]) offsetTime = currentLives[index] - 1;
+			updateParticle(index, offsetTime / 1000f, offsetTime);
+		}
+	}
+
+	private boolean updateParticle (int index, float delta, int deltaMillis) {
+		int life = currentLives[index] - deltaMillis;
+		if (life <= 0) return false;
+		currentLives[index] = life;
+
+		float percent = 1 - life / (float)lives[index];
+		int updateFlags = this.updateFlags;
+
+		if ((updateFlags & UPDATE_SCALE) != 0)
+			spriteScale[index] = scales[index] + scaleDiffs[index] * getScale().getScale(percent);
+
+		if ((updateFlags & UPDATE_VELOCITY) != 0) {
+			float velocity = (velocities[index] + velocityDiffs[index] * getVelocity().getScale(percent)) * delta;
+
+			float velocityX, velocityY;
+			if ((updateFlags & UPDATE_ANGLE) != 0) {
+				float angle = angles[index] + angleDiffs[index] * getAngle().getScale(percent);
+				velocityX = velocity * MathUtils.cosDeg(angle);
+				velocityY = velocity * MathUtils.sinDeg(angle);
+				if ((updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = rotations[index] + rotationDiffs[index] * getRotation().getScale(percent);
+					if (isAligned()) rotation += angle;
+					spriteRotation[index] = rotation;
+				}
+			} else {
+				velocityX = velocity * angleCos[index];
+				velocityY = velocity * angleSin[index];
+				if (isAligned() || (updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = rotations[index] + rotationDiffs[index] * getRotation().getScale(percent);
+					if (isAligned()) rotation += angles[index];
+					spriteRotation[index] = rotation;
+				}
+			}
+
+			if ((updateFlags & UPDATE_WIND) != 0)
+				velocityX += (winds[index] + windDiffs[index] * getWind().getScale(percent)) * delta;
+
+			if ((updateFlags & UPDATE_GRAVITY) != 0)
+				velocityY += (gravities[index] + gravityDiffs[index] * getGravity().getScale(percent)) * delta;
+
+			spriteX[index] += velocityX;
+			spriteY[index] += velocityY;
+		} else {
+			if ((updateFlags & UPDATE_ROTATION) != 0)
+				spriteRotation[index] = rotations[index] + rotationDiffs[index] * getRotation().getScale(percent);
+		}
+
+		float r, g, b;
+		if ((updateFlags & UPDATE_TINT) != 0) {
+			float[] color = getTint().getColor(percent);
+			r = color[0];
+			g = color[1];
+			b = color[2];
+		} else {
+			int tintIndex = index * 3;
+			r = tints[tintIndex];
+			g = tints[tintIndex + 1];
+			b = tints[tintIndex + 2];
+		}
+
+		float a = transparencies[index] + transparencyDiffs[index] * getTransparency().getScale(percent);
+		if (isPremultipliedAlpha())
+			spriteColor[index] = toFloatBits(r * a, g * a, b * a, isAdditive() ? 0 : a);
+		else
+			spriteColor[index] = toFloatBits(r, g, b, a);
+		return true;
+	}
+
+	/** Packs the color like {@link Sprite#setColor(float, float, float, float)}. */
+	static private float toFloatBits (float r, float g, float b, float a) {
+		int intBits = ((int)(255 * a) << 24) | ((int)(255 * b) << 16) | ((int)(255 * g) << 8) | ((int)(255 * r));
+		return NumberUtils.intToFloatColor(intBits);
+	}
+
+	/** Copies the texture coordinates of the sprite's corners, flipped like a new {@link Particle}. */
+	private void updateUVs () {
+		float[] spriteVertices = getSprite().getVertices(), uvs = this.uvs;
+		uvs[0] = spriteVertices[Batch.U1];
+		uvs[1] = spriteVertices[Batch.V1];
+		uvs[2] = spriteVertices[Batch.U2];
+		uvs[3] = spriteVertices[Batch.V2];
+		uvs[4] = spriteVertices[Batch.U3];
+		uvs[5] = spriteVertices[Batch.V3];
+		uvs[6] = spriteVertices[Batch.U4];
+		uvs[7] = spriteVertices[Batch.V4];
+		if (flipX) {
+			float temp = uvs[0];
+			uvs[0] = uvs[4];
+			uvs[4] = temp;
+			temp = uvs[2];
+			uvs[2] = uvs[6];
+			uvs[6] = temp;
+		}
+		if (flipY) {
+			float temp = uvs[1];
+			uvs[1] = uvs[5];
+			uvs[5] = temp;
+			temp = uvs[3];
+			uvs[3] = uvs[7];
+			uvs[7] = temp;
+		}
+	}
+
+	/** Writes the particle's vertices like {@link Sprite#getVertices()}, requires {@link #updateUVs()}.
+	 * @return The offset after the vertices. */
+	private int computeVertices (int index, float[] vertices, int offset) {
+		Sprite sprite = getSprite();
+		float localX = -sprite.getOriginX();
+		float localY = -sprite.getOriginY();
+		float localX2 = localX + sprite.getWidth();
+		float localY2 = localY + sprite.getHeight();
+		float worldOriginX = spriteX[index] - localX;
+		float worldOriginY = spriteY[index] - localY;
+		float scale = spriteScale[index];
+		if (scale != 1) {
+			localX *= scale;
+			localY *= scale;
+			localX2 *= scale;
+			localY2 *= scale;
+		}
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+		float rotation = spriteRotation[index];
+		if (rotation != 0) {
+			float cos = MathUtils.cosDeg(rotation);
+			float sin = MathUtils.sinDeg(rotation);
+			float localXCos = localX * cos;
+			float localXSin = localX * sin;
+			float localYCos = localY * cos;
+			float localYSin = localY * sin;
+			float localX2Cos = localX2 * cos;
+			float localX2Sin = localX2 * sin;
+			float localY2Cos = localY2 * cos;
+			float localY2Sin = localY2 * sin;
+			x1 = localXCos - localYSin + worldOriginX;
+			y1 = localYCos + localXSin + worldOriginY;
+			x2 = localXCos - localY2Sin + worldOriginX;
+			y2 = localY2Cos + localXSin + worldOriginY;
+			x3 = localX2Cos - localY2Sin + worldOriginX;
+			y3 = localY2Cos + localX2Sin + worldOriginY;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = x2 = localX + worldOriginX;
+			y1 = y4 = localY + worldOriginY;
+			x3 = x4 = localX2 + worldOriginX;
+			y2 = y3 = localY2 + worldOriginY;
+		}
+		float color = spriteColor[index];
+		float[] uvs = this.uvs;
+		vertices[offset++] = x1;
+		vertices[offset++] = y1;
+		vertices[offset++] = color;
+		vertices[offset++] = uvs[0];
+		vertices[offset++] = uvs[1];
+		vertices[offset++] = x2;
+		vertices[offset++] = y2;
+		vertices[offset++] = color;
+		vertices[offset++] = uvs[2];
+		vertices[offset++] = uvs[3];
+		vertices[offset++] = x3;
+		vertices[offset++] = y3;
+		vertices[offset++] = color;
+		vertices[offset++] = uvs[4];
+		vertices[offset++] = uvs[5];
+		vertices[offset++] = x4;
+		vertices[offset++] = y4;
+		vertices[offset++] = color;
+		vertices[offset++] = uvs[6];
+		vertices[offset++] = uvs[7];
+		return offset;
+	}
+
+	public void setPosition (float x, float y) {
+		if (isAttached()) {
+			float xAmount = x - this.x;
+			float yAmount = y - this.y;
+			long[] activeBits = this.activeBits;
+			for (int word = 0, n = activeBits.length; word < n; word++) {
+				for (long remaining = activeBits[word]; remaining != 0; remaining &= remaining - 1) {
+					int index = word << 6 | Long.numberOfTrailingZeros(remaining);
+					spriteX[index] += xAmount;
+					spriteY[index] += yAmount;
+				}
+			}
+		}
+		this.x = x;
+		this.y = y;
+	}
+
+	public void setFlip (boolean flipX, boolean flipY) {
+		this.flipX = flipX;
+		this.flipY = flipY;
+	}
+
+	public BoundingBox getBoundingBox () {
+		if (bounds == null) bounds = new BoundingBox();
+		BoundingBox bounds = this.bounds;
+		bounds.inf();
+		float[] vertices = this.vertices;
+		long[] activeBits = this.activeBits;
+		for (int word = 0, n = activeBits.length; word < n; word++) {
+			for (long remaining = activeBits[word]; remaining != 0; remaining &= remaining - 1) {
+				computeVertices(word << 6 | Long.numberOfTrailingZeros(remaining), vertices, 0);
+				for (int i = 0; i < Sprite.SPRITE_SIZE; i += 5)
+					bounds.ext(vertices[i], vertices[i + 1], 0);
+			}
+		}
+		return bounds;
+	}
+}
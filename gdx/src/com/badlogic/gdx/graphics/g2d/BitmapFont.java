@@ -441,6 +441,9 @@ public class BitmapFont implements Disposable {
 		public float down;
 		public float scaleX = 1, scaleY = 1;
 		public boolean markupEnabled;
+		/** Incremented whenever glyphs are removed, eg to reuse their texture space. Glyphs of text laid out when the count was
+		 * lower may be gone, so incremental {@link GlyphLayout} and {@link BitmapFontCache} updates then do a full layout. */
+		public int evictions;
 
 		public final Glyph[][] glyphs = new Glyph[PAGES][];
 		/** The width of the space character. */
@@ -44,6 +44,7 @@ public class BitmapFontCache {
 	private float x, y;
 	private final Color color = new Color(1, 1, 1, 1);
 	private float currentTint;
+	private final Color currentTintColor = new Color(1, 1, 1, 1);
 
 	/** Vertex data per page. */
 	private float[][] pageVertices;
@@ -55,6 +56,15 @@ public class BitmapFontCache {
 	/** Used internally to ensure a correct capacity for multi-page font vertex data. */
 	private int[] tempGlyphCount;
 
+	private boolean incremental;
+	/** When the cache holds a single layout and can be updated incrementally, the cached glyphs and for each glyph the x, y and
+	 * color passed to {@link #addGlyph(Glyph, float, float, float)} and the tinted color. */
+	private Array<Glyph> cachedGlyphs = new Array(), tempGlyphs = new Array();
+	private FloatArray cachedGlyphData = new FloatArray(), tempGlyphData = new FloatArray();
+	private boolean cachedValid;
+	private float cachedScaleX, cachedScaleY;
+	private int cachedEvictions;
+
 	public BitmapFontCache (BitmapFont font) {
 		this(font, font.usesIntegerPositions());
 	}
@@ -111,6 +121,7 @@ public class BitmapFontCache {
 		float newTint = tint.toFloatBits();
 		if (currentTint == newTint) return;
 		currentTint = newTint;
+		currentTintColor.set(tint);
 
 		int[] tempGlyphCount = this.tempGlyphCount;
 		for (int i = 0, n = tempGlyphCount.length; i < n; i++)
@@ -291,6 +302,11 @@ public class BitmapFontCache {
 	public void clear () {
 		x = 0;
 		y = 0;
+		cachedValid = false;
+		if (incremental) {
+			for (int i = 0, n = pooledLayouts.size; i < n; i++)
+				pooledLayouts.get(i).setIncremental(false);
+		}
 		Pools.freeAll(pooledLayouts, true);
 		pooledLayouts.clear();
 		layouts.clear();
@@ -365,6 +381,16 @@ public class BitmapFontCache {
 			tempGlyphCount = new int[pageCount];
 		}
 
+		// Remember the glyphs of a single layout so later text can be updated incrementally.
+		boolean track = incremental && layouts.size == 0 && pageCount == 1;
+		if (track) {
+			collectGlyphs(layout, x, y, cachedGlyphs, cachedGlyphData);
+			cachedScaleX = font.data.scaleX;
+			cachedScaleY = font.data.scaleY;
+			cachedEvictions = font.data.evictions;
+		}
+		cachedValid = track;
+
 		layouts.add(layout);
 		requireGlyphs(layout);
 		for (int i = 0, n = layout.runs.size; i < n; i++) {
@@ -381,9 +407,110 @@ public class BitmapFontCache {
 		}
 
 		currentTint = whiteTint; // Cached glyphs have changed, reset the current tint.
+		currentTintColor.set(Color.WHITE);
+	}
+
+	/** Stores the glyphs of the layout and for each glyph the x, y and color as computed by
+	 * {@link #addToCache(GlyphLayout, float, float)} and the color tinted with the current tint. */
+	private void collectGlyphs (GlyphLayout layout, float x, float y, Array<Glyph> glyphs, FloatArray glyphData) {
+		glyphs.clear();
+		glyphData.clear();
+		for (int i = 0, n = layout.runs.size; i < n; i++) {
+			GlyphRun run = layout.runs.get(i);
+			Array<Glyph> runGlyphs = run.glyphs;
+			FloatArray xAdvances = run.xAdvances;
+			float color = run.color.toFloatBits();
+			float tinted = tempColor.set(run.color).mul(currentTintColor).toFloatBits();
+			float gx = x + run.x, gy = y + run.y;
+			float[] data = glyphData.ensureCapacity(runGlyphs.size * 4);
+			for (int ii = 0, nn = runGlyphs.size, d = glyphData.size; ii < nn; ii++, d += 4) {
+				gx += xAdvances.get(ii);
+				data[d] = gx;
+				data[d + 1] = gy;
+				data[d + 2] = color;
+				data[d + 3] = tinted;
+			}
+			glyphData.size += runGlyphs.size * 4;
+			glyphs.addAll(runGlyphs);
+		}
+	}
+
+	/** Rewrites the vertices of the glyphs that differ from the cached glyphs after their common prefix and suffix. The position
+	 * of the cache is kept. */
+	private void updateCache (GlyphLayout layout, float x, float y) {
+		float offsetX = this.x, offsetY = this.y;
+		if (!cachedValid || font.regions.size != 1 || font.data.scaleX != cachedScaleX || font.data.scaleY != cachedScaleY
+			|| font.data.evictions != cachedEvictions) {
+			// Recache everything, the layout may be pooled so it is not freed.
+			this.x = 0;
+			this.y = 0;
+			layouts.clear();
+			for (int i = 0, n = idx.length; i < n; i++) {
+				if (pageGlyphIndices != null) pageGlyphIndices[i].clear();
+				idx[i] = 0;
+			}
+			addToCache(layout, x, y);
+			translate(offsetX, offsetY);
+			return;
+		}
+
+		Array<Glyph> glyphs = tempGlyphs;
+		FloatArray glyphData = tempGlyphData;
+		collectGlyphs(layout, x, y, glyphs, glyphData);
+		Object[] glyphItems = glyphs.items, cachedItems = cachedGlyphs.items;
+		float[] data = glyphData.items, cachedData = cachedGlyphData.items;
+		int count = glyphs.size, cachedCount = cachedGlyphs.size;
+
+		int prefix = 0, max = Math.min(count, cachedCount);
+		while (prefix < max && glyphItems[prefix] == cachedItems[prefix]
+			&& sameGlyphData(data, prefix * 4, cachedData, prefix * 4))
+			prefix++;
+		int suffix = 0;
+		max -= prefix;
+		while (suffix < max && glyphItems[count - 1 - suffix] == cachedItems[cachedCount - 1 - suffix]
+			&& sameGlyphData(data, (count - 1 - suffix) * 4, cachedData, (cachedCount - 1 - suffix) * 4))
+			suffix++;
+
+		float[] vertices = pageVertices[0];
+		int vertexCount = count * 20;
+		if (vertices == null || vertices.length < vertexCount) {
+			float[] newVertices = new float[vertexCount];
+			if (vertices != null) System.arraycopy(vertices, 0, newVertices, 0, idx[0]);
+			pageVertices[0] = vertices = newVertices;
+		}
+		if (count != cachedCount)
+			System.arraycopy(vertices, (cachedCount - suffix) * 20, vertices, (count - suffix) * 20, suffix * 20);
+		idx[0] = vertexCount;
+		for (int i = prefix, n = count - suffix; i < n; i++) {
+			int d = i * 4;
+			setGlyph(vertices, i * 20, (Glyph)glyphItems[i], data[d], data[d + 1], data[d + 3], offsetX, offsetY);
+		}
+
+		tempGlyphs = cachedGlyphs;
+		tempGlyphData = cachedGlyphData;
+		cachedGlyphs = glyphs;
+		cachedGlyphData = glyphData;
+		layouts.set(0, layout);
+	}
+
+	static private boolean sameGlyphData (float[] data, int index, float[] cachedData, int cachedIndex) {
+		return data[index] == cachedData[cachedIndex] && data[index + 1] == cachedData[cachedIndex + 1]
+			&& data[index + 2] == cachedData[cachedIndex + 2];
 	}
 
 	private void addGlyph (Glyph glyph, float x, float y, float color) {
+		final int page = glyph.page;
+		int idx = this.idx[page];
+		this.idx[page] += 20;
+
+		if (pageGlyphIndices != null) pageGlyphIndices[page].add(glyphCount++);
+
+		setGlyph(pageVertices[page], idx, glyph, x, y, color, 0, 0);
+	}
+
+	/** @param offsetX Added to the x positions after they are rounded.
+	 * @param offsetY Added to the y positions after they are rounded. */
+	private void setGlyph (float[] vertices, int idx, Glyph glyph, float x, float y, float color, float offsetX, float offsetY) {
 		final float scaleX = font.data.scaleX, scaleY = font.data.scaleY;
 		x += glyph.xoffset * scaleX;
 		y += glyph.yoffset * scaleY;
@@ -397,14 +524,11 @@ public class BitmapFontCache {
 			x2 = Math.round(x2);
 			y2 = Math.round(y2);
 		}
+		x += offsetX;
+		y += offsetY;
+		x2 += offsetX;
+		y2 += offsetY;
 
-		final int page = glyph.page;
-		int idx = this.idx[page];
-		this.idx[page] += 20;
-
-		if (pageGlyphIndices != null) pageGlyphIndices[page].add(glyphCount++);
-
-		final float[] vertices = pageVertices[page];
 		vertices[idx++] = x;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
@@ -433,29 +557,42 @@ public class BitmapFontCache {
 	/** Clears any cached glyphs and adds glyphs for the specified text.
 	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean) */
 	public GlyphLayout setText (CharSequence str, float x, float y) {
-		clear();
-		return addText(str, x, y, 0, str.length(), 0, Align.left, false);
+		return setText(str, x, y, 0, str.length(), 0, Align.left, false);
 	}
 
 	/** Clears any cached glyphs and adds glyphs for the specified text.
 	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean) */
 	public GlyphLayout setText (CharSequence str, float x, float y, float targetWidth, int halign, boolean wrap) {
-		clear();
-		return addText(str, x, y, 0, str.length(), targetWidth, halign, wrap);
+		return setText(str, x, y, 0, str.length(), targetWidth, halign, wrap);
 	}
 
 	/** Clears any cached glyphs and adds glyphs for the specified text.
 	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean) */
 	public GlyphLayout setText (CharSequence str, float x, float y, int start, int end, float targetWidth, int halign, boolean wrap) {
+		if (incremental && layouts.size == 1 && pooledLayouts.size == 1) {
+			GlyphLayout layout = pooledLayouts.first();
+			layout.setText(font, str, start, end, color, targetWidth, halign, wrap, null);
+			updateCache(layout, x, y + font.data.ascent);
+			return layout;
+		}
+		float offsetX = this.x, offsetY = this.y;
 		clear();
-		return addText(str, x, y, start, end, targetWidth, halign, wrap);
+		GlyphLayout layout = addText(str, x, y, start, end, targetWidth, halign, wrap);
+		if (incremental) translate(offsetX, offsetY);
+		return layout;
 	}
 
 	/** Clears any cached glyphs and adds the specified glyphs.
 	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean) */
 	public void setText (GlyphLayout layout, float x, float y) {
+		if (incremental && layouts.size == 1 && layouts.first() == layout && pooledLayouts.size == 0) {
+			updateCache(layout, x, y + font.data.ascent);
+			return;
+		}
+		float offsetX = this.x, offsetY = this.y;
 		clear();
 		addText(layout, x, y);
+		if (incremental) translate(offsetX, offsetY);
 	}
 
 	/** Adds glyphs for the specified text.
@@ -478,6 +615,7 @@ public class BitmapFontCache {
 	 * @return The glyph layout for the cached string (the layout's height is the distance from y to the baseline). */
 	public GlyphLayout addText (CharSequence str, float x, float y, int start, int end, float targetWidth, int halign, boolean wrap) {
 		GlyphLayout layout = Pools.obtain(GlyphLayout.class);
+		layout.setIncremental(incremental);
 		pooledLayouts.add(layout);
 		layout.setText(font, str, start, end, color, targetWidth, halign, wrap, null);
 		addText(layout, x, y);
@@ -514,6 +652,22 @@ public class BitmapFontCache {
 		return integer;
 	}
 
+	/** When true and the cache holds text from a single setText call, setText only rewrites the vertices of glyphs that were
+	 * added, changed or moved, and setText with a string reuses its {@link GlyphLayout} in
+	 * {@link GlyphLayout#setIncremental(boolean) incremental} mode. Unlike a full setText, the position set by
+	 * {@link #setPosition(float, float)} and the tint are kept, and colors set by setColors are only reset for the rewritten
+	 * glyphs. Fonts with multiple pages are always fully recached. Default is false. */
+	public void setIncremental (boolean incremental) {
+		this.incremental = incremental;
+		cachedValid = false;
+		for (int i = 0, n = pooledLayouts.size; i < n; i++)
+			pooledLayouts.get(i).setIncremental(incremental);
+	}
+
+	public boolean isIncremental () {
+		return incremental;
+	}
+
 	public float[] getVertices () {
 		return getVertices(0);
 	}
@@ -47,11 +47,6 @@ public class Gdx2DPixmap implements Disposable {
 	ByteBuffer pixelPtr;
 	long[] nativeData = new long[4];
 
-	static {
-		setBlend(GDX2D_BLEND_SRC_OVER);
-		setScale(GDX2D_SCALE_LINEAR);
-	}
-
 	public Gdx2DPixmap (byte[] encodedData, int offset, int len, int requestedFormat) throws IOException {
 		pixelPtr = load(nativeData, encodedData, offset, len);
 		if (pixelPtr == null) throw new IOException("Error loading pixmap: " + getFailureReason());
@@ -110,7 +105,9 @@ public class Gdx2DPixmap implements Disposable {
 
 	private void convert (int requestedFormat) {
 		Gdx2DPixmap pixmap = new Gdx2DPixmap(width, height, requestedFormat);
+		pixmap.setBlend(GDX2D_BLEND_NONE);
 		pixmap.drawPixmap(this, 0, 0, 0, 0, width, height);
+		pixmap.setBlend(GDX2D_BLEND_SRC_OVER);
 		dispose();
 		this.basePtr = pixmap.basePtr;
 		this.format = pixmap.format;
@@ -169,6 +166,41 @@ public class Gdx2DPixmap implements Disposable {
 		drawPixmap(src.basePtr, basePtr, srcX, srcY, srcWidth, srcHeight, dstX, dstY, dstWidth, dstHeight);
 	}
 
+	/** Same as {@link #fillRect(int, int, int, int, int)}, but only touches the rows in [rowStart, rowEnd). Calls touching
+	 * disjoint rows of this pixmap may run on different threads. */
+	public void fillRectRows (int rowStart, int rowEnd, int x, int y, int width, int height, int color) {
+		fillRectRows(basePtr, rowStart, rowEnd, x, y, width, height, color);
+	}
+
+	/** Same as {@link #fillCircle(int, int, int, int)}, but only touches the rows in [rowStart, rowEnd). */
+	public void fillCircleRows (int rowStart, int rowEnd, int x, int y, int radius, int color) {
+		fillCircleRows(basePtr, rowStart, rowEnd, x, y, radius, color);
+	}
+
+	/** Same as {@link #fillTriangle(int, int, int, int, int, int, int)}, but only touches the rows in [rowStart, rowEnd). */
+	public void fillTriangleRows (int rowStart, int rowEnd, int x1, int y1, int x2, int y2, int x3, int y3, int color) {
+		fillTriangleRows(basePtr, rowStart, rowEnd, x1, y1, x2, y2, x3, y3, color);
+	}
+
+	/** Same as {@link #drawPixmap(Gdx2DPixmap, int, int, int, int, int, int, int, int)}, but only touches the rows in [rowStart,
+	 * rowEnd). */
+	public void drawPixmapRows (int rowStart, int rowEnd, Gdx2DPixmap src, int srcX, int srcY, int srcWidth, int srcHeight,
+		int dstX, int dstY, int dstWidth, int dstHeight) {
+		drawPixmapRows(src.basePtr, basePtr, rowStart, rowEnd, srcX, srcY, srcWidth, srcHeight, dstX, dstY, dstWidth, dstHeight);
+	}
+
+	/** Sets the blending used when drawing to this pixmap, one of the GDX2D_BLEND constants. Default is
+	 * {@link #GDX2D_BLEND_SRC_OVER}. */
+	public void setBlend (int blend) {
+		setBlend(basePtr, blend);
+	}
+
+	/** Sets the filtering used when scaling pixmaps drawn to this pixmap, one of the GDX2D_SCALE constants. Default is
+	 * {@link #GDX2D_SCALE_LINEAR}. */
+	public void setScale (int scale) {
+		setScale(basePtr, scale);
+	}
+
 	public static Gdx2DPixmap newPixmap (InputStream in, int requestedFormat) {
 		try {
 			return new Gdx2DPixmap(in, requestedFormat);
@@ -343,12 +375,39 @@ public class Gdx2DPixmap implements Disposable {
 		gdx2d_draw_pixmap((gdx2d_pixmap*)src, (gdx2d_pixmap*)dst, srcX, srcY, srcWidth, srcHeight, dstX, dstY, dstWidth, dstHeight);
 	*/
 
-	public static native void setBlend (int blend); /*
-		gdx2d_set_blend(blend);
+	private static native void fillRectRows (long pixmap, int rowStart, int rowEnd, int x, int y, int width, int height,
+		int color); /*
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)pixmap, rowStart, rowEnd, &rows);
+		gdx2d_fill_rect(&rows, x, y - rowStart, width, height, color);
+	*/
+
+	private static native void fillCircleRows (long pixmap, int rowStart, int rowEnd, int x, int y, int radius, int color); /*
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)pixmap, rowStart, rowEnd, &rows);
+		gdx2d_fill_circle(&rows, x, y - rowStart, radius, color);
+	*/
+
+	private static native void fillTriangleRows (long pixmap, int rowStart, int rowEnd, int x1, int y1, int x2, int y2, int x3,
+		int y3, int color); /*
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)pixmap, rowStart, rowEnd, &rows);
+		gdx2d_fill_triangle(&rows, x1, y1 - rowStart, x2, y2 - rowStart, x3, y3 - rowStart, color);
+	*/
+
+	private static native void drawPixmapRows (long src, long dst, int rowStart, int rowEnd, int srcX, int srcY, int srcWidth,
+		int srcHeight, int dstX, int dstY, int dstWidth, int dstHeight); /*
+		gdx2d_pixmap rows;
+		gdx2d_rows((gdx2d_pixmap*)dst, rowStart, rowEnd, &rows);
+		gdx2d_draw_pixmap((gdx2d_pixmap*)src, &rows, srcX, srcY, srcWidth, srcHeight, dstX, dstY - rowStart, dstWidth, dstHeight);
+	*/
+
+	private static native void setBlend (long src, int blend); /*
+		gdx2d_set_blend((gdx2d_pixmap*)src, blend);
 	*/
 
-	public static native void setScale (int scale); /*
-		gdx2d_set_scale(scale);
+	private static native void setScale (long src, int scale); /*
+		gdx2d_set_scale((gdx2d_pixmap*)src, scale);
 	*/
 
 	public static native String getFailureReason (); /*
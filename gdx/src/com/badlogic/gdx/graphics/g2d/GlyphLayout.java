@@ -22,6 +22,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.CharArray;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pool.Poolable;
@@ -37,6 +38,15 @@ public class GlyphLayout implements Poolable {
 	public final Array<GlyphRun> runs = new Array();
 	public float width, height;
 
+	private boolean incremental;
+	/** The text of the last layout when it can be updated incrementally, see {@link #setIncremental(boolean)}. */
+	private final CharArray lastText = new CharArray();
+	private boolean updatable;
+	private BitmapFontData lastFontData;
+	private float lastScaleX, lastScaleY;
+	private int lastEvictions;
+	private final Color lastColor = new Color();
+
 	/** Creates an empty GlyphLayout. */
 	public GlyphLayout () {
 	}
@@ -86,6 +96,14 @@ public class GlyphLayout implements Poolable {
 		BitmapFontData fontData = font.data;
 		boolean markupEnabled = fontData.markupEnabled;
 
+		if (incremental) {
+			if (updatable && !wrap && updateText(fontData, str, start, end, color, targetWidth, halign)) return;
+			updatable = false;
+		}
+		// The layout below advances start and changes color.
+		int textStart = start;
+		Color textColor = color;
+
 		Pool<GlyphRun> glyphRunPool = Pools.get(GlyphRun.class);
 		Array<GlyphRun> runs = this.runs;
 		glyphRunPool.freeAll(runs);
@@ -222,6 +240,128 @@ public class GlyphLayout implements Poolable {
 
 		this.width = width;
 		this.height = fontData.capHeight + lines * fontData.lineHeight;
+
+		if (incremental && !wrap && runs.size == 1) storeText(fontData, str, textStart, end, textColor);
+	}
+
+	/** When true, {@link #setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) setText} reuses the
+	 * existing run for single line text without wrapping, truncation or color markup, and only looks up the glyphs that differ
+	 * from the previous text after their common prefix and suffix. The result is the same as a full layout. Default is false. */
+	public void setIncremental (boolean incremental) {
+		this.incremental = incremental;
+		if (!incremental) {
+			updatable = false;
+			lastText.clear();
+		}
+	}
+
+	public boolean isIncremental () {
+		return incremental;
+	}
+
+	/** Remembers the text if it was laid out as a single run with one glyph per character. */
+	private void storeText (BitmapFontData fontData, CharSequence str, int start, int end, Color color) {
+		if (runs.first().glyphs.size != end - start) return; // Characters without glyphs.
+		boolean markupEnabled = fontData.markupEnabled;
+		CharArray lastText = this.lastText;
+		lastText.clear();
+		for (int i = start; i < end; i++) {
+			char ch = str.charAt(i);
+			if (ch == '\n' || (ch == '[' && markupEnabled)) {
+				lastText.clear();
+				return;
+			}
+			lastText.add(ch);
+		}
+		// Without markup the color is still the default color.
+		lastColor.set(color);
+		lastFontData = fontData;
+		lastScaleX = fontData.scaleX;
+		lastScaleY = fontData.scaleY;
+		lastEvictions = fontData.evictions;
+		updatable = true;
+	}
+
+	/** Replaces the glyphs between the prefix and suffix shared with the last text, then recomputes the affected x advances, the
+	 * width and the alignment.
+	 * @return false if the text can't be updated incrementally. */
+	private boolean updateText (BitmapFontData fontData, CharSequence str, int start, int end, Color color, float targetWidth,
+		int halign) {
+		if (fontData != lastFontData || fontData.scaleX != lastScaleX || fontData.scaleY != lastScaleY || !color.equals(lastColor)
+			|| fontData.evictions != lastEvictions) return false;
+		int length = end - start;
+		if (length == 0) return false;
+
+		char[] lastChars = lastText.items;
+		int lastLength = lastText.size;
+		int prefix = 0, max = Math.min(length, lastLength);
+		while (prefix < max && lastChars[prefix] == str.charAt(start + prefix))
+			prefix++;
+		int suffix = 0;
+		max -= prefix;
+		while (suffix < max && lastChars[lastLength - 1 - suffix] == str.charAt(end - 1 - suffix))
+			suffix++;
+		int lastMiddleEnd = lastLength - suffix, middleEnd = length - suffix;
+
+		boolean markupEnabled = fontData.markupEnabled;
+		for (int i = prefix; i < middleEnd; i++) {
+			char ch = str.charAt(start + i);
+			if (ch == '\n' || (ch == '[' && markupEnabled) || fontData.getGlyph(ch) == null) return false;
+		}
+
+		// Move the suffix and replace the middle.
+		GlyphRun run = runs.first();
+		Array<Glyph> glyphs = run.glyphs;
+		FloatArray xAdvances = run.xAdvances;
+		int shift = middleEnd - lastMiddleEnd;
+		if (shift > 0) {
+			glyphs.ensureCapacity(shift);
+			xAdvances.ensureCapacity(shift);
+			lastText.ensureCapacity(shift);
+			lastChars = lastText.items;
+		}
+		Object[] glyphItems = glyphs.items;
+		float[] xAdvanceItems = xAdvances.items;
+		if (shift != 0) {
+			System.arraycopy(glyphItems, lastMiddleEnd, glyphItems, middleEnd, suffix);
+			System.arraycopy(xAdvanceItems, lastMiddleEnd, xAdvanceItems, middleEnd, suffix + 1);
+			System.arraycopy(lastChars, lastMiddleEnd, lastChars, middleEnd, suffix);
+			if (shift < 0) {
+				glyphs.truncate(length);
+			} else
+				glyphs.size = length;
+			xAdvances.size = length + 1;
+			lastText.size = length;
+		}
+		for (int i = prefix; i < middleEnd; i++) {
+			char ch = str.charAt(start + i);
+			glyphItems[i] = fontData.getGlyph(ch);
+			lastChars[i] = ch;
+		}
+
+		// Recompute the x advances that depend on the replaced glyphs, see BitmapFontData#getGlyphs.
+		float scaleX = fontData.scaleX;
+		if (prefix == 0) xAdvanceItems[0] = -((Glyph)glyphItems[0]).xoffset * scaleX - fontData.padLeft;
+		for (int i = Math.max(prefix, 1), n = Math.min(middleEnd, length - 1); i <= n; i++) {
+			Glyph lastGlyph = (Glyph)glyphItems[i - 1];
+			xAdvanceItems[i] = (lastGlyph.xadvance + lastGlyph.getKerning(lastChars[i])) * scaleX;
+		}
+		Glyph lastGlyph = (Glyph)glyphItems[length - 1];
+		xAdvanceItems[length] = (lastGlyph.xoffset + lastGlyph.width) * scaleX - fontData.padRight;
+
+		float width = 0;
+		for (int i = 0; i <= length; i++)
+			width += xAdvanceItems[i];
+		run.width = width;
+		run.x = 0;
+		if ((halign & Align.left) == 0) {
+			float alignShift = targetWidth - width;
+			if ((halign & Align.center) != 0) alignShift /= 2;
+			run.x += alignShift;
+		}
+		this.width = width;
+		this.height = fontData.capHeight;
+		return true;
 	}
 
 	private void truncate (BitmapFontData fontData, GlyphRun run, float targetWidth, String truncate, int widthIndex,
@@ -373,6 +513,8 @@ public class GlyphLayout implements Poolable {
 	public void reset () {
 		Pools.get(GlyphRun.class).freeAll(runs);
 		runs.clear();
+		updatable = false;
+		lastText.clear();
 
 		width = 0;
 		height = 0;
@@ -27,13 +27,13 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.collision.BoundingBox;
 
 public class ParticleEmitter {
-	static private final int UPDATE_SCALE = 1 << 0;
-	static private final int UPDATE_ANGLE = 1 << 1;
-	static private final int UPDATE_ROTATION = 1 << 2;
-	static private final int UPDATE_VELOCITY = 1 << 3;
-	static private final int UPDATE_WIND = 1 << 4;
-	static private final int UPDATE_GRAVITY = 1 << 5;
-	static private final int UPDATE_TINT = 1 << 6;
+	static final int UPDATE_SCALE = 1 << 0;
+	static final int UPDATE_ANGLE = 1 << 1;
+	static final int UPDATE_ROTATION = 1 << 2;
+	static final int UPDATE_VELOCITY = 1 << 3;
+	static final int UPDATE_WIND = 1 << 4;
+	static final int UPDATE_GRAVITY = 1 << 5;
+	static final int UPDATE_TINT = 1 << 6;
 
 	private RangedNumericValue delayValue = new RangedNumericValue();
 	private ScaledNumericValue lifeOffsetValue = new ScaledNumericValue();
@@ -54,26 +54,28 @@ public class ParticleEmitter {
 	private ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
 	private SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
 
-	private float accumulator;
+	float accumulator;
 	private Sprite sprite;
 	private Particle[] particles;
-	private int minParticleCount, maxParticleCount = 4;
-	private float x, y;
+	private int minParticleCount;
+	int maxParticleCount = 4;
+	float x, y;
 	private String name;
 	private String imagePath;
-	private int activeCount;
+	int activeCount;
 	private boolean[] active;
 	private boolean firstUpdate;
-	private boolean flipX, flipY;
-	private int updateFlags;
+	boolean flipX, flipY;
+	int updateFlags;
 	private boolean allowCompletion;
 	private BoundingBox bounds;
 
-	private int emission, emissionDiff, emissionDelta;
-	private int lifeOffset, lifeOffsetDiff;
-	private int life, lifeDiff;
-	private float spawnWidth, spawnWidthDiff;
-	private float spawnHeight, spawnHeightDiff;
+	private int emission, emissionDiff;
+	int emissionDelta;
+	int lifeOffset, lifeOffsetDiff;
+	int life, lifeDiff;
+	float spawnWidth, spawnWidthDiff;
+	float spawnHeight, spawnHeightDiff;
 	public float duration = 1, durationTimer;
 	private float delay, delayTimer;
 
@@ -184,40 +186,7 @@ public class ParticleEmitter {
 		int deltaMillis = (int)accumulator;
 		accumulator -= deltaMillis;
 
-		if (delayTimer < delay) {
-			delayTimer += deltaMillis;
-		} else {
-			boolean done = false;
-			if (firstUpdate) {
-				firstUpdate = false;
-				addParticle();
-			}
-
-			if (durationTimer < duration)
-				durationTimer += deltaMillis;
-			else {
-				if (!continuous || allowCompletion)
-					done = true;
-				else
-					restart();
-			}
-
-			if (!done) {
-				emissionDelta += deltaMillis;
-				float emissionTime = emission + emissionDiff * emissionValue.getScale(durationTimer / (float)duration);
-				if (emissionTime > 0) {
-					emissionTime = 1000 / emissionTime;
-					if (emissionDelta >= emissionTime) {
-						int emitCount = (int)(emissionDelta / emissionTime);
-						emitCount = Math.min(emitCount, maxParticleCount - activeCount);
-						emissionDelta -= emitCount * emissionTime;
-						emissionDelta %= emissionTime;
-						addParticles(emitCount);
-					}
-				}
-				if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
-			}
-		}
+		emit(deltaMillis);
 
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
@@ -289,6 +258,11 @@ public class ParticleEmitter {
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
+		emit(deltaMillis);
+	}
+
+	/** Advances the delay and duration timers and adds the particles emitted in the specified time. */
+	void emit (int deltaMillis) {
 		if (delayTimer < delay) {
 			delayTimer += deltaMillis;
 			return;
@@ -600,7 +574,7 @@ public class ParticleEmitter {
 
 	public void setSprite (Sprite sprite) {
 		this.sprite = sprite;
-		if (sprite == null) return;
+		if (sprite == null || particles == null) return;
 		float originX = sprite.getOriginX();
 		float originY = sprite.getOriginY();
 		Texture texture = sprite.getTexture();
@@ -166,8 +166,8 @@ public class PixmapPacker implements Disposable {
 		} else
 			current.dirty = true;
 
-		Blending blending = Pixmap.getBlending();
-		Pixmap.setBlending(Blending.None);
+		Blending blending = current.image.getBlending();
+		current.image.setBlending(Blending.None);
 
 		current.image.drawPixmap(image, rectX, rectY);
 
@@ -185,7 +185,7 @@ public class PixmapPacker implements Disposable {
 			current.image.drawPixmap(image, imageWidth - 1, 0, 1, imageHeight, rectX + rectWidth, rectY, 1, rectHeight);
 		}
 
-		Pixmap.setBlending(blending);
+		current.image.setBlending(blending);
 
 		return rect;
 	}
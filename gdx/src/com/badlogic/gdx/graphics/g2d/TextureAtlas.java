@@ -51,6 +51,8 @@ public class TextureAtlas implements Disposable {
 
 	private final ObjectSet<Texture> textures = new ObjectSet(4);
 	private final Array<AtlasRegion> regions = new Array();
+	/** Maps region names to the regions with that name, in the same order as {@link #regions}. */
+	private final ObjectMap<String, Array<AtlasRegion>> namedRegions = new ObjectMap();
 
 	public static class TextureAtlasData {
 		public static class Page {
@@ -268,10 +270,20 @@ public class TextureAtlas implements Disposable {
 			atlasRegion.splits = region.splits;
 			atlasRegion.pads = region.pads;
 			if (region.flip) atlasRegion.flip(false, true);
-			regions.add(atlasRegion);
+			add(atlasRegion);
 		}
 	}
 
+	private void add (AtlasRegion region) {
+		regions.add(region);
+		Array<AtlasRegion> named = namedRegions.get(region.name);
+		if (named == null) {
+			named = new Array(1);
+			namedRegions.put(region.name, named);
+		}
+		named.add(region);
+	}
+
 	/** Adds a region to the atlas. The specified texture will be disposed when the atlas is disposed. */
 	public AtlasRegion addRegion (String name, Texture texture, int x, int y, int width, int height) {
 		textures.add(texture);
@@ -280,7 +292,7 @@ public class TextureAtlas implements Disposable {
 		region.originalWidth = width;
 		region.originalHeight = height;
 		region.index = -1;
-		regions.add(region);
+		add(region);
 		return region;
 	}
 
@@ -290,44 +302,55 @@ public class TextureAtlas implements Disposable {
 			textureRegion.getRegionWidth(), textureRegion.getRegionHeight());
 	}
 
-	/** Returns all regions in the atlas. */
+	/** Returns all regions in the atlas. Regions must be added using {@link #addRegion(String, TextureRegion)} rather than by
+	 * modifying the returned array, else they can't be found by name. */
 	public Array<AtlasRegion> getRegions () {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the result
-	 * should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name. This method uses a hash lookup to find the region.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
-		return null;
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return null;
+		return named.first();
 	}
 
-	/** Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index. This method uses a hash lookup to find the regions with
+	 * the name.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return region;
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return null;
+		for (int i = 0, n = named.size; i < n; i++) {
+			AtlasRegion region = named.get(i);
+			if (region.index == index) return region;
 		}
 		return null;
 	}
 
-	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple times. */
+	/** Returns copies of all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This
+	 * method allocates a new array and regions, so the result should be cached rather than calling this method multiple times.
+	 * @see #findRegions(String, Array) */
 	public Array<AtlasRegion> findRegions (String name) {
-		Array<AtlasRegion> matched = new Array();
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(new AtlasRegion(region));
-		}
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return new Array();
+		Array<AtlasRegion> matched = new Array(named.size);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(new AtlasRegion(named.get(i)));
 		return matched;
 	}
 
+	/** Adds all regions with the specified name to the specified array, ordered by smallest to largest {@link AtlasRegion#index
+	 * index}. Unlike {@link #findRegions(String)} this does not allocate. The regions are the atlas' own instances, not copies, so
+	 * they should not be modified.
+	 * @return The specified array. */
+	public Array<AtlasRegion> findRegions (String name, Array<AtlasRegion> out) {
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named != null) out.addAll(named);
+		return out;
+	}
+
 	/** Returns all regions in the atlas as sprites. This method creates a new sprite for each region, so the result should be
 	 * stored rather than calling this method multiple times.
 	 * @see #createSprite(String) */
@@ -339,39 +362,34 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite,
+	 * so the result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null. */
 	public Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		return newSprite(region);
 	}
 
-	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find the
-	 * region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index as a sprite. This method constructs a new sprite, so the
+	 * result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null.
 	 * @see #createSprite(String) */
 	public Sprite createSprite (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return newSprite(regions.get(i));
-		}
-		return null;
+		AtlasRegion region = findRegion(name, index);
+		if (region == null) return null;
+		return newSprite(region);
 	}
 
 	/** Returns all regions with the specified name as sprites, ordered by smallest to largest {@link AtlasRegion#index index}. This
-	 * method uses string comparison to find the regions and constructs new sprites, so the result should be cached rather than
-	 * calling this method multiple times.
+	 * method constructs new sprites, so the result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public Array<Sprite> createSprites (String name) {
 		Array<Sprite> matched = new Array();
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(newSprite(region));
-		}
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return matched;
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(newSprite(named.get(i)));
 		return matched;
 	}
 
@@ -389,21 +407,17 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a {@link NinePatch}. The region must have been packed with
-	 * ninepatch splits. This method uses string comparison to find the region and constructs a new ninepatch, so the result should
-	 * be cached rather than calling this method multiple times.
+	 * ninepatch splits. This method constructs a new ninepatch, so the result should be cached rather than calling this method
+	 * multiple times.
 	 * @return The ninepatch, or null. */
 	public NinePatch createPatch (String name) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) {
-				int[] splits = region.splits;
-				if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
-				NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
-				if (region.pads != null) patch.setPadding(region.pads[0], region.pads[1], region.pads[2], region.pads[3]);
-				return patch;
-			}
-		}
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		int[] splits = region.splits;
+		if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
+		NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
+		if (region.pads != null) patch.setPadding(region.pads[0], region.pads[1], region.pads[2], region.pads[3]);
+		return patch;
 	}
 
 	/** @return the textures of the pages, unordered */
@@ -19,16 +19,23 @@ package com.badlogic.gdx.graphics.g3d;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
 import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.BonePalette;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.FrustumCuller;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.StateRenderableSorter;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Pool;
 
 /** Batches {@link Renderable} instances, fetches {@link Shader}s for them, sorts them and then renders them. Fetching the shaders
@@ -39,6 +46,12 @@ import com.badlogic.gdx.utils.Pool;
  * 
  * To provide multiple {@link Renderable}s at once a {@link RenderableProvider} can be used, e.g. a {@link ModelInstance}.
  * 
+ * With OpenGL ES 3.0, {@link #setInstancing(boolean) instancing} can be enabled to render renderables which share the same mesh
+ * part, material, environment and shader using a single instanced draw call.
+ * 
+ * With {@link #setCulling(boolean) culling} enabled, the parts of {@link ModelInstance}s outside of the camera's frustum are not
+ * rendered.
+ * 
  * @author xoppa, badlogic */
 public class ModelBatch implements Disposable {
 	protected static class RenderablePool extends Pool<Renderable> {
@@ -77,6 +90,16 @@ public class ModelBatch implements Disposable {
 	protected final ShaderProvider shaderProvider;
 	/** the {@link RenderableSorter} **/
 	protected final RenderableSorter sorter;
+	private boolean instancing;
+	private int maxInstances = 1024;
+	private float[] instanceData = new float[0];
+	/** The instance buffers of the meshes rendered instanced, only attached to the mesh while it is drawn. Kept until disposed. */
+	private final ObjectMap<Mesh, Mesh> instanceBuffers = new ObjectMap();
+	/** Attached to meshes while fetching their shader, so the {@link ShaderProvider} provides the instanced variant. */
+	private Mesh instanceProbe;
+	private FrustumCuller culler;
+	private boolean culling;
+	private int culled;
 
 	/** Construct a ModelBatch, using this constructor makes you responsible for calling context.begin() and context.end() yourself.
 	 * @param context The {@link RenderContext} to use.
@@ -156,6 +179,7 @@ public class ModelBatch implements Disposable {
 	public void begin (final Camera cam) {
 		if (camera != null) throw new GdxRuntimeException("Call end() first.");
 		camera = cam;
+		culled = 0;
 		if (ownContext) context.begin();
 	}
 
@@ -198,10 +222,109 @@ public class ModelBatch implements Disposable {
 		return sorter;
 	}
 
+	/** Sets whether renderables without bones are rendered using instanced draw calls. When enabled, the shader of those
+	 * renderables is fetched while instance attributes are attached to their {@link Mesh} (see
+	 * {@link Mesh#setInstances(Mesh)}), so the {@link ShaderProvider} can provide a shader for the instanced variant. Only
+	 * renderables which get a {@link DefaultShader} reading the instance attributes are rendered instanced. On flush, renderables
+	 * which are adjacent after sorting and share the same mesh part, material, environment and shader are rendered with a single
+	 * draw call, using an instance buffer of this batch holding their world transforms. Use a sorter which groups renderables by
+	 * state, like {@link StateRenderableSorter}, to benefit from this. The instance buffer is only attached to the mesh during
+	 * that draw call, so the mesh is rendered normally everywhere else.
+	 * <p>
+	 * The instanced shaders derive the normal matrix from the world transform, which is only correct without non-uniform scaling,
+	 * so renderables with a non-uniformly scaled world transform are rendered without instancing. Meshes backed by vertex arrays
+	 * are never instanced. Requires OpenGL ES 3.0, ignored otherwise.
+	 * @param instancing Whether to use instancing for the renderables added after this call. */
+	public void setInstancing (boolean instancing) {
+		this.instancing = instancing && Gdx.gl30 != null;
+	}
+
+	/** @return whether instancing is enabled, see {@link #setInstancing(boolean)}. */
+	public boolean isInstancing () {
+		return instancing;
+	}
+
+	/** @param maxInstances The number of instances of the instance buffers of this batch, larger groups of renderables are split
+	 *           over multiple draw calls. Only affects meshes which weren't rendered instanced by this batch yet. Defaults to
+	 *           1024. */
+	public void setMaxInstances (int maxInstances) {
+		if (maxInstances < 1) throw new IllegalArgumentException("maxInstances must be > 0: " + maxInstances);
+		this.maxInstances = maxInstances;
+	}
+
+	public int getMaxInstances () {
+		return maxInstances;
+	}
+
+	/** Sets whether the parts of {@link ModelInstance}s outside of the frustum of the camera are culled by the render methods
+	 * taking a {@link RenderableProvider}, using a {@link FrustumCuller}. The bounds of the mesh parts are calculated when first
+	 * needed and cached in the {@link com.badlogic.gdx.graphics.g3d.model.MeshPart}. Skinned parts are never culled.
+	 * {@link ModelInstance#getRenderables(Array, Pool)} is not called for culled instances, so disable culling when it is
+	 * overridden. Disabled by default.
+	 * @param culling Whether to cull the instances added after this call. */
+	public void setCulling (boolean culling) {
+		this.culling = culling;
+		if (culling && culler == null) culler = new FrustumCuller();
+	}
+
+	/** @return whether culling is enabled, see {@link #setCulling(boolean)}. */
+	public boolean isCulling () {
+		return culling;
+	}
+
+	/** @return the number of renderables culled since the last call to {@link #begin(Camera)}. */
+	public int getCulledCount () {
+		return culled;
+	}
+
+	/** Adds the renderables of the provider, without those outside of the frustum of the camera when culling is enabled. */
+	private void getRenderables (final RenderableProvider renderableProvider) {
+		if (culling && renderableProvider instanceof ModelInstance)
+			culled += culler.getRenderables((ModelInstance)renderableProvider, camera.frustum, renderables, renderablesPool);
+		else
+			renderableProvider.getRenderables(renderables, renderablesPool);
+	}
+
+	/** Fetches the shader for the renderable from the {@link ShaderProvider}. If instancing is enabled and the renderable can be
+	 * instanced, the shader for the instanced variant is fetched first and used if it is an instanced {@link DefaultShader}. */
+	protected Shader getShader (final Renderable renderable) {
+		final Mesh mesh = renderable.mesh;
+		if (instancing && renderable.bones == null && !mesh.isInstanced() && mesh.canInstance()
+			&& isUniformScale(renderable.worldTransform)) {
+			if (instanceProbe == null)
+				instanceProbe = new Mesh(VertexDataType.VertexBufferObject, false, 1, 0, DefaultShader.createInstanceAttributes());
+			mesh.setInstances(instanceProbe);
+			final Shader shader = shaderProvider.getShader(renderable);
+			mesh.setInstances(null);
+			if (isInstanced(shader)) return shader;
+		}
+		return shaderProvider.getShader(renderable);
+	}
+
+	private static boolean isInstanced (final Shader shader) {
+		return shader instanceof DefaultShader && ((DefaultShader)shader).isInstanced();
+	}
+
+	/** @return whether the upper left 3x3 part of the matrix is a rotation with uniform scaling, so it can be used as normal
+	 *         matrix. */
+	private static boolean isUniformScale (final Matrix4 transform) {
+		final float[] m = transform.val;
+		final float xx = m[Matrix4.M00] * m[Matrix4.M00] + m[Matrix4.M10] * m[Matrix4.M10] + m[Matrix4.M20] * m[Matrix4.M20];
+		final float yy = m[Matrix4.M01] * m[Matrix4.M01] + m[Matrix4.M11] * m[Matrix4.M11] + m[Matrix4.M21] * m[Matrix4.M21];
+		final float zz = m[Matrix4.M02] * m[Matrix4.M02] + m[Matrix4.M12] * m[Matrix4.M12] + m[Matrix4.M22] * m[Matrix4.M22];
+		final float xy = m[Matrix4.M00] * m[Matrix4.M01] + m[Matrix4.M10] * m[Matrix4.M11] + m[Matrix4.M20] * m[Matrix4.M21];
+		final float xz = m[Matrix4.M00] * m[Matrix4.M02] + m[Matrix4.M10] * m[Matrix4.M12] + m[Matrix4.M20] * m[Matrix4.M22];
+		final float yz = m[Matrix4.M01] * m[Matrix4.M02] + m[Matrix4.M11] * m[Matrix4.M12] + m[Matrix4.M21] * m[Matrix4.M22];
+		final float tolerance = xx * 0.0001f;
+		return Math.abs(xx - yy) <= tolerance && Math.abs(xx - zz) <= tolerance && Math.abs(xy) <= tolerance
+			&& Math.abs(xz) <= tolerance && Math.abs(yz) <= tolerance;
+	}
+
 	/** Flushes the batch, causing all {@link Renderable}s in the batch to be rendered. Can only be called after the call to
 	 * {@link #begin(Camera)} and before the call to {@link #end()}. */
 	public void flush () {
 		sorter.sort(camera, renderables);
+		addBones();
 		Shader currentShader = null;
 		for (int i = 0; i < renderables.size; i++) {
 			final Renderable renderable = renderables.get(i);
@@ -210,13 +333,72 @@ public class ModelBatch implements Disposable {
 				currentShader = renderable.shader;
 				currentShader.begin(camera, context);
 			}
-			currentShader.render(renderable);
+			if (isInstanced(currentShader) && !renderable.mesh.isInstanced())
+				i = renderInstanced(currentShader, i);
+			else
+				currentShader.render(renderable);
 		}
 		if (currentShader != null) currentShader.end();
 		renderablesPool.flush();
 		renderables.clear();
 	}
 
+	/** Adds the bones of all renderables to the {@link BonePalette} of their shader, if any, so the palette is uploaded once. */
+	private void addBones () {
+		for (int i = 0, n = renderables.size; i < n; i++) {
+			final Renderable renderable = renderables.get(i);
+			if (renderable.bones == null || !(renderable.shader instanceof DefaultShader)) continue;
+			final BonePalette palette = ((DefaultShader)renderable.shader).getBonePalette();
+			if (palette != null) palette.add(renderable.bones);
+		}
+	}
+
+	/** Renders the renderable at the specified index together with the following renderables that can be drawn by the same
+	 * instanced draw call, writing their world transforms to the instance buffer of the mesh.
+	 * @return The index of the last renderable rendered. */
+	private int renderInstanced (final Shader shader, final int start) {
+		final Array<Renderable> renderables = this.renderables;
+		final Renderable first = renderables.get(start);
+		final Mesh mesh = first.mesh;
+		Mesh buffer = instanceBuffers.get(mesh);
+		if (buffer == null) {
+			buffer = new Mesh(VertexDataType.VertexBufferObject, false, maxInstances, 0, DefaultShader.createInstanceAttributes());
+			instanceBuffers.put(mesh, buffer);
+		}
+		int end = start + 1;
+		final int max = Math.min(renderables.size, start + buffer.getMaxVertices());
+		while (end < max && canInstance(first, renderables.get(end)))
+			end++;
+
+		final int count = end - start;
+		if (instanceData.length < count * 16) instanceData = new float[Math.max(count, buffer.getMaxVertices()) * 16];
+		final float[] data = instanceData;
+		Renderable visible = null;
+		int n = 0;
+		for (int i = start; i < end; i++) {
+			final Renderable renderable = renderables.get(i);
+			// Zero scaled renderables are skipped, like the non-instanced path does.
+			if (renderable.worldTransform.det3x3() == 0) continue;
+			System.arraycopy(renderable.worldTransform.val, 0, data, n, 16);
+			n += 16;
+			if (visible == null) visible = renderable;
+		}
+		if (visible != null) {
+			buffer.setVertices(data, 0, n);
+			mesh.setInstances(buffer);
+			shader.render(visible);
+			mesh.setInstances(null);
+		}
+		return end - 1;
+	}
+
+	private static boolean canInstance (final Renderable first, final Renderable other) {
+		return other.mesh == first.mesh && other.shader == first.shader && other.meshPartOffset == first.meshPartOffset
+			&& other.meshPartSize == first.meshPartSize && other.primitiveType == first.primitiveType
+			&& other.environment == first.environment && other.bones == null && first.bones == null
+			&& (other.material == first.material || (other.material != null && other.material.equals(first.material)));
+	}
+
 	/** End rendering one or more {@link Renderable}s. Must be called after a call to {@link #begin(Camera)}. This will flush the
 	 * batch, causing any renderables provided using one of the render() methods to be rendered. After a call to this method the
 	 * OpenGL context can be altered again. */
@@ -230,7 +412,7 @@ public class ModelBatch implements Disposable {
 	 * Can only be called after a call to {@link #begin(Camera)} and before a call to {@link #end()}.
 	 * @param renderable The {@link Renderable} to be added. */
 	public void render (final Renderable renderable) {
-		renderable.shader = shaderProvider.getShader(renderable);
+		renderable.shader = getShader(renderable);
 		renderable.mesh.setAutoBind(false);
 		renderables.add(renderable);
 	}
@@ -240,10 +422,10 @@ public class ModelBatch implements Disposable {
 	 * @param renderableProvider the renderable provider */
 	public void render (final RenderableProvider renderableProvider) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
-			renderable.shader = shaderProvider.getShader(renderable);
+			renderable.shader = getShader(renderable);
 		}
 	}
 
@@ -262,11 +444,11 @@ public class ModelBatch implements Disposable {
 	 * @param environment the {@link Environment} to use for the renderables */
 	public void render (final RenderableProvider renderableProvider, final Environment environment) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
-			renderable.shader = shaderProvider.getShader(renderable);
+			renderable.shader = getShader(renderable);
 		}
 	}
 
@@ -287,7 +469,7 @@ public class ModelBatch implements Disposable {
 	 * @param shader the shader to use for the renderables */
 	public void render (final RenderableProvider renderableProvider, final Shader shader) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.shader = shader;
@@ -314,7 +496,7 @@ public class ModelBatch implements Disposable {
 	 * @param shader the shader to use for the renderables */
 	public void render (final RenderableProvider renderableProvider, final Environment environment, final Shader shader) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
@@ -339,5 +521,10 @@ public class ModelBatch implements Disposable {
 	@Override
 	public void dispose () {
 		shaderProvider.dispose();
+		for (Mesh buffer : instanceBuffers.values())
+			buffer.dispose();
+		instanceBuffers.clear();
+		if (instanceProbe != null) instanceProbe.dispose();
+		instanceProbe = null;
 	}
 }
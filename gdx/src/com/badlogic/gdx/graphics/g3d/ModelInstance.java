@@ -326,6 +326,12 @@ public class ModelInstance implements RenderableProvider {
 					nodeAnim.translation = nanim.translation;
 					nodeAnim.rotation = nanim.rotation;
 					nodeAnim.scaling = nanim.scaling;
+					nodeAnim.translationTimes = nanim.translationTimes;
+					nodeAnim.translationValues = nanim.translationValues;
+					nodeAnim.rotationTimes = nanim.rotationTimes;
+					nodeAnim.rotationValues = nanim.rotationValues;
+					nodeAnim.scalingTimes = nanim.scalingTimes;
+					nodeAnim.scalingValues = nanim.scalingValues;
 				} else {
 					if (nanim.translation != null) {
 						nodeAnim.translation = new Array<NodeKeyframe<Vector3>>();
@@ -342,9 +348,20 @@ public class ModelInstance implements RenderableProvider {
 						for (final NodeKeyframe<Vector3> kf : nanim.scaling)
 							nodeAnim.scaling.add(new NodeKeyframe<Vector3>(kf.keytime, kf.value));
 					}
+					if (nanim.translationTimes != null) {
+						nodeAnim.translationTimes = nanim.translationTimes.clone();
+						nodeAnim.translationValues = nanim.translationValues.clone();
+					}
+					if (nanim.rotationTimes != null) {
+						nodeAnim.rotationTimes = nanim.rotationTimes.clone();
+						nodeAnim.rotationValues = nanim.rotationValues.clone();
+					}
+					if (nanim.scalingTimes != null) {
+						nodeAnim.scalingTimes = nanim.scalingTimes.clone();
+						nodeAnim.scalingValues = nanim.scalingValues.clone();
+					}
 				}
-				if (nodeAnim.translation != null || nodeAnim.rotation != null || nodeAnim.scaling != null)
-					animation.nodeAnimations.add(nodeAnim);
+				if (nodeAnim.hasKeyframes()) animation.nodeAnimations.add(nodeAnim);
 			}
 			if (animation.nodeAnimations.size > 0) animations.add(animation);
 		}
@@ -16,6 +16,9 @@
 
 package com.badlogic.gdx.graphics.g3d.loader;
 
+import java.io.DataInputStream;
+import java.io.IOException;
+
 import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.assets.loaders.ModelLoader;
 import com.badlogic.gdx.files.FileHandle;
@@ -40,7 +43,12 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ArrayMap;
 import com.badlogic.gdx.utils.BaseJsonReader;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
 
 public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 	public static final short VERSION_HI = 0;
@@ -56,13 +64,27 @@ public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 		this.reader = reader;
 	}
 
+	/** Returns a new loader with a new reader of the same class, as readers can't parse on several threads at once. */
+	@Override
+	public G3dModelLoader newInstance () {
+		try {
+			BaseJsonReader copy = ClassReflection.newInstance(reader.getClass());
+			if (reader instanceof UBJsonReader) ((UBJsonReader)copy).oldFormat = ((UBJsonReader)reader).oldFormat;
+			return new G3dModelLoader(copy, getResolver());
+		} catch (ReflectionException ex) {
+			throw new GdxRuntimeException("Reader can't be copied: " + reader.getClass().getName(), ex);
+		}
+	}
+
 	@Override
 	public ModelData loadModelData (FileHandle fileHandle, ModelLoader.ModelParameters parameters) {
 		return parseModel(fileHandle);
 	}
 
 	public ModelData parseModel (FileHandle handle) {
-		JsonValue json = reader.parse(handle);
+		// A plain UBJsonReader is replaced so vertices and indices are read in bulk, without a JsonValue per element.
+		MeshDataReader meshReader = reader.getClass() == UBJsonReader.class ? new MeshDataReader((UBJsonReader)reader) : null;
+		JsonValue json = (meshReader != null ? meshReader : reader).parse(handle);
 		ModelData model = new ModelData();
 		JsonValue version = json.require("version");
 		model.version[0] = version.getShort(0);
@@ -71,14 +93,14 @@ public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 			throw new GdxRuntimeException("Model version not supported");
 
 		model.id = json.getString("id", "");
-		parseMeshes(model, json);
+		parseMeshes(model, json, meshReader);
 		parseMaterials(model, json, handle.parent().path());
 		parseNodes(model, json);
 		parseAnimations(model, json);
 		return model;
 	}
 
-	private void parseMeshes (ModelData model, JsonValue json) {
+	private void parseMeshes (ModelData model, JsonValue json, MeshDataReader meshReader) {
 		JsonValue meshes = json.get("meshes");
 		if (meshes != null) {
 
@@ -91,7 +113,9 @@ public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 
 				JsonValue attributes = mesh.require("attributes");
 				jsonMesh.attributes = parseAttributes(attributes);
-				jsonMesh.vertices = mesh.require("vertices").asFloatArray();
+				JsonValue vertices = mesh.require("vertices");
+				jsonMesh.vertices = meshReader != null ? meshReader.vertices.remove(vertices) : null;
+				if (jsonMesh.vertices == null) jsonMesh.vertices = vertices.asFloatArray();
 
 				JsonValue meshParts = mesh.require("parts");
 				Array<ModelMeshPart> parts = new Array<ModelMeshPart>();
@@ -114,7 +138,9 @@ public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 					}
 					jsonPart.primitiveType = parseType(type);
 
-					jsonPart.indices = meshPart.require("indices").asShortArray();
+					JsonValue indices = meshPart.require("indices");
+					jsonPart.indices = meshReader != null ? meshReader.indices.remove(indices) : null;
+					if (jsonPart.indices == null) jsonPart.indices = indices.asShortArray();
 					parts.add(jsonPart);
 				}
 				jsonMesh.parts = parts.toArray(ModelMeshPart.class);
@@ -465,4 +491,30 @@ public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 			}
 		}
 	}
+
+	/** Reads the vertices and indices fields of a mesh directly into primitive arrays. Their JsonValues are left empty and map to
+	 * the arrays instead. */
+	static private class MeshDataReader extends UBJsonReader {
+		final IdentityMap<JsonValue, float[]> vertices = new IdentityMap();
+		final IdentityMap<JsonValue, short[]> indices = new IdentityMap();
+
+		public MeshDataReader (UBJsonReader reader) {
+			oldFormat = reader.oldFormat;
+		}
+
+		@Override
+		protected JsonValue parseField (DataInputStream din, String name, byte type) throws IOException {
+			if (name.equals("vertices")) {
+				JsonValue value = new JsonValue(ValueType.array);
+				vertices.put(value, parseFloatArray(din, type));
+				return value;
+			}
+			if (name.equals("indices")) {
+				JsonValue value = new JsonValue(ValueType.array);
+				indices.put(value, parseShortArray(din, type));
+				return value;
+			}
+			return super.parseField(din, name, type);
+		}
+	}
 }
@@ -31,4 +31,10 @@ public class Animation {
 	public float duration;
 	/** the animation curves for individual nodes **/
 	public Array<NodeAnimation> nodeAnimations = new Array<NodeAnimation>();
+
+	/** Compresses the keyframes of all node animations, see {@link NodeAnimation#compress(float)}. */
+	public void compress (float tolerance) {
+		for (int i = 0, n = nodeAnimations.size; i < n; i++)
+			nodeAnimations.get(i).compress(tolerance);
+	}
 }
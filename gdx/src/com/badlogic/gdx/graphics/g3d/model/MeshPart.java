@@ -19,6 +19,8 @@ package com.badlogic.gdx.graphics.g3d.model;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
 
 /** A MeshPart is composed of a subset of vertices of a {@link Mesh}, along with the primitive type. The vertices subset is
  * described by an offset and size. When the mesh is indexed (which is when {@link Mesh#getNumIndices()} > 0), then the
@@ -51,6 +53,12 @@ public class MeshPart {
 	public int numVertices;
 	/** The Mesh the part references, also stored in {@link Model} **/
 	public Mesh mesh;
+	/** The center of the bounding box of the part, in the coordinates of the mesh, calculated by {@link #update()}. **/
+	public final Vector3 center = new Vector3();
+	/** Half the dimensions of the bounding box of the part, calculated by {@link #update()}. **/
+	public final Vector3 halfExtents = new Vector3();
+	/** The radius of the bounding sphere of the bounding box of the part, -1 until {@link #update()} is called. **/
+	public float radius = -1;
 
 	/** Construct a new MeshPart, with null values. The MeshPart is unusable until you set all members. **/
 	public MeshPart () {
@@ -74,6 +82,22 @@ public class MeshPart {
 	 * @param copyFrom The MeshPart to copy. */
 	public MeshPart (final MeshPart copyFrom) {
 		this(copyFrom.id, copyFrom.mesh, copyFrom.indexOffset, copyFrom.numVertices, copyFrom.primitiveType);
+		center.set(copyFrom.center);
+		halfExtents.set(copyFrom.halfExtents);
+		radius = copyFrom.radius;
+	}
+
+	/** Calculates the {@link #center}, {@link #halfExtents} and {@link #radius} from the vertices of the part. Must be called again
+	 * when the vertices or the indices of the part change. For a mesh without indices the bounds of the whole mesh are used. */
+	public void update () {
+		final BoundingBox bounds = new BoundingBox();
+		if (mesh.getNumIndices() > 0)
+			mesh.calculateBoundingBox(bounds, indexOffset, numVertices);
+		else
+			mesh.calculateBoundingBox(bounds);
+		bounds.getCenter(center);
+		bounds.getDimensions(halfExtents).scl(0.5f);
+		radius = halfExtents.len();
 	}
 
 	/** Compares this MeshPart to the specified MeshPart and returns true if they both reference the same {@link Mesh} and the
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics.g3d.model;
 
 import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
@@ -33,4 +34,146 @@ public class NodeAnimation {
 	public Array<NodeKeyframe<Quaternion>> rotation = null;
 	/** the scaling keyframes if any (might be null), sorted by time ascending **/
 	public Array<NodeKeyframe<Vector3>> scaling = null;
+
+	/** the keytimes of the packed translation keyframes if any (might be null), used instead of {@link #translation}, see
+	 * {@link #compress(float)} **/
+	public float[] translationTimes = null;
+	/** the x, y and z values of the packed translation keyframes **/
+	public float[] translationValues = null;
+	/** the keytimes of the packed rotation keyframes if any (might be null), used instead of {@link #rotation} **/
+	public float[] rotationTimes = null;
+	/** the x, y, z and w values of the packed rotation keyframes, quantised by {@link #quantize(float)} **/
+	public short[] rotationValues = null;
+	/** the keytimes of the packed scaling keyframes if any (might be null), used instead of {@link #scaling} **/
+	public float[] scalingTimes = null;
+	/** the x, y and z values of the packed scaling keyframes **/
+	public float[] scalingValues = null;
+
+	/** @return whether this node animation has any translation, rotation or scaling keyframes. */
+	public boolean hasKeyframes () {
+		return translation != null || rotation != null || scaling != null || translationTimes != null || rotationTimes != null
+			|| scalingTimes != null;
+	}
+
+	/** Replaces the keyframe arrays by packed arrays of primitives and removes the keyframes which the interpolation of the
+	 * remaining keyframes reproduces within the tolerance. The tolerance is compared to every component of the translation and
+	 * scale vectors and of the (unit) rotation quaternion. Rotations are stored as 16 bits per component. The keyframe arrays are
+	 * set to null afterwards.
+	 * @param tolerance the maximum error allowed per component, 0 to only remove exactly redundant keyframes. */
+	public void compress (float tolerance) {
+		if (translation != null) {
+			final int n = translation.size;
+			final float[] times = new float[n], values = new float[n * 3];
+			for (int i = 0; i < n; i++) {
+				final NodeKeyframe<Vector3> kf = translation.get(i);
+				times[i] = kf.keytime;
+				values[i * 3] = kf.value.x;
+				values[i * 3 + 1] = kf.value.y;
+				values[i * 3 + 2] = kf.value.z;
+			}
+			final int count = reduce(times, values, n, 3, tolerance);
+			translationTimes = copy(times, count);
+			translationValues = copy(values, count * 3);
+			translation = null;
+		}
+		if (rotation != null) {
+			final int n = rotation.size;
+			final float[] times = new float[n], values = new float[n * 4];
+			final Quaternion q = new Quaternion();
+			for (int i = 0; i < n; i++) {
+				final NodeKeyframe<Quaternion> kf = rotation.get(i);
+				times[i] = kf.keytime;
+				q.set(kf.value).nor();
+				// Keep neighbouring keyframes in the same hemisphere, so reduction compares the rotations slerp interpolates.
+				final int p = i * 4 - 4;
+				if (i > 0 && q.x * values[p] + q.y * values[p + 1] + q.z * values[p + 2] + q.w * values[p + 3] < 0)
+					q.set(-q.x, -q.y, -q.z, -q.w);
+				values[i * 4] = q.x;
+				values[i * 4 + 1] = q.y;
+				values[i * 4 + 2] = q.z;
+				values[i * 4 + 3] = q.w;
+			}
+			final int count = reduce(times, values, n, 4, tolerance);
+			rotationTimes = copy(times, count);
+			rotationValues = new short[count * 4];
+			for (int i = 0, c = count * 4; i < c; i++)
+				rotationValues[i] = quantize(values[i]);
+			rotation = null;
+		}
+		if (scaling != null) {
+			final int n = scaling.size;
+			final float[] times = new float[n], values = new float[n * 3];
+			for (int i = 0; i < n; i++) {
+				final NodeKeyframe<Vector3> kf = scaling.get(i);
+				times[i] = kf.keytime;
+				values[i * 3] = kf.value.x;
+				values[i * 3 + 1] = kf.value.y;
+				values[i * 3 + 2] = kf.value.z;
+			}
+			final int count = reduce(times, values, n, 3, tolerance);
+			scalingTimes = copy(times, count);
+			scalingValues = copy(values, count * 3);
+			scaling = null;
+		}
+	}
+
+	/** Removes the keyframes which the linear interpolation of their remaining neighbours reproduces within the tolerance, in
+	 * place. Linear interpolation is used for rotations as well, which slerp between close keyframes matches closely.
+	 * @return the number of remaining keyframes. */
+	private static int reduce (final float[] times, final float[] values, final int count, final int size,
+		final float tolerance) {
+		if (count < 2) return count;
+		int kept = 1, last = 0;
+		for (int i = 1; i < count - 1; i++) {
+			// Keyframe i can be removed if interpolating from the last kept keyframe to keyframe i + 1 reproduces all keyframes
+			// in between. Slots before kept are overwritten, the keyframes from last on are still in place.
+			boolean remove = true;
+			for (int j = last + 1; j <= i && remove; j++)
+				remove = error(times, values, size, last, i + 1, j) <= tolerance;
+			if (!remove) {
+				set(times, values, size, kept++, i);
+				last = i;
+			}
+		}
+		set(times, values, size, kept++, count - 1);
+		if (kept == 2) {
+			float error = 0;
+			for (int c = 0; c < size; c++)
+				error = Math.max(error, Math.abs(values[c] - values[size + c]));
+			if (error <= tolerance) kept = 1;
+		}
+		return kept;
+	}
+
+	private static float error (final float[] times, final float[] values, final int size, final int from, final int to,
+		final int index) {
+		final float alpha = (times[index] - times[from]) / (times[to] - times[from]);
+		float error = 0;
+		for (int c = 0; c < size; c++) {
+			final float start = values[from * size + c];
+			error = Math.max(error, Math.abs(start + (values[to * size + c] - start) * alpha - values[index * size + c]));
+		}
+		return error;
+	}
+
+	private static void set (final float[] times, final float[] values, final int size, final int to, final int from) {
+		times[to] = times[from];
+		System.arraycopy(values, from * size, values, to * size, size);
+	}
+
+	private static float[] copy (final float[] values, final int count) {
+		final float[] result = new float[count];
+		System.arraycopy(values, 0, result, 0, count);
+		return result;
+	}
+
+	/** @return the quaternion component in the range [-1, 1] quantised to 16 bits. */
+	public static short quantize (float value) {
+		return (short)Math.round(MathUtils.clamp(value, -1f, 1f) * Short.MAX_VALUE);
+	}
+
+	/** @return the quaternion component quantised by {@link #quantize(float)}. */
+	public static float dequantize (short value) {
+		return value / (float)Short.MAX_VALUE;
+	}
 }
@@ -19,6 +19,7 @@ package com.badlogic.gdx.graphics.g3d.shaders;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.g3d.Attribute;
@@ -38,6 +39,7 @@ import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
 import com.badlogic.gdx.graphics.g3d.environment.AmbientCubemap;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
 import com.badlogic.gdx.graphics.g3d.environment.PointLight;
+import com.badlogic.gdx.graphics.g3d.utils.BonePalette;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Matrix3;
@@ -60,6 +62,8 @@ public class DefaultShader extends BaseShader {
 		public int numSpotLights = 0;
 		/** The number of bones to use */
 		public int numBones = 12;
+		/** The palette to read the bones from instead of a uniform array of {@link #numBones}, null to use the uniform array. */
+		public BonePalette bonePalette = null;
 		/** */
 		public boolean ignoreUnimplemented = true;
 		/** Set to 0 to disable culling, -1 to inherit from {@link DefaultShader#defaultCullFace} */
@@ -89,6 +93,8 @@ public class DefaultShader extends BaseShader {
 		public final static Uniform projViewWorldTrans = new Uniform("u_projViewWorldTrans");
 		public final static Uniform normalMatrix = new Uniform("u_normalMatrix");
 		public final static Uniform bones = new Uniform("u_bones");
+		public final static Uniform bonePalette = new Uniform("u_bonePalette");
+		public final static Uniform bonePaletteInfo = new Uniform("u_bonePaletteInfo");
 
 		public final static Uniform shininess = new Uniform("u_shininess", FloatAttribute.Shininess);
 		public final static Uniform opacity = new Uniform("u_opacity", BlendingAttribute.Type);
@@ -204,6 +210,23 @@ public class DefaultShader extends BaseShader {
 			}
 		}
 
+		public static class PaletteBones extends LocalSetter {
+			public final BonePalette palette;
+
+			public PaletteBones (final BonePalette palette) {
+				this.palette = palette;
+			}
+
+			@Override
+			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
+				final int offset = palette.add(renderable.bones);
+				shader.set(inputID, palette);
+				palette.upload();
+				shader.set(((DefaultShader)shader).u_bonePaletteInfo, offset, BonePalette.bonesPerRow, 1f / palette.getWidth(),
+					1f / palette.getHeight());
+			}
+		}
+
 		public final static Setter shininess = new LocalSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
@@ -414,6 +437,8 @@ public class DefaultShader extends BaseShader {
 	public final int u_projViewWorldTrans;
 	public final int u_normalMatrix;
 	public final int u_bones;
+	public final int u_bonePalette;
+	public final int u_bonePaletteInfo;
 	// Material uniforms
 	public final int u_shininess;
 	public final int u_opacity;
@@ -463,6 +488,8 @@ public class DefaultShader extends BaseShader {
 	protected final boolean lighting;
 	protected final boolean environmentCubemap;
 	protected final boolean shadowMap;
+	/** Whether the world transform is read from the per instance attributes of the mesh, see {@link #createInstanceAttributes()} */
+	protected final boolean instanced;
 	protected final AmbientCubemap ambientCubemap = new AmbientCubemap();
 	protected final DirectionalLight directionalLights[];
 	protected final PointLight pointLights[];
@@ -502,6 +529,7 @@ public class DefaultShader extends BaseShader {
 		this.environmentCubemap = attributes.has(CubemapAttribute.EnvironmentMap)
 			|| (lighting && attributes.has(CubemapAttribute.EnvironmentMap));
 		this.shadowMap = lighting && renderable.environment.shadowMap != null;
+		this.instanced = renderable.mesh.isInstanced();
 		this.renderable = renderable;
 		attributesMask = attributes.getMask() | optionalAttributes;
 		vertexMask = renderable.mesh.getVertexAttributes().getMask();
@@ -529,8 +557,11 @@ public class DefaultShader extends BaseShader {
 		u_viewWorldTrans = register(Inputs.viewWorldTrans, Setters.viewWorldTrans);
 		u_projViewWorldTrans = register(Inputs.projViewWorldTrans, Setters.projViewWorldTrans);
 		u_normalMatrix = register(Inputs.normalMatrix, Setters.normalMatrix);
-		u_bones = (renderable.bones != null && config.numBones > 0) ? register(Inputs.bones, new Setters.Bones(config.numBones))
-			: -1;
+		final boolean palette = renderable.bones != null && config.bonePalette != null;
+		u_bones = (renderable.bones != null && !palette && config.numBones > 0) ? register(Inputs.bones, new Setters.Bones(
+			config.numBones)) : -1;
+		u_bonePalette = palette ? register(Inputs.bonePalette, new Setters.PaletteBones(config.bonePalette)) : -1;
+		u_bonePaletteInfo = palette ? register(Inputs.bonePaletteInfo) : -1;
 
 		u_shininess = register(Inputs.shininess, Setters.shininess);
 		u_opacity = register(Inputs.opacity);
@@ -596,9 +627,19 @@ public class DefaultShader extends BaseShader {
 		return tmpAttributes;
 	}
 
+	/** Creates the per instance attributes read by the default shaders when the mesh is instanced: the world transform as the four
+	 * columns of {@link Matrix4#val}.
+	 * @see Mesh#enableInstancedRendering(boolean, int, VertexAttribute...) */
+	public static VertexAttribute[] createInstanceAttributes () {
+		return new VertexAttribute[] {new VertexAttribute(Usage.Generic, 4, "a_worldTrans0"),
+			new VertexAttribute(Usage.Generic, 4, "a_worldTrans1"), new VertexAttribute(Usage.Generic, 4, "a_worldTrans2"),
+			new VertexAttribute(Usage.Generic, 4, "a_worldTrans3")};
+	}
+
 	public static String createPrefix (final Renderable renderable, final Config config) {
 		final Attributes attributes = combineAttributes(renderable);
 		String prefix = "";
+		if (renderable.mesh.isInstanced()) prefix += "#define instancedFlag\n";
 		final long attributesMask = attributes.getMask();
 		final long vertexMask = renderable.mesh.getVertexAttributes().getMask();
 		if (and(vertexMask, Usage.Position)) prefix += "#define positionFlag\n";
@@ -664,7 +705,9 @@ public class DefaultShader extends BaseShader {
 			prefix += "#define " + FloatAttribute.ShininessAlias + "Flag\n";
 		if ((attributesMask & FloatAttribute.AlphaTest) == FloatAttribute.AlphaTest)
 			prefix += "#define " + FloatAttribute.AlphaTestAlias + "Flag\n";
-		if (renderable.bones != null && config.numBones > 0) prefix += "#define numBones " + config.numBones + "\n";
+		if (renderable.bones != null && config.bonePalette != null)
+			prefix += "#define bonePaletteFlag\n";
+		else if (renderable.bones != null && config.numBones > 0) prefix += "#define numBones " + config.numBones + "\n";
 		return prefix;
 	}
 
@@ -672,7 +715,19 @@ public class DefaultShader extends BaseShader {
 	public boolean canRender (final Renderable renderable) {
 		final Attributes attributes = combineAttributes(renderable);
 		return (attributesMask == (attributes.getMask() | optionalAttributes))
-			&& (vertexMask == renderable.mesh.getVertexAttributes().getMask()) && (renderable.environment != null) == lighting;
+			&& (vertexMask == renderable.mesh.getVertexAttributes().getMask()) && (renderable.environment != null) == lighting
+			&& renderable.mesh.isInstanced() == instanced;
+	}
+
+	/** @return whether this shader reads the world transform from the per instance attributes of the mesh, in which case all
+	 *         instances of the mesh are rendered with the uniforms of the renderable passed to {@link #render(Renderable)}. */
+	public boolean isInstanced () {
+		return instanced;
+	}
+
+	/** @return the palette the bones are read from, null if this shader doesn't use a palette. */
+	public BonePalette getBonePalette () {
+		return u_bonePalette >= 0 ? config.bonePalette : null;
 	}
 
 	@Override
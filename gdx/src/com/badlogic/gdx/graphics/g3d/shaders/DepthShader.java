@@ -117,6 +117,7 @@ public class DepthShader extends DefaultShader {
 
 	@Override
 	public boolean canRender (Renderable renderable) {
+		if (renderable.mesh.isInstanced() != instanced) return false;
 		final Attributes attributes = combineAttributes(renderable);
 		if (attributes.has(BlendingAttribute.Type)) {
 			if ((attributesMask & BlendingAttribute.Type) != BlendingAttribute.Type)
@@ -125,7 +126,7 @@ public class DepthShader extends DefaultShader {
 				return false;
 		}
 		final boolean skinned = ((renderable.mesh.getVertexAttributes().getMask() & Usage.BoneWeight) == Usage.BoneWeight);
-		if (skinned != (numBones > 0)) return false;
+		if (skinned != (u_bones >= 0 || u_bonePalette >= 0)) return false;
 		if (!skinned) return true;
 		int w = 0;
 		final int n = renderable.mesh.getVertexAttributes().size();
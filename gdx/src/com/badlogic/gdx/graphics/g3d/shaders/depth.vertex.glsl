@@ -1,5 +1,14 @@
 attribute vec3 a_position;
+#ifdef instancedFlag
+attribute vec4 a_worldTrans0;
+attribute vec4 a_worldTrans1;
+attribute vec4 a_worldTrans2;
+attribute vec4 a_worldTrans3;
+uniform mat4 u_projViewTrans;
+#define u_projViewWorldTrans (u_projViewTrans * mat4(a_worldTrans0, a_worldTrans1, a_worldTrans2, a_worldTrans3))
+#else
 uniform mat4 u_projViewWorldTrans;
+#endif //instancedFlag
 
 #if defined(diffuseTextureFlag) && defined(blendedFlag)
 #define blendedTextureFlag
@@ -68,12 +77,37 @@ attribute vec2 a_boneWeight7;
 #endif
 #endif
 
+#if defined(bonePaletteFlag) && defined(boneWeightsFlag)
+#define skinningFlag
+#endif
+
 #if defined(numBones)
 #if numBones > 0
 uniform mat4 u_bones[numBones];
 #endif //numBones
 #endif
 
+#ifdef bonePaletteFlag
+#ifdef GL_ES
+uniform highp sampler2D u_bonePalette;
+#else
+uniform sampler2D u_bonePalette;
+#endif
+// x: index of the first bone, y: bones per row, z: 1 / width, w: 1 / height
+uniform vec4 u_bonePaletteInfo;
+
+mat4 getBone(float index) {
+	float bone = u_bonePaletteInfo.x + index;
+	float row = floor(bone / u_bonePaletteInfo.y);
+	vec2 uv = vec2((bone - row * u_bonePaletteInfo.y) * 4.0 + 0.5, row + 0.5) * u_bonePaletteInfo.zw;
+	vec2 texel = vec2(u_bonePaletteInfo.z, 0.0);
+	return mat4(texture2D(u_bonePalette, uv), texture2D(u_bonePalette, uv + texel), texture2D(u_bonePalette, uv + 2.0 * texel),
+		texture2D(u_bonePalette, uv + 3.0 * texel));
+}
+#else
+#define getBone(index) u_bones[int(index)]
+#endif //bonePaletteFlag
+
 #ifdef PackedDepthFlag
 varying float v_depth;
 #endif //PackedDepthFlag
@@ -86,28 +120,28 @@ void main() {
 	#ifdef skinningFlag
 		mat4 skinning = mat4(0.0);
 		#ifdef boneWeight0Flag
-			skinning += (a_boneWeight0.y) * u_bones[int(a_boneWeight0.x)];
+			skinning += (a_boneWeight0.y) * getBone(a_boneWeight0.x);
 		#endif //boneWeight0Flag
 		#ifdef boneWeight1Flag				
-			skinning += (a_boneWeight1.y) * u_bones[int(a_boneWeight1.x)];
+			skinning += (a_boneWeight1.y) * getBone(a_boneWeight1.x);
 		#endif //boneWeight1Flag
 		#ifdef boneWeight2Flag		
-			skinning += (a_boneWeight2.y) * u_bones[int(a_boneWeight2.x)];
+			skinning += (a_boneWeight2.y) * getBone(a_boneWeight2.x);
 		#endif //boneWeight2Flag
 		#ifdef boneWeight3Flag
-			skinning += (a_boneWeight3.y) * u_bones[int(a_boneWeight3.x)];
+			skinning += (a_boneWeight3.y) * getBone(a_boneWeight3.x);
 		#endif //boneWeight3Flag
 		#ifdef boneWeight4Flag
-			skinning += (a_boneWeight4.y) * u_bones[int(a_boneWeight4.x)];
+			skinning += (a_boneWeight4.y) * getBone(a_boneWeight4.x);
 		#endif //boneWeight4Flag
 		#ifdef boneWeight5Flag
-			skinning += (a_boneWeight5.y) * u_bones[int(a_boneWeight5.x)];
+			skinning += (a_boneWeight5.y) * getBone(a_boneWeight5.x);
 		#endif //boneWeight5Flag
 		#ifdef boneWeight6Flag
-			skinning += (a_boneWeight6.y) * u_bones[int(a_boneWeight6.x)];
+			skinning += (a_boneWeight6.y) * getBone(a_boneWeight6.x);
 		#endif //boneWeight6Flag
 		#ifdef boneWeight7Flag
-			skinning += (a_boneWeight7.y) * u_bones[int(a_boneWeight7.x)];
+			skinning += (a_boneWeight7.y) * getBone(a_boneWeight7.x);
 		#endif //boneWeight7Flag
 	#endif //skinningFlag
 
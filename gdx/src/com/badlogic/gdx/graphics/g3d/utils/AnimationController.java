@@ -174,7 +174,7 @@ public class AnimationController extends BaseAnimationController {
 			previous = null;
 		}
 		if (justChangedAnimation) {
-			target.calculateTransforms();
+			calculateTransforms();
 			justChangedAnimation = false;
 		}
 		if (current == null || current.loopCount == 0 || current.animation == null) return;
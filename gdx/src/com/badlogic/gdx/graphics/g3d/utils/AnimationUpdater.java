@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Updates many {@link AnimationController}s and {@link ModelInstance}s on multiple threads. The controllers and instances are
+ * split into slices, and every slice applies the animations and calculates the node and bone transforms of its instances on the
+ * executor.
+ * <p>
+ * {@link #begin(float)} advances the controllers on the calling thread, so listeners are called on that thread as well, and
+ * starts the slices. {@link #end()} blocks until all slices are done and must be called before the instances are rendered, eg
+ * before {@link ModelBatch#render(com.badlogic.gdx.graphics.g3d.RenderableProvider)}. The instances must not be modified in
+ * between, and every instance must be added only once, either by its controller or by itself. The updater itself must only be
+ * used by one thread. */
+public class AnimationUpdater implements Disposable {
+	private final AsyncExecutor executor;
+	private final boolean ownsExecutor;
+	private final int maxSlices;
+	private final Array<Slice> slices = new Array();
+	private final Array<AsyncResult<Void>> results = new Array();
+	private int minSliceSize = 8;
+	private int sliceCount;
+	private boolean updating;
+
+	private final Array<AnimationController> controllers = new Array();
+	private final Array<ModelInstance> instances = new Array();
+
+	/** Creates an updater with its own executor, disposed with the updater.
+	 * @param threads the number of threads and of slices the instances are split into. */
+	public AnimationUpdater (int threads) {
+		this(new AsyncExecutor(threads), threads, true);
+	}
+
+	/** @param executor runs the slices, the calling thread works on one slice as well. Not disposed with the updater.
+	 * @param maxSlices the maximum number of slices the instances are split into, usually the number of executor threads + 1. */
+	public AnimationUpdater (AsyncExecutor executor, int maxSlices) {
+		this(executor, maxSlices, false);
+	}
+
+	private AnimationUpdater (AsyncExecutor executor, int maxSlices, boolean ownsExecutor) {
+		if (maxSlices < 1) throw new IllegalArgumentException("maxSlices must be > 0: " + maxSlices);
+		this.executor = executor;
+		this.maxSlices = maxSlices;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	/** Sets the minimum number of instances per slice, below which fewer slices are used. Default is 8. */
+	public void setMinSliceSize (int minSliceSize) {
+		this.minSliceSize = Math.max(1, minSliceSize);
+	}
+
+	/** Adds a controller, which is updated and applied to its target every frame. */
+	public void add (AnimationController controller) {
+		if (updating) throw new GdxRuntimeException("Call end() first");
+		controllers.add(controller);
+	}
+
+	public boolean remove (AnimationController controller) {
+		if (updating) throw new GdxRuntimeException("Call end() first");
+		return controllers.removeValue(controller, true);
+	}
+
+	/** Adds an instance without a controller, of which only the transforms are calculated every frame. */
+	public void add (ModelInstance instance) {
+		if (updating) throw new GdxRuntimeException("Call end() first");
+		instances.add(instance);
+	}
+
+	public boolean remove (ModelInstance instance) {
+		if (updating) throw new GdxRuntimeException("Call end() first");
+		return instances.removeValue(instance, true);
+	}
+
+	public void clear () {
+		if (updating) throw new GdxRuntimeException("Call end() first");
+		controllers.clear();
+		instances.clear();
+	}
+
+	/** Updates the controllers by the given time in seconds and starts applying them on the executor. */
+	public void begin (float delta) {
+		if (updating) throw new GdxRuntimeException("Call end() first");
+		Array<AnimationController> controllers = this.controllers;
+		for (int i = 0, n = controllers.size; i < n; i++) {
+			AnimationController controller = controllers.get(i);
+			controller.deferred = true;
+			try {
+				controller.update(delta);
+			} finally {
+				controller.deferred = false;
+			}
+		}
+
+		int total = controllers.size + instances.size;
+		if (total == 0) return;
+		updating = true;
+		int count = Math.max(1, Math.min(maxSlices, total / minSliceSize));
+		int size = (total + count - 1) / count;
+		count = Math.max(1, (total + size - 1) / size);
+		while (slices.size < count)
+			slices.add(new Slice());
+		sliceCount = count;
+		for (int i = 0; i < count; i++) {
+			Slice slice = slices.get(i);
+			slice.start = i * size;
+			slice.end = Math.min(total, slice.start + size);
+		}
+		try {
+			for (int i = 0; i < count - 1; i++)
+				results.add(executor.submit(slices.get(i)));
+		} catch (RuntimeException ex) {
+			end();
+			throw ex;
+		}
+	}
+
+	/** Applies the last slice on the calling thread and waits until all slices are done. Afterwards the instances can be
+	 * rendered. */
+	public void end () {
+		if (!updating) return;
+		try {
+			slices.get(sliceCount - 1).call();
+		} finally {
+			for (int i = 0, n = results.size; i < n; i++)
+				results.get(i).get();
+			results.clear();
+			updating = false;
+		}
+	}
+
+	/** Calls {@link #begin(float)} and {@link #end()}. */
+	public void update (float delta) {
+		begin(delta);
+		end();
+	}
+
+	/** Disposes the executor if it was created by this updater. */
+	public void dispose () {
+		if (ownsExecutor) executor.dispose();
+	}
+
+	private class Slice implements AsyncTask<Void> {
+		int start, end;
+
+		public Void call () {
+			Array<AnimationController> controllers = AnimationUpdater.this.controllers;
+			int controllerCount = controllers.size;
+			for (int i = start, n = Math.min(end, controllerCount); i < n; i++)
+				controllers.get(i).applyDeferred();
+			for (int i = Math.max(start, controllerCount); i < end; i++)
+				instances.get(i - controllerCount).calculateTransforms();
+			return null;
+		}
+	}
+}
@@ -95,8 +95,15 @@ public class BaseAnimationController {
 			return new Transform();
 		}
 	};
-	private final static ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
+	private ObjectMap<Node, Transform> transforms;
+	private final Transform tmpTransform = new Transform();
+	private final Quaternion tmpQuaternion = new Quaternion();
 	private boolean applying = false;
+	/** Whether applying animations is recorded to be done later by {@link #applyDeferred()}, see {@link AnimationUpdater}. */
+	boolean deferred;
+	private boolean deferredTransforms;
+	private Animation deferredAnimation1, deferredAnimation2;
+	private float deferredTime1, deferredTime2, deferredWeight;
 	/** The {@link ModelInstance} on which the animations are being performed. */
 	public final ModelInstance target;
 
@@ -110,6 +117,7 @@ public class BaseAnimationController {
 	 * {@link #apply(Animation, float, float)} and finally {{@link #end()}. */
 	protected void begin () {
 		if (applying) throw new GdxRuntimeException("You must call end() after each call to being()");
+		if (transforms == null) transforms = new ObjectMap<Node, Transform>();
 		applying = true;
 	}
 
@@ -117,7 +125,7 @@ public class BaseAnimationController {
 	 * @param weight The blend weight of this animation relative to the previous applied animations. */
 	protected void apply (final Animation animation, final float time, final float weight) {
 		if (!applying) throw new GdxRuntimeException("You must call begin() before adding an animation");
-		applyAnimation(transforms, transformPool, weight, animation, time);
+		applyAnimation(transforms, transformPool, weight, animation, time, tmpTransform, tmpQuaternion);
 	}
 
 	/** End applying multiple animations to the instance and update it to reflect the changes. */
@@ -135,14 +143,20 @@ public class BaseAnimationController {
 	/** Apply a single animation to the {@link ModelInstance} and update the it to reflect the changes. */
 	protected void applyAnimation (final Animation animation, final float time) {
 		if (applying) throw new GdxRuntimeException("Call end() first");
-		applyAnimation(null, null, 1.f, animation, time);
+		if (deferred) {
+			defer(animation, time, null, 0f, 0f);
+			return;
+		}
+		applyAnimation(null, null, 1.f, animation, time, tmpTransform, tmpQuaternion);
 		target.calculateTransforms();
 	}
 
 	/** Apply two animations, blending the second onto to first using weight. */
 	protected void applyAnimations (final Animation anim1, final float time1, final Animation anim2, final float time2,
 		final float weight) {
-		if (anim2 == null || weight == 0.f)
+		if (deferred)
+			defer(anim1, time1, anim2, time2, weight);
+		else if (anim2 == null || weight == 0.f)
 			applyAnimation(anim1, time1);
 		else if (anim1 == null || weight == 1.f)
 			applyAnimation(anim2, time2);
@@ -156,19 +170,79 @@ public class BaseAnimationController {
 		}
 	}
 
+	/** Update the node transforms of the target to reflect changes, or record to do so when deferred. */
+	protected void calculateTransforms () {
+		if (deferred)
+			deferredTransforms = true;
+		else
+			target.calculateTransforms();
+	}
+
+	private void defer (final Animation anim1, final float time1, final Animation anim2, final float time2, final float weight) {
+		deferredAnimation1 = anim1;
+		deferredTime1 = time1;
+		deferredAnimation2 = anim2;
+		deferredTime2 = time2;
+		deferredWeight = weight;
+		deferredTransforms = true;
+	}
+
+	/** Applies the animations recorded while {@link #deferred}, the last ones applied win. Only touches the nodes of the target,
+	 * so controllers of different instances can be applied on different threads. */
+	void applyDeferred () {
+		if (deferredAnimation1 != null || deferredAnimation2 != null)
+			applyAnimations(deferredAnimation1, deferredTime1, deferredAnimation2, deferredTime2, deferredWeight);
+		else if (deferredTransforms) target.calculateTransforms();
+		deferredAnimation1 = deferredAnimation2 = null;
+		deferredTransforms = false;
+	}
+
 	private final static Transform tmpT = new Transform();
+	private final static Quaternion tmpQ = new Quaternion();
 
+	/** @return the index of the last keyframe at or before the time, or 0. */
 	private final static <T> int getFirstKeyframeIndexAtTime (final Array<NodeKeyframe<T>> arr, final float time) {
-		final int n = arr.size - 1;
-		for (int i = 0; i < n; i++) {
-			if (time >= arr.get(i).keytime && time <= arr.get(i + 1).keytime) {
-				return i;
-			}
+		int low = 0, high = arr.size - 1;
+		while (low < high) {
+			final int mid = (low + high + 1) >>> 1;
+			if (arr.get(mid).keytime <= time)
+				low = mid;
+			else
+				high = mid - 1;
 		}
-		return 0;
+		return low;
+	}
+
+	/** @return the index of the last keytime at or before the time, or 0. */
+	private final static int getFirstKeyframeIndexAtTime (final float[] times, final float time) {
+		int low = 0, high = times.length - 1;
+		while (low < high) {
+			final int mid = (low + high + 1) >>> 1;
+			if (times[mid] <= time)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+
+	private final static Vector3 getVectorAtTime (final float[] times, final float[] values, final float time,
+		final Vector3 out) {
+		int index = getFirstKeyframeIndexAtTime(times, time);
+		final int i = index * 3;
+		out.set(values[i], values[i + 1], values[i + 2]);
+		if (++index < times.length) {
+			final float t = (time - times[index - 1]) / (times[index] - times[index - 1]);
+			out.x += (values[i + 3] - out.x) * t;
+			out.y += (values[i + 4] - out.y) * t;
+			out.z += (values[i + 5] - out.z) * t;
+		}
+		return out;
 	}
 
 	private final static Vector3 getTranslationAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out) {
+		if (nodeAnim.translationTimes != null)
+			return getVectorAtTime(nodeAnim.translationTimes, nodeAnim.translationValues, time, out);
 		if (nodeAnim.translation == null) return out.set(nodeAnim.node.translation);
 		if (nodeAnim.translation.size == 1) return out.set(nodeAnim.translation.get(0).value);
 
@@ -184,7 +258,22 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Quaternion getRotationAtTime (final NodeAnimation nodeAnim, final float time, final Quaternion out) {
+	private final static Quaternion getRotationAtTime (final NodeAnimation nodeAnim, final float time, final Quaternion out,
+		final Quaternion tmp) {
+		if (nodeAnim.rotationTimes != null) {
+			final float[] times = nodeAnim.rotationTimes;
+			final short[] values = nodeAnim.rotationValues;
+			int index = getFirstKeyframeIndexAtTime(times, time);
+			final int i = index * 4;
+			out.set(NodeAnimation.dequantize(values[i]), NodeAnimation.dequantize(values[i + 1]),
+				NodeAnimation.dequantize(values[i + 2]), NodeAnimation.dequantize(values[i + 3])).nor();
+			if (++index < times.length) {
+				tmp.set(NodeAnimation.dequantize(values[i + 4]), NodeAnimation.dequantize(values[i + 5]),
+					NodeAnimation.dequantize(values[i + 6]), NodeAnimation.dequantize(values[i + 7])).nor();
+				out.slerp(tmp, (time - times[index - 1]) / (times[index] - times[index - 1]));
+			}
+			return out;
+		}
 		if (nodeAnim.rotation == null) return out.set(nodeAnim.node.rotation);
 		if (nodeAnim.rotation.size == 1) return out.set(nodeAnim.rotation.get(0).value);
 
@@ -201,6 +290,7 @@ public class BaseAnimationController {
 	}
 
 	private final static Vector3 getScalingAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out) {
+		if (nodeAnim.scalingTimes != null) return getVectorAtTime(nodeAnim.scalingTimes, nodeAnim.scalingValues, time, out);
 		if (nodeAnim.scaling == null) return out.set(nodeAnim.node.scale);
 		if (nodeAnim.scaling.size == 1) return out.set(nodeAnim.scaling.get(0).value);
 
@@ -216,27 +306,28 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time) {
-		final Transform transform = tmpT;
+	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time,
+		final Transform transform, final Quaternion tmp) {
 		getTranslationAtTime(nodeAnim, time, transform.translation);
-		getRotationAtTime(nodeAnim, time, transform.rotation);
+		getRotationAtTime(nodeAnim, time, transform.rotation, tmp);
 		getScalingAtTime(nodeAnim, time, transform.scale);
 		return transform;
 	}
 
-	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time) {
+	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time, final Transform tmp,
+		final Quaternion tmpQ) {
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp, tmpQ);
 		transform.toMatrix4(node.localTransform);
 	}
 
 	private final static void applyNodeAnimationBlending (final NodeAnimation nodeAnim, final ObjectMap<Node, Transform> out,
-		final Pool<Transform> pool, final float alpha, final float time) {
+		final Pool<Transform> pool, final float alpha, final float time, final Transform tmp, final Quaternion tmpQ) {
 
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp, tmpQ);
 
 		Transform t = out.get(node, null);
 		if (t != null) {
@@ -252,18 +343,24 @@ public class BaseAnimationController {
 		}
 	}
 
-	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. */
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. Not thread safe, the
+	 * instance methods are safe to use for different controllers on different threads. */
 	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
 		final Animation animation, final float time) {
+		applyAnimation(out, pool, alpha, animation, time, tmpT, tmpQ);
+	}
+
+	private static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
+		final Animation animation, final float time, final Transform tmp, final Quaternion tmpQ) {
 
 		if (out == null) {
 			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationDirectly(nodeAnim, time);
+				applyNodeAnimationDirectly(nodeAnim, time, tmp, tmpQ);
 		} else {
 			for (final Node node : out.keys())
 				node.isAnimated = false;
 			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationBlending(nodeAnim, out, pool, alpha, time);
+				applyNodeAnimationBlending(nodeAnim, out, pool, alpha, time, tmp, tmpQ);
 			for (final ObjectMap.Entry<Node, Transform> e : out.entries()) {
 				if (!e.key.isAnimated) {
 					e.key.isAnimated = true;
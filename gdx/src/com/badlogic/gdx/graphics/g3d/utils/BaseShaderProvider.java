@@ -16,34 +16,261 @@
 
 package com.badlogic.gdx.graphics.g3d.utils;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.Attribute;
+import com.badlogic.gdx.graphics.g3d.Attributes;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.environment.ShadowMap;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectSet;
 
+/** Keeps the created shaders and returns an existing shader for a renderable when possible. Shaders are looked up by a key
+ * computed from the vertex attributes, material, environment and bones of the renderable (see
+ * {@link #getVariantKey(Renderable)}), falling back to asking every shader whether it {@link Shader#canRender(Renderable) can
+ * render} the renderable.
+ * <p>
+ * Every created shader variant is recorded. The variants can be written to a file with {@link #saveVariants(FileHandle)} and
+ * compiled ahead of time with {@link #prewarm(FileHandle)}, e.g. while loading, to avoid compiling shaders mid-game. */
 public abstract class BaseShaderProvider implements ShaderProvider {
 	protected Array<Shader> shaders = new Array<Shader>();
+	private final LongMap<Shader> variants = new LongMap<Shader>();
+	private final ObjectSet<String> recorded = new ObjectSet<String>();
+	private final Array<String> recordedOrder = new Array<String>();
 
 	@Override
 	public Shader getShader (Renderable renderable) {
 		Shader suggestedShader = renderable.shader;
 		if (suggestedShader != null && suggestedShader.canRender(renderable)) return suggestedShader;
-		for (Shader shader : shaders) {
-			if (shader.canRender(renderable)) return shader;
+		final long key = getVariantKey(renderable);
+		Shader shader = variants.get(key);
+		if (shader != null && shader.canRender(renderable)) return shader;
+		shader = null;
+		for (int i = 0; i < shaders.size; i++) {
+			if (shaders.get(i).canRender(renderable)) {
+				shader = shaders.get(i);
+				break;
+			}
+		}
+		if (shader == null) {
+			shader = createShader(renderable);
+			shader.init();
+			shaders.add(shader);
+			final String variant = describeVariant(renderable);
+			if (recorded.add(variant)) recordedOrder.add(variant);
 		}
-		final Shader shader = createShader(renderable);
-		shader.init();
-		shaders.add(shader);
+		variants.put(key, shader);
 		return shader;
 	}
 
 	protected abstract Shader createShader (final Renderable renderable);
 
+	/** Computes the key used to look up the shader for a renderable. Renderables with the same key are likely to be rendered by the
+	 * same shader, the shader found for the key is only used if it can render the renderable. The default implementation hashes the
+	 * vertex attributes, the material and environment attribute masks and whether there is an environment, shadow map, bones and
+	 * instance buffer. */
+	@SuppressWarnings("deprecation")
+	protected long getVariantKey (final Renderable renderable) {
+		final Mesh mesh = renderable.mesh;
+		long flags = 0;
+		if (renderable.environment != null) flags |= renderable.environment.shadowMap != null ? 3 : 1;
+		if (renderable.bones != null) flags |= 4;
+		if (mesh.isInstanced()) flags |= 8;
+		long key = mesh.getVertexAttributes().getMask();
+		key = key * 0x9E3779B97F4A7C15L + (renderable.material == null ? 0 : renderable.material.getMask());
+		key = key * 0x9E3779B97F4A7C15L + (renderable.environment == null ? 0 : renderable.environment.getMask());
+		key = key * 0x9E3779B97F4A7C15L + flags;
+		return key ^ (key >>> 29);
+	}
+
+	/** @return The number of shader variants recorded, see {@link #saveVariants(FileHandle)}. */
+	public int getNumVariants () {
+		return recordedOrder.size;
+	}
+
+	/** Writes a line for every shader variant created so far, including the variants read by {@link #prewarm(FileHandle)}. */
+	public void saveVariants (FileHandle file) {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < recordedOrder.size; i++)
+			builder.append(recordedOrder.get(i)).append('\n');
+		file.writeString(builder.toString(), false, "UTF-8");
+	}
+
+	/** Creates the shaders for the variants written by {@link #saveVariants(FileHandle)}, unless a shader which can render the
+	 * variant already exists. Must be called on the rendering thread.
+	 * @return The number of shaders created. */
+	public int prewarm (FileHandle file) {
+		final int created = shaders.size;
+		final String[] lines = file.readString("UTF-8").split("\n");
+		for (int i = 0; i < lines.length; i++) {
+			final String line = lines[i].trim();
+			if (line.length() > 0) prewarm(line);
+		}
+		return shaders.size - created;
+	}
+
+	/** Creates the shader for a single variant line as written by {@link #saveVariants(FileHandle)}, unless a shader which can
+	 * render the variant already exists. A placeholder renderable is built from the variant, the attributes of its material and
+	 * environment only have the recorded types. */
+	@SuppressWarnings("deprecation")
+	public void prewarm (String variant) {
+		final String[] fields = variant.split("\\|", -1);
+		if (fields.length != 5) throw new GdxRuntimeException("Invalid shader variant: " + variant);
+		final Array<VertexAttribute> attributes = parseAttributes(fields[0], variant);
+		final Array<VertexAttribute> instanceAttributes = fields[1].length() > 0 ? parseAttributes(fields[1], variant) : null;
+		final Mesh mesh = new Mesh(true, 1, 0, attributes.toArray());
+		try {
+			if (instanceAttributes != null) mesh.enableInstancedRendering(true, 1, instanceAttributes.toArray());
+			final Renderable renderable = new Renderable();
+			renderable.mesh = mesh;
+			renderable.meshPartSize = 1;
+			final String flags = fields[4];
+			if (!fields[2].equals("-")) {
+				renderable.material = new Material();
+				addPlaceholders(renderable.material, parseMask(fields[2], variant));
+			}
+			if (!fields[3].equals("-")) {
+				renderable.environment = new Environment();
+				addPlaceholders(renderable.environment, parseMask(fields[3], variant));
+				if (flags.indexOf('s') >= 0) renderable.environment.shadowMap = placeholderShadowMap;
+			}
+			if (flags.indexOf('b') >= 0) renderable.bones = new Matrix4[0];
+			getShader(renderable);
+		} finally {
+			mesh.dispose();
+		}
+	}
+
+	/** Describes the inputs of a shader variant as a single line, read back by {@link #prewarm(String)}. */
+	@SuppressWarnings("deprecation")
+	private static String describeVariant (final Renderable renderable) {
+		final StringBuilder builder = new StringBuilder();
+		describeAttributes(builder, renderable.mesh.getVertexAttributes());
+		builder.append('|');
+		if (renderable.mesh.isInstanced()) describeAttributes(builder, renderable.mesh.getInstanceAttributes());
+		builder.append('|');
+		builder.append(renderable.material == null ? "-" : Long.toHexString(renderable.material.getMask()));
+		builder.append('|');
+		builder.append(renderable.environment == null ? "-" : Long.toHexString(renderable.environment.getMask()));
+		builder.append('|');
+		if (renderable.environment != null && renderable.environment.shadowMap != null) builder.append('s');
+		if (renderable.bones != null) builder.append('b');
+		return builder.toString();
+	}
+
+	private static void describeAttributes (final StringBuilder builder, final VertexAttributes attributes) {
+		for (int i = 0, n = attributes.size(); i < n; i++) {
+			final VertexAttribute attribute = attributes.get(i);
+			if (i > 0) builder.append(';');
+			builder.append(attribute.usage).append(',').append(attribute.numComponents).append(',').append(attribute.unit)
+				.append(',');
+			escape(builder, attribute.alias);
+		}
+	}
+
+	/** Appends the alias with the characters used as separators in a variant line percent encoded. */
+	private static void escape (final StringBuilder builder, final String alias) {
+		for (int i = 0, n = alias.length(); i < n; i++) {
+			final char c = alias.charAt(i);
+			if (c == '%' || c == '|' || c == ';' || c == ',' || c == '\n' || c == '\r')
+				builder.append('%').append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 15, 16));
+			else
+				builder.append(c);
+		}
+	}
+
+	private static String unescape (final String alias, final String variant) {
+		if (alias.indexOf('%') == -1) return alias;
+		final StringBuilder builder = new StringBuilder(alias.length());
+		for (int i = 0, n = alias.length(); i < n; i++) {
+			final char c = alias.charAt(i);
+			if (c != '%')
+				builder.append(c);
+			else {
+				if (i + 2 >= n) throw new GdxRuntimeException("Invalid shader variant: " + variant);
+				builder.append((char)Integer.parseInt(alias.substring(i + 1, i + 3), 16));
+				i += 2;
+			}
+		}
+		return builder.toString();
+	}
+
+	private static Array<VertexAttribute> parseAttributes (final String field, final String variant) {
+		final Array<VertexAttribute> attributes = new Array<VertexAttribute>(VertexAttribute.class);
+		final String[] values = field.split(";");
+		try {
+			for (int i = 0; i < values.length; i++) {
+				final String[] parts = values[i].split(",", 4);
+				if (parts.length != 4) throw new GdxRuntimeException("Invalid shader variant: " + variant);
+				final String alias = unescape(parts[3], variant);
+				attributes.add(new VertexAttribute(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), alias, Integer
+					.parseInt(parts[2])));
+			}
+		} catch (NumberFormatException ex) {
+			throw new GdxRuntimeException("Invalid shader variant: " + variant, ex);
+		}
+		return attributes;
+	}
+
+	private static long parseMask (final String field, final String variant) {
+		try {
+			return Long.parseLong(field, 16);
+		} catch (NumberFormatException ex) {
+			throw new GdxRuntimeException("Invalid shader variant: " + variant, ex);
+		}
+	}
+
+	private static void addPlaceholders (final Attributes attributes, long mask) {
+		while (mask != 0) {
+			final long type = Long.lowestOneBit(mask);
+			attributes.set(new PlaceholderAttribute(type));
+			mask &= ~type;
+		}
+	}
+
 	@Override
 	public void dispose () {
 		for (Shader shader : shaders) {
 			shader.dispose();
 		}
 		shaders.clear();
+		variants.clear();
 	}
+
+	/** Stands in for an attribute of a recorded type, only the type is known. */
+	private static class PlaceholderAttribute extends Attribute {
+		PlaceholderAttribute (final long type) {
+			super(type);
+		}
+
+		@Override
+		public Attribute copy () {
+			return new PlaceholderAttribute(type);
+		}
+
+		@Override
+		public int compareTo (Attribute o) {
+			return type < o.type ? -1 : (type > o.type ? 1 : 0);
+		}
+	}
+
+	static private final ShadowMap placeholderShadowMap = new ShadowMap() {
+		@Override
+		public Matrix4 getProjViewTrans () {
+			return null;
+		}
+
+		@Override
+		public TextureDescriptor<?> getDepthMap () {
+			return null;
+		}
+	};
 }
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.GLTexture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.Texture.TextureWrap;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** Floating point texture holding the bone matrices of the skinned {@link Renderable}s of a frame. A {@link DefaultShader}
+ * configured with a palette reads the bones of a renderable from the texture, instead of uploading them to a uniform array for
+ * every renderable, and supports any number of bones.
+ * <p>
+ * Every bone array is added once per frame, renderables sharing the array share its bones. The texture is uploaded when bound
+ * after bones were added, {@link ModelBatch} adds the bones of all renderables before rendering them so this happens once per
+ * frame. Bones changed after they were added in the same frame are not updated, call {@link #clear()} after updating animations
+ * between two renders in the same frame. Requires GL30 for floating point textures, the texture is not managed.
+ * @see DefaultShader.Config#bonePalette */
+public class BonePalette extends GLTexture {
+	/** The number of bones per row of the texture, every bone takes 4 texels. */
+	public static final int bonesPerRow = 256;
+
+	private final ObjectIntMap<Matrix4[]> offsets = new ObjectIntMap();
+	private float[] bones = new float[bonesPerRow * 16];
+	private FloatBuffer buffer;
+	private int count, height;
+	private long frameId = -1;
+	private boolean dirty = true;
+
+	public BonePalette () {
+		super(GL20.GL_TEXTURE_2D);
+		if (Gdx.gl30 == null) throw new GdxRuntimeException("Bone palettes require GL30");
+		bind();
+		unsafeSetFilter(TextureFilter.Nearest, TextureFilter.Nearest, true);
+		unsafeSetWrap(TextureWrap.ClampToEdge, TextureWrap.ClampToEdge, true);
+		clear();
+	}
+
+	/** Adds the bones, unless they were already added in this frame. Null bones are stored as identity matrices.
+	 * @param bones the bones of a renderable, null for no bones.
+	 * @return the index of the first of the bones in the palette. */
+	public int add (Matrix4[] bones) {
+		final long frameId = Gdx.graphics.getFrameId();
+		if (frameId != this.frameId) {
+			this.frameId = frameId;
+			clear();
+		}
+		// The identity matrix at index 0 is used for renderables without bones.
+		if (bones == null) return 0;
+		int offset = offsets.get(bones, -1);
+		if (offset != -1) return offset;
+		offset = count;
+		ensureCapacity(count + bones.length);
+		for (int i = 0; i < bones.length; i++)
+			set(offset + i, bones[i]);
+		count += bones.length;
+		offsets.put(bones, offset);
+		dirty = true;
+		return offset;
+	}
+
+	/** Removes all bones, they are added again by the next call to {@link #add(Matrix4[])}. */
+	public void clear () {
+		offsets.clear();
+		set(0, null);
+		count = 1;
+		dirty = true;
+	}
+
+	/** @return the number of bones in the palette, including the identity matrix at index 0. */
+	public int size () {
+		return count;
+	}
+
+	private void ensureCapacity (int size) {
+		if (size * 16 <= bones.length) return;
+		final float[] newBones = new float[MathUtils.nextPowerOfTwo(size) * 16];
+		System.arraycopy(bones, 0, newBones, 0, count * 16);
+		bones = newBones;
+	}
+
+	private void set (int index, Matrix4 bone) {
+		if (bone == null) {
+			for (int i = 0; i < 16; i++)
+				bones[index * 16 + i] = i % 5 == 0 ? 1f : 0f;
+		} else
+			System.arraycopy(bone.val, 0, bones, index * 16, 16);
+	}
+
+	/** Uploads the bones to the texture if bones were added since the last upload. The texture must be bound to the active
+	 * texture unit, eg by {@link TextureBinder#bind(GLTexture)}. */
+	public void upload () {
+		if (!dirty) return;
+		dirty = false;
+		final int rows = (count + bonesPerRow - 1) / bonesPerRow, floats = rows * bonesPerRow * 16;
+		if (buffer == null || buffer.capacity() < floats) buffer = BufferUtils.newFloatBuffer(Math.max(floats, bones.length));
+		buffer.clear();
+		buffer.put(bones, 0, count * 16);
+		buffer.position(0);
+		buffer.limit(floats);
+		if (rows > height) {
+			height = MathUtils.nextPowerOfTwo(rows);
+			Gdx.gl.glTexImage2D(glTarget, 0, GL30.GL_RGBA32F, getWidth(), height, 0, GL20.GL_RGBA, GL20.GL_FLOAT, null);
+		}
+		Gdx.gl.glTexSubImage2D(glTarget, 0, 0, 0, getWidth(), rows, GL20.GL_RGBA, GL20.GL_FLOAT, buffer);
+	}
+
+	@Override
+	public int getWidth () {
+		return bonesPerRow * 4;
+	}
+
+	@Override
+	public int getHeight () {
+		return Math.max(1, height);
+	}
+
+	@Override
+	public int getDepth () {
+		return 0;
+	}
+
+	@Override
+	public boolean isManaged () {
+		return false;
+	}
+
+	@Override
+	protected void reload () {
+		throw new GdxRuntimeException("Tried to reload an unmanaged BonePalette");
+	}
+}
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/** Adds the renderables of a {@link ModelInstance} which are inside a {@link Frustum}. The bounds of every part are the bounds
+ * cached in its {@link MeshPart}, transformed by the instance transform and the global transform of its node. The bounds of a
+ * node contain the bounds of all parts of the node and of its children, so the parts and children of a node outside of the
+ * frustum are culled without testing them. Bounds are tested as a sphere first and then as a box.
+ * <p>
+ * Skinned parts are never culled, since their vertices are moved by the bones. The renderables are added in the same order as by
+ * {@link ModelInstance#getRenderables(Array, Pool)}, but that method is not called, so subclasses overriding it should not be
+ * culled.
+ * @see com.badlogic.gdx.graphics.g3d.ModelBatch#setCulling(boolean) */
+public class FrustumCuller {
+	static private final int stride = 7;
+
+	private final Array<Node> nodes = new Array();
+	private final Array<NodePart> parts = new Array();
+	// Center, half extents and radius of the world bounds of every part and of every node including its children.
+	private float[] partBounds = new float[16 * stride], nodeBounds = new float[16 * stride];
+	// The first part, the end of the parts, the end of the parts of the children and the end of the children of every node.
+	private int[] nodeRanges = new int[16 * 4];
+	private final float[] planes = new float[6 * 7];
+	private final Matrix4 tmpMatrix = new Matrix4();
+
+	/** Adds the renderables of the enabled parts of the instance that are inside the frustum to the array.
+	 * @return the number of enabled parts which were culled. */
+	public int getRenderables (ModelInstance instance, Frustum frustum, Array<Renderable> renderables, Pool<Renderable> pool) {
+		for (int i = 0, n = instance.nodes.size; i < n; i++)
+			add(instance, instance.nodes.get(i));
+		setPlanes(frustum);
+
+		final Array<Node> nodes = this.nodes;
+		final Array<NodePart> parts = this.parts;
+		final float[] partBounds = this.partBounds, nodeBounds = this.nodeBounds;
+		final int[] nodeRanges = this.nodeRanges;
+		int culled = 0;
+		for (int i = 0, n = nodes.size; i < n;) {
+			final int r = i * 4, partStart = nodeRanges[r], partEnd = nodeRanges[r + 1];
+			if (!isVisible(nodeBounds, i)) {
+				culled += nodeRanges[r + 2] - partStart;
+				i = nodeRanges[r + 3];
+				continue;
+			}
+			// A single part without children has the bounds of the node.
+			final boolean tested = partEnd - partStart == 1 && nodeRanges[r + 2] == partEnd;
+			final Node node = nodes.get(i);
+			for (int p = partStart; p < partEnd; p++) {
+				if (tested || isVisible(partBounds, p))
+					renderables.add(instance.getRenderable(pool.obtain(), node, parts.get(p)));
+				else
+					culled++;
+			}
+			i++;
+		}
+		nodes.clear();
+		parts.clear();
+		return culled;
+	}
+
+	/** Adds the node and its children, returns the index of the node. */
+	private int add (ModelInstance instance, Node node) {
+		final int index = nodes.size;
+		nodes.add(node);
+		if (nodeRanges.length < nodes.size * 4) {
+			nodeRanges = resize(nodeRanges, nodes.size * 4);
+			nodeBounds = resize(nodeBounds, nodes.size * stride);
+		}
+		final int partStart = parts.size;
+		// Same as the world transform set by ModelInstance#getRenderable.
+		final Matrix4 transform = instance.transform != null ? tmpMatrix.set(instance.transform).mul(node.globalTransform)
+			: tmpMatrix.idt();
+		for (int i = 0, n = node.parts.size; i < n; i++) {
+			final NodePart nodePart = node.parts.get(i);
+			if (!nodePart.enabled) continue;
+			final int p = parts.size;
+			parts.add(nodePart);
+			if (partBounds.length < parts.size * stride) partBounds = resize(partBounds, parts.size * stride);
+			if (nodePart.bones != null)
+				setInfinite(partBounds, p);
+			else
+				setBounds(partBounds, p, nodePart.meshPart, transform);
+		}
+		final int partEnd = parts.size;
+		for (int i = 0, n = node.getChildCount(); i < n; i++)
+			add(instance, node.getChild(i));
+
+		final int r = index * 4;
+		nodeRanges[r] = partStart;
+		nodeRanges[r + 1] = partEnd;
+		nodeRanges[r + 2] = parts.size;
+		nodeRanges[r + 3] = nodes.size;
+
+		// The bounds of the node contain the bounds of its own parts and of its direct children.
+		float minX = Float.POSITIVE_INFINITY, minY = minX, minZ = minX;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = maxX, maxZ = maxX;
+		for (int i = partStart, c = index + 1, n = nodes.size; i < partEnd || c < n;) {
+			final float[] bounds;
+			final int o;
+			if (i < partEnd) {
+				bounds = partBounds;
+				o = i++ * stride;
+			} else {
+				bounds = nodeBounds;
+				o = c * stride;
+				c = nodeRanges[c * 4 + 3];
+			}
+			if (bounds[o + 6] < 0) continue;
+			if (bounds[o + 6] == Float.POSITIVE_INFINITY) {
+				setInfinite(nodeBounds, index);
+				return index;
+			}
+			minX = Math.min(minX, bounds[o] - bounds[o + 3]);
+			minY = Math.min(minY, bounds[o + 1] - bounds[o + 4]);
+			minZ = Math.min(minZ, bounds[o + 2] - bounds[o + 5]);
+			maxX = Math.max(maxX, bounds[o] + bounds[o + 3]);
+			maxY = Math.max(maxY, bounds[o + 1] + bounds[o + 4]);
+			maxZ = Math.max(maxZ, bounds[o + 2] + bounds[o + 5]);
+		}
+		final int o = index * stride;
+		if (minX > maxX) {
+			// No parts, never visible.
+			nodeBounds[o] = nodeBounds[o + 1] = nodeBounds[o + 2] = 0;
+			nodeBounds[o + 3] = nodeBounds[o + 4] = nodeBounds[o + 5] = nodeBounds[o + 6] = -1;
+			return index;
+		}
+		final float ex = (maxX - minX) * 0.5f, ey = (maxY - minY) * 0.5f, ez = (maxZ - minZ) * 0.5f;
+		nodeBounds[o] = minX + ex;
+		nodeBounds[o + 1] = minY + ey;
+		nodeBounds[o + 2] = minZ + ez;
+		nodeBounds[o + 3] = ex;
+		nodeBounds[o + 4] = ey;
+		nodeBounds[o + 5] = ez;
+		nodeBounds[o + 6] = (float)Math.sqrt(ex * ex + ey * ey + ez * ez);
+		return index;
+	}
+
+	/** Stores the box containing the bounds of the mesh part, transformed by the matrix. */
+	static private void setBounds (float[] bounds, int index, MeshPart meshPart, Matrix4 transform) {
+		if (meshPart.radius < 0) meshPart.update();
+		final float[] m = transform.val;
+		final float x = meshPart.center.x, y = meshPart.center.y, z = meshPart.center.z;
+		final float hx = meshPart.halfExtents.x, hy = meshPart.halfExtents.y, hz = meshPart.halfExtents.z;
+		final float ex = Math.abs(m[Matrix4.M00]) * hx + Math.abs(m[Matrix4.M01]) * hy + Math.abs(m[Matrix4.M02]) * hz;
+		final float ey = Math.abs(m[Matrix4.M10]) * hx + Math.abs(m[Matrix4.M11]) * hy + Math.abs(m[Matrix4.M12]) * hz;
+		final float ez = Math.abs(m[Matrix4.M20]) * hx + Math.abs(m[Matrix4.M21]) * hy + Math.abs(m[Matrix4.M22]) * hz;
+		final int o = index * stride;
+		bounds[o] = m[Matrix4.M00] * x + m[Matrix4.M01] * y + m[Matrix4.M02] * z + m[Matrix4.M03];
+		bounds[o + 1] = m[Matrix4.M10] * x + m[Matrix4.M11] * y + m[Matrix4.M12] * z + m[Matrix4.M13];
+		bounds[o + 2] = m[Matrix4.M20] * x + m[Matrix4.M21] * y + m[Matrix4.M22] * z + m[Matrix4.M23];
+		bounds[o + 3] = ex;
+		bounds[o + 4] = ey;
+		bounds[o + 5] = ez;
+		bounds[o + 6] = (float)Math.sqrt(ex * ex + ey * ey + ez * ez);
+	}
+
+	static private void setInfinite (float[] bounds, int index) {
+		final int o = index * stride;
+		bounds[o] = bounds[o + 1] = bounds[o + 2] = 0;
+		bounds[o + 3] = bounds[o + 4] = bounds[o + 5] = bounds[o + 6] = Float.POSITIVE_INFINITY;
+	}
+
+	private void setPlanes (Frustum frustum) {
+		final float[] planes = this.planes;
+		for (int i = 0, o = 0; i < 6; i++, o += 7) {
+			final Plane plane = frustum.planes[i];
+			planes[o] = plane.normal.x;
+			planes[o + 1] = plane.normal.y;
+			planes[o + 2] = plane.normal.z;
+			planes[o + 3] = plane.d;
+			planes[o + 4] = Math.abs(plane.normal.x);
+			planes[o + 5] = Math.abs(plane.normal.y);
+			planes[o + 6] = Math.abs(plane.normal.z);
+		}
+	}
+
+	private boolean isVisible (float[] bounds, int index) {
+		final int b = index * stride;
+		final float radius = bounds[b + 6];
+		if (radius == Float.POSITIVE_INFINITY) return true;
+		if (radius < 0) return false;
+		final float x = bounds[b], y = bounds[b + 1], z = bounds[b + 2];
+		final float[] planes = this.planes;
+		// The sphere is outside when it is behind any plane.
+		for (int o = 0; o < 6 * 7; o += 7)
+			if (planes[o] * x + planes[o + 1] * y + planes[o + 2] * z + planes[o + 3] < -radius) return false;
+		// The box is outside when its corner closest to the front of any plane is behind it.
+		final float ex = bounds[b + 3], ey = bounds[b + 4], ez = bounds[b + 5];
+		for (int o = 0; o < 6 * 7; o += 7)
+			if (planes[o] * x + planes[o + 1] * y + planes[o + 2] * z + planes[o + 3] + planes[o + 4] * ex + planes[o + 5] * ey
+				+ planes[o + 6] * ez < 0) return false;
+		return true;
+	}
+
+	static private float[] resize (float[] array, int size) {
+		final float[] newArray = new float[Math.max(size, array.length * 2)];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+
+	static private int[] resize (int[] array, int size) {
+		final int[] newArray = new int[Math.max(size, array.length * 2)];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@link RenderableSorter} which sorts the renderables to minimize the OpenGL state changes while rendering. For every
+ * renderable a 64 bit sort key is computed once per call to {@link #sort(Camera, Array)}, after which the keys are sorted using a
+ * radix sort. Opaque renderables are rendered first, grouped by shader, diffuse texture, material and mesh and within each group
+ * front to back. Blended renderables are rendered after that, back to front and grouped by state only if at a similar depth.
+ * <p>
+ * Shaders, materials and meshes are identified by their identity hash code, two different objects might therefore get the same
+ * sort key bits. This only affects how well the renderables are grouped, not the order of opaque versus blended renderables or
+ * of blended renderables at different depths. The sort is stable: renderables with the same key keep the order in which they
+ * were added to the {@link ModelBatch}. */
+public class StateRenderableSorter implements RenderableSorter {
+	private static final int DEPTH_BITS = 24, SHADER_BITS = 12, TEXTURE_BITS = 12, MATERIAL_BITS = 8, MESH_BITS = 7;
+	private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+	private static final long BLENDED = 1L << 63;
+
+	private long[] keys = new long[0], tmpKeys = new long[0];
+	private int[] indices = new int[0], tmpIndices = new int[0];
+	private Object[] tmpRenderables = new Object[0];
+	private final int[] counts = new int[256];
+
+	@Override
+	public void sort (final Camera camera, final Array<Renderable> renderables) {
+		final int n = renderables.size;
+		if (n < 2) return;
+		ensureCapacity(n);
+
+		final Object[] items = renderables.items;
+		final float px = camera.position.x, py = camera.position.y, pz = camera.position.z;
+		final float depthScale = DEPTH_MASK / (camera.far > 0 ? camera.far : 1f);
+		final long[] keys = this.keys;
+		final int[] indices = this.indices;
+		for (int i = 0; i < n; i++) {
+			final Renderable renderable = (Renderable)items[i];
+			final float[] m = renderable.worldTransform.val;
+			final float dx = m[Matrix4.M03] - px, dy = m[Matrix4.M13] - py, dz = m[Matrix4.M23] - pz;
+			final float depth = (float)Math.sqrt(dx * dx + dy * dy + dz * dz) * depthScale;
+			keys[i] = computeKey(renderable, depth >= DEPTH_MASK ? DEPTH_MASK : (long)depth);
+			indices[i] = i;
+		}
+
+		if (radixSort(n)) {
+			// the sorted keys and indices ended up in the temporary arrays
+			long[] tk = this.keys;
+			this.keys = tmpKeys;
+			tmpKeys = tk;
+			int[] ti = this.indices;
+			this.indices = tmpIndices;
+			tmpIndices = ti;
+		}
+
+		final int[] sorted = this.indices;
+		final Object[] tmp = tmpRenderables;
+		System.arraycopy(items, 0, tmp, 0, n);
+		for (int i = 0; i < n; i++)
+			items[i] = tmp[sorted[i]];
+		for (int i = 0; i < n; i++)
+			tmp[i] = null;
+	}
+
+	/** Computes the sort key of a renderable. Renderables are rendered in ascending (unsigned) key order.
+	 * @param depth The quantized distance to the camera, 0 (at the camera) to 2^24-1 (at or beyond the far plane). */
+	protected long computeKey (final Renderable renderable, final long depth) {
+		final Material material = renderable.material;
+		final long shader = mix(System.identityHashCode(renderable.shader)) & ((1L << SHADER_BITS) - 1);
+		final long texture = textureHandle(material) & ((1L << TEXTURE_BITS) - 1);
+		final long mat = mix(System.identityHashCode(material)) & ((1L << MATERIAL_BITS) - 1);
+		final long mesh = mix(System.identityHashCode(renderable.mesh)) & ((1L << MESH_BITS) - 1);
+		long state = shader;
+		state = (state << TEXTURE_BITS) | texture;
+		state = (state << MATERIAL_BITS) | mat;
+		state = (state << MESH_BITS) | mesh;
+		if (isBlended(material)) return BLENDED | ((DEPTH_MASK - depth) << (63 - DEPTH_BITS)) | state;
+		return (state << DEPTH_BITS) | depth;
+	}
+
+	protected boolean isBlended (final Material material) {
+		final BlendingAttribute blending = (BlendingAttribute)material.get(BlendingAttribute.Type);
+		return blending != null && blending.blended;
+	}
+
+	private static int textureHandle (final Material material) {
+		final TextureAttribute attribute = (TextureAttribute)material.get(TextureAttribute.Diffuse);
+		if (attribute == null) return 0;
+		final Texture texture = attribute.textureDescription.texture;
+		return texture == null ? 0 : texture.getTextureObjectHandle();
+	}
+
+	/** Spreads the entropy of an identity hash code to its lower bits. */
+	private static int mix (int h) {
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		return h;
+	}
+
+	/** LSD radix sort of the first n keys (as unsigned values) and their indices, 8 bits per pass. Passes in which all keys have the
+	 * same digit are skipped.
+	 * @return whether the result is stored in the temporary arrays. */
+	private boolean radixSort (final int n) {
+		long[] srcKeys = keys, dstKeys = tmpKeys;
+		int[] srcIndices = indices, dstIndices = tmpIndices;
+		final int[] counts = this.counts;
+		boolean swapped = false;
+		for (int shift = 0; shift < 64; shift += 8) {
+			for (int i = 0; i < 256; i++)
+				counts[i] = 0;
+			for (int i = 0; i < n; i++)
+				counts[(int)(srcKeys[i] >>> shift) & 0xff]++;
+			if (counts[(int)(srcKeys[0] >>> shift) & 0xff] == n) continue;
+			for (int i = 0, total = 0; i < 256; i++) {
+				final int count = counts[i];
+				counts[i] = total;
+				total += count;
+			}
+			for (int i = 0; i < n; i++) {
+				final int slot = counts[(int)(srcKeys[i] >>> shift) & 0xff]++;
+				dstKeys[slot] = srcKeys[i];
+				dstIndices[slot] = srcIndices[i];
+			}
+			long[] tk = srcKeys;
+			srcKeys = dstKeys;
+			dstKeys = tk;
+			int[] ti = srcIndices;
+			srcIndices = dstIndices;
+			dstIndices = ti;
+			swapped = !swapped;
+		}
+		return swapped;
+	}
+
+	private void ensureCapacity (final int n) {
+		if (keys.length >= n) return;
+		final int size = Math.max(n, (int)(keys.length * 1.75f));
+		keys = new long[size];
+		tmpKeys = new long[size];
+		indices = new int[size];
+		tmpIndices = new int[size];
+		tmpRenderables = new Object[size];
+	}
+}
@@ -140,9 +140,11 @@ public class AtlasTmxMapLoader extends BaseTmxMapLoader<AtlasTmxMapLoader.AtlasT
 			if (parameter != null) {
 				convertObjectToTileSpace = parameter.convertObjectToTileSpace;
 				flipY = parameter.flipY;
+				tileLayerChunkSize = parameter.tileLayerChunkSize;
 			} else {
 				convertObjectToTileSpace = false;
 				flipY = true;
+				tileLayerChunkSize = 0;
 			}
 
 			FileHandle tmxFile = resolve(fileName);
@@ -206,9 +208,11 @@ public class AtlasTmxMapLoader extends BaseTmxMapLoader<AtlasTmxMapLoader.AtlasT
 		if (parameter != null) {
 			convertObjectToTileSpace = parameter.convertObjectToTileSpace;
 			flipY = parameter.flipY;
+			tileLayerChunkSize = parameter.tileLayerChunkSize;
 		} else {
 			convertObjectToTileSpace = false;
 			flipY = true;
+			tileLayerChunkSize = 0;
 		}
 
 		try {
@@ -45,6 +45,9 @@ public abstract class BaseTmxMapLoader<P extends AssetLoaderParameters<TiledMap>
 		/** Whether to flip all Y coordinates so that Y positive is down. All LibGDX renderers require flipped Y coordinates, and
 		 * thus flipY set to true. This parameter is included for non-rendering related purposes of TMX files, or custom renderers. */
 		public boolean flipY = true;
+		/** If greater than 0, tile layers use chunked storage with chunks of this width and height in tiles. See
+		 * {@link TiledMapTileLayer#TiledMapTileLayer(int, int, int, int, int)}. **/
+		public int tileLayerChunkSize = 0;
 	}
 
 	protected static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
@@ -56,6 +59,7 @@ public abstract class BaseTmxMapLoader<P extends AssetLoaderParameters<TiledMap>
 	protected Element root;
 	protected boolean convertObjectToTileSpace;
 	protected boolean flipY = true;
+	protected int tileLayerChunkSize;
 
 	protected int mapTileWidth;
 	protected int mapTileHeight;
@@ -74,7 +78,8 @@ public abstract class BaseTmxMapLoader<P extends AssetLoaderParameters<TiledMap>
 			int height = element.getIntAttribute("height", 0);
 			int tileWidth = element.getParent().getIntAttribute("tilewidth", 0);
 			int tileHeight = element.getParent().getIntAttribute("tileheight", 0);
-			TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+			TiledMapTileLayer layer = tileLayerChunkSize > 0 ? new TiledMapTileLayer(width, height, tileWidth, tileHeight,
+				tileLayerChunkSize) : new TiledMapTileLayer(width, height, tileWidth, tileHeight);
 
 			loadBasicLayerInfo(layer, element);
 
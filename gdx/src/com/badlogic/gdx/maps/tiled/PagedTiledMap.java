@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.maps.tiled;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/** A {@link TiledMap} whose tile layers and object groups are split into square pages that are loaded and unloaded on demand.
+ * Created by {@link PagedTmxMapLoader}, which indexes the map once and keeps each page's tiles compressed in memory. Tile layers
+ * use chunked storage with chunks the size of a page (see {@link TiledMapTileLayer#isChunked()}).
+ * <p>
+ * Call {@link #update(AssetManager, float, float, float, float)} when the view changes. Pages around the view are queued as
+ * {@link Page} assets, so their tiles are decompressed on the AssetManager's loading thread and applied when
+ * {@link AssetManager#update()} finishes them. Pages are kept in least recently used order and unloaded once more than
+ * {@link #setMaxResidentPages(int) max resident pages} are loaded. */
+public class PagedTiledMap extends TiledMap {
+	final int pageSize;
+	int pagesX, pagesY;
+	final Array<TiledMapTileLayer> tileLayers = new Array();
+	final Array<byte[][]> tileData = new Array();
+	final Array<MapLayer> objectLayers = new Array();
+	final Array<Array<MapObject>[]> objectData = new Array();
+	String fileName;
+
+	private int maxResidentPages;
+	private int preloadMargin = 1;
+	private float unitScale = 1;
+	private boolean[] resident;
+	private final IntArray residentOrder = new IntArray();
+
+	/** @param pageSize the width and height of a page in tiles
+	 * @param maxResidentPages see {@link #setMaxResidentPages(int)} */
+	public PagedTiledMap (int pageSize, int maxResidentPages) {
+		if (pageSize <= 0) throw new IllegalArgumentException("pageSize must be > 0: " + pageSize);
+		this.pageSize = pageSize;
+		this.maxResidentPages = maxResidentPages;
+	}
+
+	void setSize (int width, int height) {
+		pagesX = (width + pageSize - 1) / pageSize;
+		pagesY = (height + pageSize - 1) / pageSize;
+		resident = new boolean[pagesX * pagesY];
+	}
+
+	/** @return the width and height of a page in tiles */
+	public int getPageSize () {
+		return pageSize;
+	}
+
+	public int getPagesX () {
+		return pagesX;
+	}
+
+	public int getPagesY () {
+		return pagesY;
+	}
+
+	/** Sets the number of pages kept loaded. Pages intersecting the view (plus the preload margin) are never unloaded, so more
+	 * pages may be resident if the view needs them. */
+	public void setMaxResidentPages (int maxResidentPages) {
+		this.maxResidentPages = maxResidentPages;
+	}
+
+	public int getMaxResidentPages () {
+		return maxResidentPages;
+	}
+
+	/** Sets how many pages beyond the view in each direction are loaded ahead of time. Default is 1. */
+	public void setPreloadMargin (int pages) {
+		this.preloadMargin = pages;
+	}
+
+	/** Sets the scale used to convert the view passed to {@link #update(AssetManager, float, float, float, float)} to pixels. Should
+	 * match the unit scale of the map renderer. Default is 1. */
+	public void setUnitScale (float unitScale) {
+		this.unitScale = unitScale;
+	}
+
+	/** @return the number of pages that are loaded or queued for loading */
+	public int getResidentPages () {
+		return residentOrder.size;
+	}
+
+	/** Calls {@link #update(AssetManager, float, float, float, float)} with the camera's view. */
+	public void update (AssetManager manager, OrthographicCamera camera) {
+		float width = camera.viewportWidth * camera.zoom;
+		float height = camera.viewportHeight * camera.zoom;
+		update(manager, camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+	}
+
+	/** Queues pages intersecting the view for loading and unloads the least recently viewed pages that exceed the budget. Pages are
+	 * only applied to the map during {@link AssetManager#update()}. A {@link PageLoader} is registered with the manager if it has
+	 * no loader for {@link Page}. */
+	public void update (AssetManager manager, float x, float y, float width, float height) {
+		if (fileName == null) throw new IllegalStateException("The map was not loaded by PagedTmxMapLoader.");
+		if (manager.getLoader(Page.class) == null) manager.setLoader(Page.class, new PageLoader(new InternalFileHandleResolver()));
+
+		float pageWidth = getProperties().get("tilewidth", Integer.class) * pageSize * unitScale;
+		float pageHeight = getProperties().get("tileheight", Integer.class) * pageSize * unitScale;
+		int pageX1 = Math.max(0, (int)Math.floor(x / pageWidth) - preloadMargin);
+		int pageY1 = Math.max(0, (int)Math.floor(y / pageHeight) - preloadMargin);
+		int pageX2 = Math.min(pagesX - 1, (int)Math.floor((x + width) / pageWidth) + preloadMargin);
+		int pageY2 = Math.min(pagesY - 1, (int)Math.floor((y + height) / pageHeight) + preloadMargin);
+
+		IntArray residentOrder = this.residentOrder;
+		for (int pageY = pageY1; pageY <= pageY2; pageY++) {
+			for (int pageX = pageX1; pageX <= pageX2; pageX++) {
+				int index = pageY * pagesX + pageX;
+				if (resident[index]) {
+					residentOrder.removeValue(index);
+				} else {
+					resident[index] = true;
+					PageParameters parameter = new PageParameters();
+					parameter.map = this;
+					parameter.page = index;
+					manager.load(getPageFileName(index), Page.class, parameter);
+				}
+				residentOrder.add(index);
+			}
+		}
+
+		for (int i = 0; residentOrder.size > maxResidentPages && i < residentOrder.size;) {
+			int index = residentOrder.get(i);
+			int pageX = index % pagesX, pageY = index / pagesX;
+			if (pageX >= pageX1 && pageX <= pageX2 && pageY >= pageY1 && pageY <= pageY2) {
+				i++;
+				continue;
+			}
+			residentOrder.removeIndex(i);
+			resident[index] = false;
+			manager.unload(getPageFileName(index));
+		}
+	}
+
+	/** Unloads all pages loaded by {@link #update(AssetManager, float, float, float, float)}. */
+	public void unloadPages (AssetManager manager) {
+		for (int i = 0, n = residentOrder.size; i < n; i++) {
+			int index = residentOrder.get(i);
+			resident[index] = false;
+			manager.unload(getPageFileName(index));
+		}
+		residentOrder.clear();
+	}
+
+	/** @return the asset file name of the page */
+	public String getPageFileName (int pageX, int pageY) {
+		return getPageFileName(pageY * pagesX + pageX);
+	}
+
+	private String getPageFileName (int index) {
+		return fileName + "#page" + index % pagesX + "," + index / pagesX;
+	}
+
+	/** Loads a page immediately, without an AssetManager. Dispose the page to unload it. */
+	public Page loadPage (int pageX, int pageY) {
+		if (pageX < 0 || pageX >= pagesX || pageY < 0 || pageY >= pagesY)
+			throw new IllegalArgumentException("Invalid page: " + pageX + "," + pageY);
+		Page page = new Page(this, pageY * pagesX + pageX);
+		page.decompress();
+		page.apply();
+		return page;
+	}
+
+	/** Packed cells of a page of a tile layer, compressed with {@link Deflater}. Returns null if the page is empty. */
+	static byte[] compress (int[] cells, Deflater deflater, byte[] buffer) {
+		boolean empty = true;
+		for (int i = 0, n = cells.length; i < n; i++) {
+			if (cells[i] != 0) {
+				empty = false;
+				break;
+			}
+		}
+		if (empty) return null;
+
+		byte[] bytes = new byte[cells.length * 4];
+		for (int i = 0, ii = 0, n = cells.length; i < n; i++, ii += 4) {
+			int value = cells[i];
+			bytes[ii] = (byte)value;
+			bytes[ii + 1] = (byte)(value >> 8);
+			bytes[ii + 2] = (byte)(value >> 16);
+			bytes[ii + 3] = (byte)(value >> 24);
+		}
+		deflater.reset();
+		deflater.setInput(bytes);
+		deflater.finish();
+		int length = 0;
+		while (!deflater.finished()) {
+			if (length == buffer.length) {
+				byte[] newBuffer = new byte[buffer.length * 2];
+				System.arraycopy(buffer, 0, newBuffer, 0, length);
+				buffer = newBuffer;
+			}
+			length += deflater.deflate(buffer, length, buffer.length - length);
+		}
+		byte[] compressed = new byte[length];
+		System.arraycopy(buffer, 0, compressed, 0, length);
+		return compressed;
+	}
+
+	static int[] decompress (byte[] compressed, int cellCount, Inflater inflater) {
+		byte[] bytes = new byte[cellCount * 4];
+		inflater.reset();
+		inflater.setInput(compressed);
+		try {
+			int length = 0;
+			while (length < bytes.length && !inflater.finished())
+				length += inflater.inflate(bytes, length, bytes.length - length);
+			if (length != bytes.length) throw new GdxRuntimeException("Premature end of page data.");
+		} catch (DataFormatException ex) {
+			throw new GdxRuntimeException("Error decompressing page data.", ex);
+		}
+		int[] cells = new int[cellCount];
+		for (int i = 0, ii = 0; i < cellCount; i++, ii += 4)
+			cells[i] = (bytes[ii] & 0xff) | (bytes[ii + 1] & 0xff) << 8 | (bytes[ii + 2] & 0xff) << 16 | (bytes[ii + 3] & 0xff) << 24;
+		return cells;
+	}
+
+	/** The tiles and objects of one page of a {@link PagedTiledMap}. Disposing the page removes them from the map. */
+	static public class Page implements Disposable {
+		final PagedTiledMap map;
+		final int index;
+		int[][] cells;
+		boolean applied;
+
+		Page (PagedTiledMap map, int index) {
+			this.map = map;
+			this.index = index;
+		}
+
+		public int getPageX () {
+			return index % map.pagesX;
+		}
+
+		public int getPageY () {
+			return index / map.pagesX;
+		}
+
+		void decompress () {
+			int pageSize = map.pageSize;
+			Inflater inflater = new Inflater();
+			cells = new int[map.tileLayers.size][];
+			for (int i = 0, n = cells.length; i < n; i++) {
+				byte[] compressed = map.tileData.get(i)[index];
+				if (compressed != null) cells[i] = PagedTiledMap.decompress(compressed, pageSize * pageSize, inflater);
+			}
+			inflater.end();
+		}
+
+		void apply () {
+			int pageX = getPageX(), pageY = getPageY();
+			for (int i = 0, n = cells.length; i < n; i++)
+				if (cells[i] != null) map.tileLayers.get(i).setChunkData(pageX, pageY, cells[i]);
+			cells = null;
+			for (int i = 0, n = map.objectLayers.size; i < n; i++) {
+				Array<MapObject> objects = map.objectData.get(i)[index];
+				if (objects == null) continue;
+				MapObjects layerObjects = map.objectLayers.get(i).getObjects();
+				for (int ii = 0, nn = objects.size; ii < nn; ii++)
+					layerObjects.add(objects.get(ii));
+			}
+			applied = true;
+		}
+
+		@Override
+		public void dispose () {
+			if (!applied) return;
+			applied = false;
+			int pageX = getPageX(), pageY = getPageY();
+			for (int i = 0, n = map.tileLayers.size; i < n; i++)
+				map.tileLayers.get(i).setChunkData(pageX, pageY, null);
+			for (int i = 0, n = map.objectLayers.size; i < n; i++) {
+				Array<MapObject> objects = map.objectData.get(i)[index];
+				if (objects == null) continue;
+				MapObjects layerObjects = map.objectLayers.get(i).getObjects();
+				for (int ii = 0, nn = objects.size; ii < nn; ii++)
+					layerObjects.remove(objects.get(ii));
+			}
+		}
+	}
+
+	static public class PageParameters extends AssetLoaderParameters<Page> {
+		public PagedTiledMap map;
+		public int page;
+		Page loaded;
+	}
+
+	/** Loads {@link Page} assets queued by {@link PagedTiledMap#update(AssetManager, float, float, float, float)}. Tiles are
+	 * decompressed asynchronously and applied to the map on the rendering thread. The page being loaded is kept in its parameters,
+	 * so several pages can be loaded in parallel. */
+	static public class PageLoader extends AsynchronousAssetLoader<Page, PageParameters> {
+		public PageLoader (FileHandleResolver resolver) {
+			super(resolver);
+		}
+
+		@Override
+		public void loadAsync (AssetManager manager, String fileName, FileHandle file, PageParameters parameter) {
+			Page page = new Page(parameter.map, parameter.page);
+			page.decompress();
+			parameter.loaded = page;
+		}
+
+		@Override
+		public Page loadSync (AssetManager manager, String fileName, FileHandle file, PageParameters parameter) {
+			Page page = parameter.loaded;
+			parameter.loaded = null;
+			page.apply();
+			return page;
+		}
+
+		@Override
+		public Array getDependencies (String fileName, FileHandle file, PageParameters parameter) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.maps.tiled;
+
+import java.util.zip.Deflater;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+/** @brief loader for TMX maps that are too large to keep in memory, producing a {@link PagedTiledMap}
+ * <p>
+ * The map is parsed and decoded once. Tile layers are then split into pages whose cells are kept compressed, and objects are
+ * assigned to the page containing their position. No tiles or objects are in the map until pages are loaded, see
+ * {@link PagedTiledMap#update(AssetManager, float, float, float, float)}. Register the loader for {@link TiledMap} with an
+ * {@link AssetManager} or call {@link #load(String, TmxMapLoader.Parameters)} directly. */
+public class PagedTmxMapLoader extends TmxMapLoader {
+
+	public static class Parameters extends TmxMapLoader.Parameters {
+		/** The width and height of a page in tiles. **/
+		public int pageSize = 64;
+		/** See {@link PagedTiledMap#setMaxResidentPages(int)}. **/
+		public int maxResidentPages = 64;
+	}
+
+	protected int pageSize;
+	protected int maxResidentPages;
+	protected String fileName;
+	protected int mapWidth, mapHeight;
+
+	public PagedTmxMapLoader () {
+		super(new InternalFileHandleResolver());
+	}
+
+	public PagedTmxMapLoader (FileHandleResolver resolver) {
+		super(resolver);
+	}
+
+	/** Loads the map index. The returned map is a {@link PagedTiledMap}. */
+	@Override
+	public TiledMap load (String fileName) {
+		return load(fileName, new PagedTmxMapLoader.Parameters());
+	}
+
+	/** Loads the map index. The returned map is a {@link PagedTiledMap}.
+	 * @param parameters if a {@link PagedTmxMapLoader.Parameters}, also specifies the page size and budget */
+	@Override
+	public TiledMap load (String fileName, TmxMapLoader.Parameters parameters) {
+		setParameters(fileName, parameters);
+		return super.load(fileName, parameters);
+	}
+
+	@Override
+	public void loadAsync (AssetManager manager, String fileName, FileHandle tmxFile, TmxMapLoader.Parameters parameter) {
+		setParameters(fileName, parameter);
+		super.loadAsync(manager, fileName, tmxFile, parameter);
+	}
+
+	private void setParameters (String fileName, TmxMapLoader.Parameters parameters) {
+		this.fileName = fileName;
+		if (parameters instanceof Parameters) {
+			pageSize = ((Parameters)parameters).pageSize;
+			maxResidentPages = ((Parameters)parameters).maxResidentPages;
+		} else {
+			pageSize = 64;
+			maxResidentPages = 64;
+		}
+	}
+
+	@Override
+	protected TiledMap loadTilemap (Element root, FileHandle tmxFile, ImageResolver imageResolver) {
+		mapWidth = root.getIntAttribute("width", 0);
+		mapHeight = root.getIntAttribute("height", 0);
+		return super.loadTilemap(root, tmxFile, imageResolver);
+	}
+
+	@Override
+	protected TiledMap createTiledMap () {
+		PagedTiledMap map = new PagedTiledMap(pageSize, maxResidentPages);
+		map.fileName = fileName;
+		map.setSize(mapWidth, mapHeight);
+		return map;
+	}
+
+	/** Splits the layer into compressed pages instead of setting its cells. */
+	@Override
+	protected void loadTileLayer (TiledMap map, Element element) {
+		if (element.getName().equals("layer")) {
+			PagedTiledMap pagedMap = (PagedTiledMap)map;
+			int width = element.getIntAttribute("width", 0);
+			int height = element.getIntAttribute("height", 0);
+			int tileWidth = element.getParent().getIntAttribute("tilewidth", 0);
+			int tileHeight = element.getParent().getIntAttribute("tileheight", 0);
+			TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight, pageSize);
+
+			loadBasicLayerInfo(layer, element);
+
+			Cell[] flipCells = new Cell[8];
+			for (int i = 0; i < 8; i++)
+				flipCells[i] = createTileLayerCell((i & 4) != 0, (i & 2) != 0, (i & 1) != 0);
+
+			int[] ids = getTileIds(element, width, height);
+			TiledMapTileSets tilesets = map.getTileSets();
+			int pageSize = this.pageSize, pagesX = pagedMap.pagesX;
+			int pageColumns = Math.min(pagesX, layer.getChunksX()), pageRows = Math.min(pagedMap.pagesY, layer.getChunksY());
+			byte[][] pages = new byte[pagesX * pagedMap.pagesY][];
+			int[] cells = new int[pageSize * pageSize];
+			Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			byte[] buffer = new byte[4096];
+			for (int pageY = 0; pageY < pageRows; pageY++) {
+				for (int pageX = 0; pageX < pageColumns; pageX++) {
+					for (int i = 0, n = cells.length; i < n; i++)
+						cells[i] = 0;
+					int x1 = pageX * pageSize, x2 = Math.min(width, x1 + pageSize);
+					int y1 = pageY * pageSize, y2 = Math.min(height, y1 + pageSize);
+					for (int y = y1; y < y2; y++) {
+						int row = (flipY ? height - 1 - y : y) * width;
+						for (int x = x1; x < x2; x++) {
+							int id = ids[row + x];
+							TiledMapTile tile = tilesets.getTile(id & ~MASK_CLEAR);
+							if (tile == null) continue;
+							Cell flipCell = flipCells[(id >>> 29) & 7];
+							cells[(y - y1) * pageSize + x - x1] = layer.pack(tile, flipCell.getFlipHorizontally(),
+								flipCell.getFlipVertically(), flipCell.getRotation());
+						}
+					}
+					pages[pageY * pagesX + pageX] = PagedTiledMap.compress(cells, deflater, buffer);
+				}
+			}
+			deflater.end();
+
+			Element properties = element.getChildByName("properties");
+			if (properties != null) {
+				loadProperties(layer.getProperties(), properties);
+			}
+			map.getLayers().add(layer);
+			pagedMap.tileLayers.add(layer);
+			pagedMap.tileData.add(pages);
+		}
+	}
+
+	/** Assigns the objects to pages instead of adding them to the layer. */
+	@Override
+	protected void loadObjectGroup (TiledMap map, Element element) {
+		if (element.getName().equals("objectgroup")) {
+			PagedTiledMap pagedMap = (PagedTiledMap)map;
+			String name = element.getAttribute("name", null);
+			MapLayer layer = new MapLayer();
+			layer.setName(name);
+			Element properties = element.getChildByName("properties");
+			if (properties != null) {
+				loadProperties(layer.getProperties(), properties);
+			}
+
+			int pagesX = pagedMap.pagesX, pagesY = pagedMap.pagesY;
+			Array<MapObject>[] pages = new Array[pagesX * pagesY];
+			MapObjects objects = layer.getObjects();
+			for (Element objectElement : element.getChildrenByName("object")) {
+				loadObject(map, layer, objectElement);
+				if (objects.getCount() == 0) continue;
+				MapObject object = objects.get(0);
+				objects.remove(0);
+
+				float x = objectElement.getFloatAttribute("x", 0);
+				float y = objectElement.getFloatAttribute("y", 0);
+				if (flipY) y = mapHeightInPixels - y;
+				int pageX = Math.max(0, Math.min(pagesX - 1, (int)(x / mapTileWidth) / pageSize));
+				int pageY = Math.max(0, Math.min(pagesY - 1, (int)(y / mapTileHeight) / pageSize));
+				int index = pageY * pagesX + pageX;
+				if (pages[index] == null) pages[index] = new Array();
+				pages[index].add(object);
+			}
+
+			map.getLayers().add(layer);
+			pagedMap.objectLayers.add(layer);
+			pagedMap.objectData.add(pages);
+		}
+	}
+}
@@ -17,8 +17,14 @@
 package com.badlogic.gdx.maps.tiled;
 
 import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
 
-/** @brief Layer for a TiledMap */
+/** @brief Layer for a TiledMap
+ * <p>
+ * By default cells are stored in a dense array with one {@link Cell} object per tile. Large, sparse or frequently modified layers
+ * can instead use chunked storage (see {@link #TiledMapTileLayer(int, int, int, int, int)}), where square chunks of packed
+ * primitive tile data are allocated only once a tile is set in them and each chunk tracks whether it was modified. */
 public class TiledMapTileLayer extends MapLayer {
 
 	private int width;
@@ -29,6 +35,21 @@ public class TiledMapTileLayer extends MapLayer {
 
 	private Cell[][] cells;
 
+	static private final int PRESENT = 1 << 27;
+	static private final int FLIP_HORIZONTALLY = 1 << 31;
+	static private final int FLIP_VERTICALLY = 1 << 30;
+	static private final int ROTATION_SHIFT = 28;
+	static private final int TILE_MASK = PRESENT - 1;
+
+	private int chunkSize, chunksX, chunksY;
+	private int[][] chunks;
+	private int[] chunkCounts;
+	private int[] chunkRevisions;
+	private int revision;
+	private Array<TiledMapTile> tiles;
+	private ObjectIntMap<TiledMapTile> tileIds;
+	private ChunkCell chunkCell;
+
 	/** @return layer's width in tiles */
 	public int getWidth () {
 		return width;
@@ -64,13 +85,47 @@ public class TiledMapTileLayer extends MapLayer {
 		this.cells = new Cell[width][height];
 	}
 
+	/** Creates TiledMap layer that uses chunked storage. Each chunk holds the tiles, flip and rotation of chunkSize * chunkSize
+	 * cells packed in an int array, allocated when the first cell in it is set and released when it becomes empty again.
+	 * <p>
+	 * {@link #getCell(int, int)} returns a single reused {@link Cell} which writes changes through to the layer and is only valid
+	 * until the next call.
+	 * 
+	 * @param width layer width in tiles
+	 * @param height layer height in tiles
+	 * @param tileWidth tile width in pixels
+	 * @param tileHeight tile height in pixels
+	 * @param chunkSize chunk width and height in tiles */
+	public TiledMapTileLayer (int width, int height, int tileWidth, int tileHeight, int chunkSize) {
+		super();
+		if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be > 0: " + chunkSize);
+		this.width = width;
+		this.height = height;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.chunkSize = chunkSize;
+		chunksX = (width + chunkSize - 1) / chunkSize;
+		chunksY = (height + chunkSize - 1) / chunkSize;
+		chunks = new int[chunksX * chunksY][];
+		chunkCounts = new int[chunks.length];
+		chunkRevisions = new int[chunks.length];
+		tiles = new Array();
+		tiles.add(null);
+		tileIds = new ObjectIntMap();
+		chunkCell = new ChunkCell();
+	}
+
 	/** @param x X coordinate
 	 * @param y Y coordinate
 	 * @return {@link Cell} at (x, y) */
 	public Cell getCell (int x, int y) {
 		if (x < 0 || x >= width) return null;
 		if (y < 0 || y >= height) return null;
-		return cells[x][y];
+		if (cells != null) return cells[x][y];
+		if (getPacked(x, y) == 0) return null;
+		chunkCell.x = x;
+		chunkCell.y = y;
+		return chunkCell;
 	}
 
 	/** Sets the {@link Cell} at the given coordinates.
@@ -81,7 +136,158 @@ public class TiledMapTileLayer extends MapLayer {
 	public void setCell (int x, int y, Cell cell) {
 		if (x < 0 || x >= width) return;
 		if (y < 0 || y >= height) return;
-		cells[x][y] = cell;
+		if (cells != null) {
+			cells[x][y] = cell;
+			return;
+		}
+		if (cell == null)
+			setPacked(x, y, 0);
+		else
+			setPacked(x, y, pack(cell.getTile(), cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation()));
+	}
+
+	/** @return the chunk width and height in tiles, or 0 if this layer does not use chunked storage */
+	public int getChunkSize () {
+		return chunkSize;
+	}
+
+	/** @return whether this layer uses chunked storage */
+	public boolean isChunked () {
+		return cells == null;
+	}
+
+	/** @return the number of chunk columns, or 0 if this layer does not use chunked storage */
+	public int getChunksX () {
+		return chunksX;
+	}
+
+	/** @return the number of chunk rows, or 0 if this layer does not use chunked storage */
+	public int getChunksY () {
+		return chunksY;
+	}
+
+	/** @return true if no cell in the chunk is set, in which case it has no storage allocated */
+	public boolean isChunkEmpty (int chunkX, int chunkY) {
+		if (chunkX < 0 || chunkX >= chunksX) return true;
+		if (chunkY < 0 || chunkY >= chunksY) return true;
+		return chunks[chunkY * chunksX + chunkX] == null;
+	}
+
+	/** @return a number that is incremented whenever a cell of a chunked layer changes. Compare it to a value stored earlier to
+	 *         find out whether the layer changed since then, see {@link #getChunkRevision(int, int)}. */
+	public int getRevision () {
+		return revision;
+	}
+
+	/** @return the {@link #getRevision() revision} of the layer after the last change of a cell in the chunk, or 0 if no cell in
+	 *         it has changed. A chunk changed since a revision was stored if its revision is greater. */
+	public int getChunkRevision (int chunkX, int chunkY) {
+		if (chunkX < 0 || chunkX >= chunksX) return 0;
+		if (chunkY < 0 || chunkY >= chunksY) return 0;
+		return chunkRevisions[chunkY * chunksX + chunkX];
+	}
+
+	/** Returns the packed cell value used by chunked storage, adding the tile to the layer's tile palette if necessary. */
+	int pack (TiledMapTile tile, boolean flipHorizontally, boolean flipVertically, int rotation) {
+		int packed = PRESENT | (rotation & 3) << ROTATION_SHIFT;
+		if (flipHorizontally) packed |= FLIP_HORIZONTALLY;
+		if (flipVertically) packed |= FLIP_VERTICALLY;
+		if (tile != null) {
+			int id = tileIds.get(tile, 0);
+			if (id == 0) {
+				id = tiles.size;
+				tiles.add(tile);
+				tileIds.put(tile, id);
+			}
+			packed |= id;
+		}
+		return packed;
+	}
+
+	/** @return the packed cells of the chunk, or null if the chunk is empty. The array must not be modified. */
+	int[] getChunkData (int chunkX, int chunkY) {
+		return chunks[chunkY * chunksX + chunkX];
+	}
+
+	/** Replaces all cells of the chunk and updates its revision.
+	 * @param data the packed cells, which the layer takes ownership of, or null to clear the chunk. */
+	void setChunkData (int chunkX, int chunkY, int[] data) {
+		int index = chunkY * chunksX + chunkX;
+		int count = 0;
+		if (data != null) {
+			for (int i = 0, n = data.length; i < n; i++)
+				if (data[i] != 0) count++;
+		}
+		if (count == 0 && chunks[index] == null) return;
+		chunks[index] = count == 0 ? null : data;
+		chunkCounts[index] = count;
+		chunkRevisions[index] = ++revision;
+	}
+
+	private int getPacked (int x, int y) {
+		int[] chunk = chunks[y / chunkSize * chunksX + x / chunkSize];
+		if (chunk == null) return 0;
+		return chunk[y % chunkSize * chunkSize + x % chunkSize];
+	}
+
+	private void setPacked (int x, int y, int packed) {
+		int chunkSize = this.chunkSize;
+		int index = y / chunkSize * chunksX + x / chunkSize;
+		int[] chunk = chunks[index];
+		if (chunk == null) {
+			if (packed == 0) return;
+			chunk = chunks[index] = new int[chunkSize * chunkSize];
+		}
+		int cellIndex = y % chunkSize * chunkSize + x % chunkSize;
+		int old = chunk[cellIndex];
+		if (old == packed) return;
+		chunk[cellIndex] = packed;
+		if (old == 0)
+			chunkCounts[index]++;
+		else if (packed == 0 && --chunkCounts[index] == 0) chunks[index] = null;
+		chunkRevisions[index] = ++revision;
+	}
+
+	/** Cell returned by {@link #getCell(int, int)} for chunked storage, reading and writing the packed chunk data directly. */
+	private class ChunkCell extends Cell {
+		int x, y;
+
+		public TiledMapTile getTile () {
+			return tiles.get(getPacked(x, y) & TILE_MASK);
+		}
+
+		public void setTile (TiledMapTile tile) {
+			int packed = getPacked(x, y);
+			setPacked(x, y, pack(tile, (packed & FLIP_HORIZONTALLY) != 0, (packed & FLIP_VERTICALLY) != 0,
+				packed >>> ROTATION_SHIFT & 3));
+		}
+
+		public boolean getFlipHorizontally () {
+			return (getPacked(x, y) & FLIP_HORIZONTALLY) != 0;
+		}
+
+		public void setFlipHorizontally (boolean flipHorizontally) {
+			int packed = getPacked(x, y) | PRESENT;
+			setPacked(x, y, flipHorizontally ? packed | FLIP_HORIZONTALLY : packed & ~FLIP_HORIZONTALLY);
+		}
+
+		public boolean getFlipVertically () {
+			return (getPacked(x, y) & FLIP_VERTICALLY) != 0;
+		}
+
+		public void setFlipVertically (boolean flipVertically) {
+			int packed = getPacked(x, y) | PRESENT;
+			setPacked(x, y, flipVertically ? packed | FLIP_VERTICALLY : packed & ~FLIP_VERTICALLY);
+		}
+
+		public int getRotation () {
+			return getPacked(x, y) >>> ROTATION_SHIFT & 3;
+		}
+
+		public void setRotation (int rotation) {
+			int packed = getPacked(x, y) | PRESENT;
+			setPacked(x, y, packed & ~(3 << ROTATION_SHIFT) | (rotation & 3) << ROTATION_SHIFT);
+		}
 	}
 
 	/** @brief represents a cell in a TiledLayer: TiledMapTile, flip and rotation properties. */
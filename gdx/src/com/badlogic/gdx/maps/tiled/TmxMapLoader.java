@@ -74,6 +74,7 @@ public class TmxMapLoader extends BaseTmxMapLoader<TmxMapLoader.Parameters> {
 		try {
 			this.convertObjectToTileSpace = parameters.convertObjectToTileSpace;
 			this.flipY = parameters.flipY;
+			this.tileLayerChunkSize = parameters.tileLayerChunkSize;
 			FileHandle tmxFile = resolve(fileName);
 			root = xml.parse(tmxFile);
 			ObjectMap<String, Texture> textures = new ObjectMap<String, Texture>();
@@ -102,9 +103,11 @@ public class TmxMapLoader extends BaseTmxMapLoader<TmxMapLoader.Parameters> {
 		if (parameter != null) {
 			convertObjectToTileSpace = parameter.convertObjectToTileSpace;
 			flipY = parameter.flipY;
+			tileLayerChunkSize = parameter.tileLayerChunkSize;
 		} else {
 			convertObjectToTileSpace = false;
 			flipY = true;
+			tileLayerChunkSize = 0;
 		}
 		try {
 			map = loadTilemap(root, tmxFile, new AssetManagerImageResolver(manager));
@@ -153,7 +156,7 @@ public class TmxMapLoader extends BaseTmxMapLoader<TmxMapLoader.Parameters> {
 	 * @param imageResolver the {@link ImageResolver}
 	 * @return the {@link TiledMap} */
 	protected TiledMap loadTilemap (Element root, FileHandle tmxFile, ImageResolver imageResolver) {
-		TiledMap map = new TiledMap();
+		TiledMap map = createTiledMap();
 
 		String mapOrientation = root.getAttribute("orientation", null);
 		int mapWidth = root.getIntAttribute("width", 0);
@@ -211,6 +214,11 @@ public class TmxMapLoader extends BaseTmxMapLoader<TmxMapLoader.Parameters> {
 		return map;
 	}
 
+	/** @return the empty map {@link #loadTilemap(Element, FileHandle, ImageResolver)} loads into */
+	protected TiledMap createTiledMap () {
+		return new TiledMap();
+	}
+
 	/** Loads the tilesets
 	 * @param root the root XML element
 	 * @return a list of filenames for images containing tiles
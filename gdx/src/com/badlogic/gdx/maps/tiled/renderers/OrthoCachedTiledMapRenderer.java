@@ -36,13 +36,16 @@ import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 
 /** Renders ortho tiles by caching geometry on the GPU. How much is cached is controlled by {@link #setOverCache(float)}. When the
  * view reaches the edge of the cached tiles, the cache is rebuilt at the new view position.
  * <p>
  * This class may have poor performance when tiles are often changed dynamically, since the cache must be rebuilt after each
- * change.
+ * change. The exception are layers using chunked storage (see {@link TiledMapTileLayer#isChunked()}): those are cached per chunk,
+ * and only chunks changed since this renderer cached them are rebuilt.
  * @author Justin Shapcott
  * @author Nathan Sweet */
 public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable {
@@ -65,6 +68,11 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 	protected int count;
 	protected boolean canCacheMoreN, canCacheMoreE, canCacheMoreW, canCacheMoreS;
 
+	private final int cacheSize;
+	private final Array<LayerCache> layerCaches = new Array();
+	/** For each cache ID, the number of tiles the cache can hold. */
+	private final IntArray cacheTileCounts = new IntArray();
+
 	/** Creates a renderer with a unit scale of 1 and cache size of 2000. */
 	public OrthoCachedTiledMapRenderer (TiledMap map) {
 		this(map, 1, 2000);
@@ -79,6 +87,7 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 	public OrthoCachedTiledMapRenderer (TiledMap map, float unitScale, int cacheSize) {
 		this.map = map;
 		this.unitScale = unitScale;
+		this.cacheSize = cacheSize;
 		spriteCache = new SpriteCache(cacheSize, true);
 	}
 
@@ -114,28 +123,7 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 
 	@Override
 	public void render () {
-		if (!cached) {
-			cached = true;
-			count = 0;
-			spriteCache.clear();
-
-			final float extraWidth = viewBounds.width * overCache;
-			final float extraHeight = viewBounds.height * overCache;
-			cacheBounds.x = viewBounds.x - extraWidth;
-			cacheBounds.y = viewBounds.y - extraHeight;
-			cacheBounds.width = viewBounds.width + extraWidth * 2;
-			cacheBounds.height = viewBounds.height + extraHeight * 2;
-
-			for (MapLayer layer : map.getLayers()) {
-				spriteCache.beginCache();
-				if (layer instanceof TiledMapTileLayer) {
-					renderTileLayer((TiledMapTileLayer)layer);
-				} else if (layer instanceof TiledMapImageLayer) {
-					renderImageLayer((TiledMapImageLayer)layer);
-				}
-				spriteCache.endCache();
-			}
-		}
+		updateCache();
 
 		if (blending) {
 			Gdx.gl.glEnable(GL20.GL_BLEND);
@@ -146,7 +134,9 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 		for (int i = 0, j = mapLayers.getCount(); i < j; i++) {
 			MapLayer layer = mapLayers.get(i);
 			if (layer.isVisible()) {
-				spriteCache.draw(i);
+				IntArray caches = layerCaches.get(i).caches;
+				for (int ii = 0, n = caches.size; ii < n; ii++)
+					spriteCache.draw(caches.get(ii));
 				renderObjects(layer);
 			}
 		}
@@ -156,28 +146,7 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 
 	@Override
 	public void render (int[] layers) {
-		if (!cached) {
-			cached = true;
-			count = 0;
-			spriteCache.clear();
-
-			final float extraWidth = viewBounds.width * overCache;
-			final float extraHeight = viewBounds.height * overCache;
-			cacheBounds.x = viewBounds.x - extraWidth;
-			cacheBounds.y = viewBounds.y - extraHeight;
-			cacheBounds.width = viewBounds.width + extraWidth * 2;
-			cacheBounds.height = viewBounds.height + extraHeight * 2;
-
-			for (MapLayer layer : map.getLayers()) {
-				spriteCache.beginCache();
-				if (layer instanceof TiledMapTileLayer) {
-					renderTileLayer((TiledMapTileLayer)layer);
-				} else if (layer instanceof TiledMapImageLayer) {
-					renderImageLayer((TiledMapImageLayer)layer);
-				}
-				spriteCache.endCache();
-			}
-		}
+		updateCache();
 
 		if (blending) {
 			Gdx.gl.glEnable(GL20.GL_BLEND);
@@ -188,7 +157,9 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 		for (int i : layers) {
 			MapLayer layer = mapLayers.get(i);
 			if (layer.isVisible()) {
-				spriteCache.draw(i);
+				IntArray caches = layerCaches.get(i).caches;
+				for (int ii = 0, n = caches.size; ii < n; ii++)
+					spriteCache.draw(caches.get(ii));
 				renderObjects(layer);
 			}
 		}
@@ -196,6 +167,163 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 		if (blending) Gdx.gl.glDisable(GL20.GL_BLEND);
 	}
 
+	private void updateCache () {
+		if (cached) {
+			if (layerCaches.size != map.getLayers().getCount())
+				cached = false;
+			else
+				recacheDirtyChunks();
+		}
+		if (cached) return;
+		cached = true;
+		count = 0;
+		spriteCache.clear();
+		cacheTileCounts.clear();
+
+		final float extraWidth = viewBounds.width * overCache;
+		final float extraHeight = viewBounds.height * overCache;
+		cacheBounds.x = viewBounds.x - extraWidth;
+		cacheBounds.y = viewBounds.y - extraHeight;
+		cacheBounds.width = viewBounds.width + extraWidth * 2;
+		cacheBounds.height = viewBounds.height + extraHeight * 2;
+
+		MapLayers mapLayers = map.getLayers();
+		int layerCount = mapLayers.getCount();
+		while (layerCaches.size < layerCount)
+			layerCaches.add(new LayerCache());
+		layerCaches.truncate(layerCount);
+		for (int i = 0; i < layerCount; i++) {
+			MapLayer layer = mapLayers.get(i);
+			LayerCache layerCache = layerCaches.get(i);
+			layerCache.layer = null;
+			layerCache.caches.clear();
+			if (layer instanceof TiledMapTileLayer && ((TiledMapTileLayer)layer).isChunked()) {
+				cacheChunkedTileLayer((TiledMapTileLayer)layer, layerCache);
+			} else {
+				int start = count;
+				spriteCache.beginCache();
+				if (layer instanceof TiledMapTileLayer) {
+					renderTileLayer((TiledMapTileLayer)layer);
+				} else if (layer instanceof TiledMapImageLayer) {
+					renderImageLayer((TiledMapImageLayer)layer);
+				}
+				layerCache.caches.add(spriteCache.endCache());
+				cacheTileCounts.add(count - start);
+			}
+		}
+	}
+
+	/** Caches each chunk of the layer that intersects the cache bounds separately, so it can be rebuilt on its own. */
+	private void cacheChunkedTileLayer (TiledMapTileLayer layer, LayerCache layerCache) {
+		final int layerWidth = layer.getWidth();
+		final int layerHeight = layer.getHeight();
+
+		final float layerTileWidth = layer.getTileWidth() * unitScale;
+		final float layerTileHeight = layer.getTileHeight() * unitScale;
+
+		final int col1 = Math.max(0, (int)(cacheBounds.x / layerTileWidth));
+		final int col2 = Math.min(layerWidth, (int)((cacheBounds.x + cacheBounds.width + layerTileWidth) / layerTileWidth));
+
+		final int row1 = Math.max(0, (int)(cacheBounds.y / layerTileHeight));
+		final int row2 = Math.min(layerHeight, (int)((cacheBounds.y + cacheBounds.height + layerTileHeight) / layerTileHeight));
+
+		canCacheMoreN = row2 < layerHeight;
+		canCacheMoreE = col2 < layerWidth;
+		canCacheMoreW = col1 > 0;
+		canCacheMoreS = row1 > 0;
+
+		if (col1 >= col2 || row1 > row2 || row1 >= layerHeight) return;
+
+		layerCache.layer = layer;
+		layerCache.revision = layer.getRevision();
+		layerCache.col1 = col1;
+		layerCache.col2 = col2;
+		layerCache.row1 = row1;
+		layerCache.row2 = row2;
+
+		final int chunkSize = layer.getChunkSize();
+		final int chunkX1 = col1 / chunkSize, chunkX2 = (col2 - 1) / chunkSize;
+		final int chunkY1 = row1 / chunkSize, chunkY2 = Math.min(row2, layerHeight - 1) / chunkSize;
+		layerCache.chunkX1 = chunkX1;
+		layerCache.chunkY2 = chunkY2;
+		layerCache.chunkColumns = chunkX2 - chunkX1 + 1;
+
+		final float color = Color.toFloatBits(1, 1, 1, layer.getOpacity());
+		for (int chunkY = chunkY2; chunkY >= chunkY1; chunkY--) {
+			for (int chunkX = chunkX1; chunkX <= chunkX2; chunkX++) {
+				int start = count;
+				spriteCache.beginCache();
+				if (!layer.isChunkEmpty(chunkX, chunkY)) cacheChunk(layerCache, chunkX, chunkY, color);
+				layerCache.caches.add(spriteCache.endCache());
+				cacheTileCounts.add(count - start);
+			}
+		}
+	}
+
+	private void cacheChunk (LayerCache layerCache, int chunkX, int chunkY, float color) {
+		TiledMapTileLayer layer = layerCache.layer;
+		int chunkSize = layer.getChunkSize();
+		int col1 = Math.max(layerCache.col1, chunkX * chunkSize);
+		int col2 = Math.min(layerCache.col2, (chunkX + 1) * chunkSize);
+		int row1 = Math.max(layerCache.row1, chunkY * chunkSize);
+		int row2 = Math.min(layerCache.row2, (chunkY + 1) * chunkSize - 1);
+		renderTiles(layer, col1, col2, row1, row2, color);
+	}
+
+	/** Rebuilds the caches of chunks changed since they were cached. A chunk that now has more tiles than its cache can hold gets
+	 * a new cache at the end of the sprite cache. If there is no room left, the whole cache is invalidated instead. */
+	private void recacheDirtyChunks () {
+		for (int i = 0, n = layerCaches.size; i < n; i++) {
+			LayerCache layerCache = layerCaches.get(i);
+			TiledMapTileLayer layer = layerCache.layer;
+			if (layer == null || layer.getRevision() == layerCache.revision) continue;
+			int chunkSize = layer.getChunkSize();
+			float color = Color.toFloatBits(1, 1, 1, layer.getOpacity());
+			IntArray caches = layerCache.caches;
+			for (int index = 0, nn = caches.size; index < nn; index++) {
+				int chunkX = layerCache.chunkX1 + index % layerCache.chunkColumns;
+				int chunkY = layerCache.chunkY2 - index / layerCache.chunkColumns;
+				if (layer.getChunkRevision(chunkX, chunkY) <= layerCache.revision) continue;
+				int col1 = Math.max(layerCache.col1, chunkX * chunkSize);
+				int col2 = Math.min(layerCache.col2, (chunkX + 1) * chunkSize);
+				int row1 = Math.max(layerCache.row1, chunkY * chunkSize);
+				int row2 = Math.min(layerCache.row2, (chunkY + 1) * chunkSize - 1);
+				int tiles = 0;
+				for (int row = row2; row >= row1; row--) {
+					for (int col = col1; col < col2; col++) {
+						Cell cell = layer.getCell(col, row);
+						if (cell != null && cell.getTile() != null) tiles++;
+					}
+				}
+				int id = caches.get(index), lastId = cacheTileCounts.size - 1;
+				if (tiles <= cacheTileCounts.get(id) && id != lastId) {
+					spriteCache.beginCache(id);
+					renderTiles(layer, col1, col2, row1, row2, color);
+					spriteCache.endCache();
+					continue;
+				}
+				// The last cache is resized, another cache that is too small is replaced by a new last cache.
+				int free = cacheSize;
+				for (int ii = 0; ii <= lastId; ii++)
+					free -= cacheTileCounts.get(ii);
+				if (id == lastId) free += cacheTileCounts.get(id);
+				if (tiles > free) {
+					cached = false;
+					return;
+				}
+				if (id == lastId) {
+					spriteCache.beginCache(id);
+					cacheTileCounts.pop();
+				} else
+					spriteCache.beginCache();
+				renderTiles(layer, col1, col2, row1, row2, color);
+				caches.set(index, spriteCache.endCache());
+				cacheTileCounts.add(tiles);
+			}
+			layerCache.revision = layer.getRevision();
+		}
+	}
+
 	@Override
 	public void renderObjects (MapLayer layer) {
 		for (MapObject object : layer.getObjects()) {
@@ -228,6 +356,15 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 		canCacheMoreW = col1 > 0;
 		canCacheMoreS = row1 > 0;
 
+		renderTiles(layer, col1, col2, row1, row2, color);
+	}
+
+	/** Adds the tiles in columns col1 (inclusive) to col2 (exclusive) and rows row2 down to row1 (both inclusive) to the current
+	 * cache. */
+	private void renderTiles (TiledMapTileLayer layer, int col1, int col2, int row1, int row2, float color) {
+		final float layerTileWidth = layer.getTileWidth() * unitScale;
+		final float layerTileHeight = layer.getTileHeight() * unitScale;
+
 		float[] vertices = this.vertices;
 		for (int row = row2; row >= row1; row--) {
 			for (int col = col1; col < col2; col++) {
@@ -442,4 +579,14 @@ public class OrthoCachedTiledMapRenderer implements TiledMapRenderer, Disposable
 	public void dispose () {
 		spriteCache.dispose();
 	}
+
+	/** The caches of a map layer. For a chunked tile layer, one cache per chunk intersecting the cached cells, in rows from top to
+	 * bottom. */
+	static private class LayerCache {
+		final IntArray caches = new IntArray();
+		TiledMapTileLayer layer;
+		int revision;
+		int col1, col2, row1, row2;
+		int chunkX1, chunkY2, chunkColumns;
+	}
 }
@@ -90,6 +90,7 @@ public class Actor {
 		Array<Action> actions = this.actions;
 		if (actions.size > 0) {
 			if (stage != null && stage.getActionsRequestRendering()) Gdx.graphics.requestRendering();
+			redraw();
 			for (int i = 0; i < actions.size; i++) {
 				Action action = actions.get(i);
 				if (action.act(delta) && i < actions.size) {
@@ -257,6 +258,7 @@ public class Actor {
 		actions.add(action);
 
 		if (stage != null && stage.getActionsRequestRendering()) Gdx.graphics.requestRendering();
+		redraw();
 	}
 
 	public void removeAction (Action action) {
@@ -355,6 +357,7 @@ public class Actor {
 	/** If false, the actor will not be drawn and will not receive touch events. Default is true. */
 	public void setVisible (boolean visible) {
 		this.visible = visible;
+		redraw();
 	}
 
 	/** Returns an application specific object for convenience, or null. */
@@ -385,6 +388,7 @@ public class Actor {
 	public void setX (float x) {
 		if (this.x != x) {
 			this.x = x;
+			boundsChanged();
 			positionChanged();
 		}
 	}
@@ -397,6 +401,7 @@ public class Actor {
 	public void setY (float y) {
 		if (this.y != y) {
 			this.y = y;
+			boundsChanged();
 			positionChanged();
 		}
 	}
@@ -416,6 +421,7 @@ public class Actor {
 		if (this.x != x || this.y != y) {
 			this.x = x;
 			this.y = y;
+			boundsChanged();
 			positionChanged();
 		}
 	}
@@ -435,6 +441,7 @@ public class Actor {
 		if (this.x != x || this.y != y) {
 			this.x = x;
 			this.y = y;
+			boundsChanged();
 			positionChanged();
 		}
 	}
@@ -444,6 +451,7 @@ public class Actor {
 		if (x != 0 || y != 0) {
 			this.x += x;
 			this.y += y;
+			boundsChanged();
 			positionChanged();
 		}
 	}
@@ -455,7 +463,10 @@ public class Actor {
 	public void setWidth (float width) {
 		float oldWidth = this.width;
 		this.width = width;
-		if (width != oldWidth) sizeChanged();
+		if (width != oldWidth) {
+			boundsChanged();
+			sizeChanged();
+		}
 	}
 
 	public float getHeight () {
@@ -465,7 +476,10 @@ public class Actor {
 	public void setHeight (float height) {
 		float oldHeight = this.height;
 		this.height = height;
-		if (height != oldHeight) sizeChanged();
+		if (height != oldHeight) {
+			boundsChanged();
+			sizeChanged();
+		}
 	}
 
 	/** Returns y plus height. */
@@ -478,6 +492,21 @@ public class Actor {
 		return x + width;
 	}
 
+	/** Updates the parent's {@link Group#setGridCellSize(float) grid} and requests a {@link #redraw()} of a retained stage after
+	 * the position or size changed. */
+	private void boundsChanged () {
+		Group parent = this.parent;
+		if (parent != null && parent.grid != null) parent.grid.update(this);
+		if (stage != null) stage.redraw();
+	}
+
+	/** Causes a {@link Stage#setRetained(boolean) retained} stage to draw the actors again. Subclasses call this when a change
+	 * that doesn't go through the actor's setters or {@link com.badlogic.gdx.scenes.scene2d.utils.Layout#invalidate()} affects
+	 * how the actor is drawn. */
+	protected void redraw () {
+		if (stage != null) stage.redraw();
+	}
+
 	/** Called when the actor's position has been changed. */
 	protected void positionChanged () {
 	}
@@ -492,13 +521,17 @@ public class Actor {
 		float oldHeight = this.height;
 		this.width = width;
 		this.height = height;
-		if (width != oldWidth || height != oldHeight) sizeChanged();
+		if (width != oldWidth || height != oldHeight) {
+			boundsChanged();
+			sizeChanged();
+		}
 	}
 
 	/** Adds the specified size to the current size. */
 	public void sizeBy (float size) {
 		width += size;
 		height += size;
+		boundsChanged();
 		sizeChanged();
 	}
 
@@ -506,6 +539,7 @@ public class Actor {
 	public void sizeBy (float width, float height) {
 		this.width += width;
 		this.height += height;
+		boundsChanged();
 		sizeChanged();
 	}
 
@@ -514,11 +548,13 @@ public class Actor {
 		if (this.x != x || this.y != y) {
 			this.x = x;
 			this.y = y;
+			boundsChanged();
 			positionChanged();
 		}
 		if (this.width != width || this.height != height) {
 			this.width = width;
 			this.height = height;
+			boundsChanged();
 			sizeChanged();
 		}
 	}
@@ -529,6 +565,7 @@ public class Actor {
 
 	public void setOriginX (float originX) {
 		this.originX = originX;
+		redraw();
 	}
 
 	public float getOriginY () {
@@ -537,12 +574,14 @@ public class Actor {
 
 	public void setOriginY (float originY) {
 		this.originY = originY;
+		redraw();
 	}
 
 	/** Sets the origin position which is relative to the actor's bottom left corner. */
 	public void setOrigin (float originX, float originY) {
 		this.originX = originX;
 		this.originY = originY;
+		redraw();
 	}
 
 	/** Sets the origin position to the specified {@link Align alignment}. */
@@ -560,6 +599,7 @@ public class Actor {
 			originY = height;
 		else
 			originY = height / 2;
+		redraw();
 	}
 
 	public float getScaleX () {
@@ -568,6 +608,7 @@ public class Actor {
 
 	public void setScaleX (float scaleX) {
 		this.scaleX = scaleX;
+		redraw();
 	}
 
 	public float getScaleY () {
@@ -576,30 +617,35 @@ public class Actor {
 
 	public void setScaleY (float scaleY) {
 		this.scaleY = scaleY;
+		redraw();
 	}
 
 	/** Sets the scale for both X and Y */
 	public void setScale (float scaleXY) {
 		this.scaleX = scaleXY;
 		this.scaleY = scaleXY;
+		redraw();
 	}
 
 	/** Sets the scale X and scale Y. */
 	public void setScale (float scaleX, float scaleY) {
 		this.scaleX = scaleX;
 		this.scaleY = scaleY;
+		redraw();
 	}
 
 	/** Adds the specified scale to the current scale. */
 	public void scaleBy (float scale) {
 		scaleX += scale;
 		scaleY += scale;
+		redraw();
 	}
 
 	/** Adds the specified scale to the current scale. */
 	public void scaleBy (float scaleX, float scaleY) {
 		this.scaleX += scaleX;
 		this.scaleY += scaleY;
+		redraw();
 	}
 
 	public float getRotation () {
@@ -608,19 +654,23 @@ public class Actor {
 
 	public void setRotation (float degrees) {
 		this.rotation = degrees;
+		redraw();
 	}
 
 	/** Adds the specified rotation to the current rotation. */
 	public void rotateBy (float amountInDegrees) {
 		rotation += amountInDegrees;
+		redraw();
 	}
 
 	public void setColor (Color color) {
 		this.color.set(color);
+		redraw();
 	}
 
 	public void setColor (float r, float g, float b, float a) {
 		color.set(r, g, b, a);
+		redraw();
 	}
 
 	/** Returns the color the actor will be tinted when drawn. The returned instance can be modified to change the color. */
@@ -663,6 +713,7 @@ public class Actor {
 			children.add(this);
 		else
 			children.insert(index, this);
+		parent.childrenModified();
 	}
 
 	/** Returns the z-index of this actor.
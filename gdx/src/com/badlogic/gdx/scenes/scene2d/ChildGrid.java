@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Uniform grid of the children of a {@link Group}, in the group's coordinate system. Finds the children whose bounds overlap a
+ * point or rectangle without testing every child. Adding, removing or reordering children rebuilds the grid the next time it is
+ * queried, moving or resizing a child only updates the cells of that child.
+ * @see Group#setGridCellSize(float) */
+class ChildGrid {
+	/** Children covering more cells than this are tested by every query instead of being added to cells. */
+	static private final int maxCells = 64;
+
+	static private final Comparator<Entry> orderComparator = new Comparator<Entry>() {
+		public int compare (Entry o1, Entry o2) {
+			return o1.order - o2.order;
+		}
+	};
+
+	final float cellSize;
+	private final Group group;
+	private final ObjectMap<Actor, Entry> entries = new ObjectMap();
+	private final LongMap<Array<Entry>> cells = new LongMap();
+	private final Array<Entry> large = new Array();
+	private final Array<Array<Entry>> freeCells = new Array();
+	private final Array<Entry> freeEntries = new Array();
+	private final Array<Entry> found = new Array();
+	private final Array<Actor> results = new Array(Actor.class);
+	private boolean dirty = true;
+	private int query;
+
+	ChildGrid (Group group, float cellSize) {
+		this.group = group;
+		this.cellSize = cellSize;
+	}
+
+	/** Rebuilds the grid the next time it is queried. */
+	void invalidate () {
+		dirty = true;
+	}
+
+	/** Moves the child to the cells covered by its current bounds. */
+	void update (Actor actor) {
+		if (dirty) return;
+		Entry entry = entries.get(actor);
+		if (entry == null) return;
+		float cellSize = this.cellSize;
+		int x1 = cell(Math.min(actor.x, actor.x + actor.width) / cellSize);
+		int y1 = cell(Math.min(actor.y, actor.y + actor.height) / cellSize);
+		int x2 = cell(Math.max(actor.x, actor.x + actor.width) / cellSize);
+		int y2 = cell(Math.max(actor.y, actor.y + actor.height) / cellSize);
+		if (x1 == entry.x1 && y1 == entry.y1 && x2 == entry.x2 && y2 == entry.y2) return;
+		remove(entry);
+		add(entry, x1, y1, x2, y2);
+	}
+
+	/** Returns the children whose bounds overlap the rectangle, in the order of the group's children. The returned array is
+	 * reused by the next query. */
+	Array<Actor> query (float left, float bottom, float right, float top) {
+		if (dirty) rebuild();
+		Array<Actor> results = this.results;
+		results.clear();
+
+		float cellSize = this.cellSize;
+		int x1 = cell(left / cellSize), y1 = cell(bottom / cellSize);
+		int x2 = cell(right / cellSize), y2 = cell(top / cellSize);
+		if ((x2 - (long)x1 + 1) * (y2 - (long)y1 + 1) > cells.size) {
+			// Fewer occupied cells than cells in the rectangle, test every child.
+			Array<Actor> children = group.children;
+			for (int i = 0, n = children.size; i < n; i++) {
+				Actor child = children.get(i);
+				if (overlaps(child, left, bottom, right, top)) results.add(child);
+			}
+			return results;
+		}
+
+		int query = ++this.query;
+		Array<Entry> found = this.found;
+		for (int i = 0, n = large.size; i < n; i++) {
+			Entry entry = large.get(i);
+			if (overlaps(entry.actor, left, bottom, right, top)) found.add(entry);
+		}
+		for (int x = x1; x <= x2; x++) {
+			for (int y = y1; y <= y2; y++) {
+				Array<Entry> cell = cells.get(key(x, y));
+				if (cell == null) continue;
+				for (int i = 0, n = cell.size; i < n; i++) {
+					Entry entry = cell.get(i);
+					if (entry.query == query) continue;
+					entry.query = query;
+					if (overlaps(entry.actor, left, bottom, right, top)) found.add(entry);
+				}
+			}
+		}
+		if (found.size > 1) found.sort(orderComparator);
+		for (int i = 0, n = found.size; i < n; i++)
+			results.add(found.get(i).actor);
+		found.clear();
+		return results;
+	}
+
+	private void rebuild () {
+		dirty = false;
+		for (Array<Entry> cell : cells.values()) {
+			cell.clear();
+			freeCells.add(cell);
+		}
+		cells.clear();
+		large.clear();
+		for (Entry entry : entries.values()) {
+			entry.actor = null;
+			freeEntries.add(entry);
+		}
+		entries.clear();
+
+		float cellSize = this.cellSize;
+		Array<Actor> children = group.children;
+		for (int i = 0, n = children.size; i < n; i++) {
+			Actor actor = children.get(i);
+			Entry entry = freeEntries.size > 0 ? freeEntries.pop() : new Entry();
+			entry.actor = actor;
+			entry.order = i;
+			entries.put(actor, entry);
+			add(entry, cell(Math.min(actor.x, actor.x + actor.width) / cellSize),
+				cell(Math.min(actor.y, actor.y + actor.height) / cellSize), cell(Math.max(actor.x, actor.x + actor.width) / cellSize),
+				cell(Math.max(actor.y, actor.y + actor.height) / cellSize));
+		}
+	}
+
+	private void add (Entry entry, int x1, int y1, int x2, int y2) {
+		entry.x1 = x1;
+		entry.y1 = y1;
+		entry.x2 = x2;
+		entry.y2 = y2;
+		if ((x2 - (long)x1 + 1) * (y2 - (long)y1 + 1) > maxCells) {
+			large.add(entry);
+			return;
+		}
+		for (int x = x1; x <= x2; x++) {
+			for (int y = y1; y <= y2; y++) {
+				long key = key(x, y);
+				Array<Entry> cell = cells.get(key);
+				if (cell == null) {
+					cell = freeCells.size > 0 ? freeCells.pop() : new Array(false, 4);
+					cells.put(key, cell);
+				}
+				cell.add(entry);
+			}
+		}
+	}
+
+	private void remove (Entry entry) {
+		int x1 = entry.x1, y1 = entry.y1, x2 = entry.x2, y2 = entry.y2;
+		if ((x2 - (long)x1 + 1) * (y2 - (long)y1 + 1) > maxCells) {
+			large.removeValue(entry, true);
+			return;
+		}
+		for (int x = x1; x <= x2; x++) {
+			for (int y = y1; y <= y2; y++) {
+				long key = key(x, y);
+				Array<Entry> cell = cells.get(key);
+				cell.removeValue(entry, true);
+				if (cell.size == 0) freeCells.add(cells.remove(key));
+			}
+		}
+	}
+
+	static private boolean overlaps (Actor actor, float left, float bottom, float right, float top) {
+		float x = actor.x, y = actor.y, width = actor.width, height = actor.height;
+		return Math.min(x, x + width) <= right && Math.max(x, x + width) >= left && Math.min(y, y + height) <= top
+			&& Math.max(y, y + height) >= bottom;
+	}
+
+	static private int cell (float value) {
+		// Clamped so iterating to the last cell can't overflow.
+		return (int)Math.max(-0x40000000, Math.min(0x40000000, Math.floor(value)));
+	}
+
+	static private long key (int x, int y) {
+		return (long)x << 32 | y & 0xffffffffL;
+	}
+
+	static private class Entry {
+		Actor actor;
+		int order, query;
+		int x1, y1, x2, y2;
+	}
+}
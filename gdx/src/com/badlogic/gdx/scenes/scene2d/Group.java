@@ -41,6 +41,7 @@ public class Group extends Actor implements Cullable {
 	private final Matrix4 oldTransform = new Matrix4();
 	boolean transform = true;
 	private Rectangle cullingArea;
+	ChildGrid grid;
 
 	public void act (float delta) {
 		super.act(delta);
@@ -73,8 +74,14 @@ public class Group extends Actor implements Cullable {
 			float cullRight = cullLeft + cullingArea.width;
 			float cullBottom = cullingArea.y;
 			float cullTop = cullBottom + cullingArea.height;
+			int count = children.size;
+			if (grid != null) {
+				Array<Actor> inside = grid.query(cullLeft, cullBottom, cullRight, cullTop);
+				actors = inside.items;
+				count = inside.size;
+			}
 			if (transform) {
-				for (int i = 0, n = children.size; i < n; i++) {
+				for (int i = 0, n = count; i < n; i++) {
 					Actor child = actors[i];
 					if (!child.isVisible()) continue;
 					float cx = child.x, cy = child.y;
@@ -86,7 +93,7 @@ public class Group extends Actor implements Cullable {
 				float offsetX = x, offsetY = y;
 				x = 0;
 				y = 0;
-				for (int i = 0, n = children.size; i < n; i++) {
+				for (int i = 0, n = count; i < n; i++) {
 					Actor child = actors[i];
 					if (!child.isVisible()) continue;
 					float cx = child.x, cy = child.y;
@@ -241,11 +248,31 @@ public class Group extends Actor implements Cullable {
 		return cullingArea;
 	}
 
+	/** When greater than zero, children are kept in a uniform grid with the specified cell size so {@link #hit(float, float, boolean)}
+	 * and drawing with a {@link #setCullingArea(Rectangle) culling area} only test the children in the cells that are touched.
+	 * The grid uses the position and size of each child, so it is only valid for unrotated and unscaled children whose
+	 * descendants are inside their bounds. The grid is rebuilt when children are added, removed or reordered through this group
+	 * or {@link Actor#setZIndex(int)}, call this method again after modifying {@link #getChildren()} directly. Default is 0. */
+	public void setGridCellSize (float cellSize) {
+		grid = cellSize > 0 ? new ChildGrid(this, cellSize) : null;
+	}
+
+	/** @see #setGridCellSize(float) */
+	public float getGridCellSize () {
+		return grid == null ? 0 : grid.cellSize;
+	}
+
 	public Actor hit (float x, float y, boolean touchable) {
 		if (touchable && getTouchable() == Touchable.disabled) return null;
 		Vector2 point = tmp;
 		Actor[] childrenArray = children.items;
-		for (int i = children.size - 1; i >= 0; i--) {
+		int count = children.size;
+		if (grid != null) {
+			Array<Actor> hits = grid.query(x, y, x, y);
+			childrenArray = hits.items;
+			count = hits.size;
+		}
+		for (int i = count - 1; i >= 0; i--) {
 			Actor child = childrenArray[i];
 			if (!child.isVisible()) continue;
 			child.parentToLocalCoordinates(point.set(x, y));
@@ -259,12 +286,21 @@ public class Group extends Actor implements Cullable {
 	protected void childrenChanged () {
 	}
 
+	/** Rebuilds the grid and draws a {@link Stage#setRetained(boolean) retained} stage again after children were added, removed
+	 * or reordered. */
+	void childrenModified () {
+		if (grid != null) grid.invalidate();
+		Stage stage = getStage();
+		if (stage != null) stage.redraw();
+	}
+
 	/** Adds an actor as a child of this group. The actor is first removed from its parent group, if any. */
 	public void addActor (Actor actor) {
 		if (actor.parent != null) actor.parent.removeActor(actor, false);
 		children.add(actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		childrenModified();
 		childrenChanged();
 	}
 
@@ -278,6 +314,7 @@ public class Group extends Actor implements Cullable {
 			children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		childrenModified();
 		childrenChanged();
 	}
 
@@ -289,6 +326,7 @@ public class Group extends Actor implements Cullable {
 		children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		childrenModified();
 		childrenChanged();
 	}
 
@@ -303,6 +341,7 @@ public class Group extends Actor implements Cullable {
 			children.insert(index + 1, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		childrenModified();
 		childrenChanged();
 	}
 
@@ -324,6 +363,7 @@ public class Group extends Actor implements Cullable {
 		}
 		actor.setParent(null);
 		actor.setStage(null);
+		childrenModified();
 		childrenChanged();
 		return true;
 	}
@@ -338,6 +378,7 @@ public class Group extends Actor implements Cullable {
 		}
 		children.end();
 		children.clear();
+		childrenModified();
 		childrenChanged();
 	}
 
@@ -375,6 +416,7 @@ public class Group extends Actor implements Cullable {
 		if (first < 0 || first >= maxIndex) return false;
 		if (second < 0 || second >= maxIndex) return false;
 		children.swap(first, second);
+		childrenModified();
 		return true;
 	}
 
@@ -384,6 +426,7 @@ public class Group extends Actor implements Cullable {
 		int secondIndex = children.indexOf(second, true);
 		if (firstIndex == -1 || secondIndex == -1) return false;
 		children.swap(firstIndex, secondIndex);
+		childrenModified();
 		return true;
 	}
 
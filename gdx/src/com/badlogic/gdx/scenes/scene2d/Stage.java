@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.scenes.scene2d;
 
+import java.util.Arrays;
+
 import com.badlogic.gdx.Application.ApplicationType;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics;
@@ -26,8 +28,11 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
@@ -79,6 +84,10 @@ public class Stage extends InputAdapter implements Disposable {
 	private Actor keyboardFocus, scrollFocus;
 	private final SnapshotArray<TouchFocus> touchFocuses = new SnapshotArray(true, 4, TouchFocus.class);
 	private boolean actionsRequestRendering = true;
+	private boolean retained, redraw = true;
+	private FrameBuffer frameBuffer;
+	private final Matrix4 retainedProjection = new Matrix4(), compositeProjection = new Matrix4();
+	private int retainedX, retainedY, retainedWidth, retainedHeight;
 
 	private ShapeRenderer debugShapes;
 	private boolean debugInvisible, debugAll, debugUnderMouse, debugParentUnderMouse;
@@ -123,13 +132,92 @@ public class Stage extends InputAdapter implements Disposable {
 
 		Batch batch = this.batch;
 		if (batch != null) {
+			if (retained)
+				drawRetained(camera);
+			else {
+				batch.setProjectionMatrix(camera.combined);
+				batch.begin();
+				root.draw(batch, 1);
+				batch.end();
+			}
+		}
+
+		if (debug) drawDebug();
+	}
+
+	/** Draws the actors to the frame buffer if anything changed since they were last drawn, then draws the frame buffer. */
+	private void drawRetained (Camera camera) {
+		Batch batch = this.batch;
+		Viewport viewport = this.viewport;
+		int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+		if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+			if (frameBuffer != null) frameBuffer.dispose();
+			frameBuffer = new FrameBuffer(Format.RGBA8888, width, height, false);
+			redraw = true;
+		}
+		int x = viewport.getScreenX(), y = viewport.getScreenY();
+		int screenWidth = viewport.getScreenWidth(), screenHeight = viewport.getScreenHeight();
+		if (x != retainedX || y != retainedY || screenWidth != retainedWidth || screenHeight != retainedHeight
+			|| !Arrays.equals(camera.combined.val, retainedProjection.val)) {
+			retainedX = x;
+			retainedY = y;
+			retainedWidth = screenWidth;
+			retainedHeight = screenHeight;
+			retainedProjection.set(camera.combined);
+			redraw = true;
+		}
+
+		if (redraw) {
+			// Cleared first, changes made while drawing are drawn next frame.
+			redraw = false;
+			// The frame buffer is the size of the screen, the viewport set for the screen is kept.
+			frameBuffer.bind();
+			Gdx.gl.glClearColor(0, 0, 0, 0);
+			Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 			batch.setProjectionMatrix(camera.combined);
 			batch.begin();
 			root.draw(batch, 1);
 			batch.end();
+			FrameBuffer.unbind();
 		}
 
-		if (debug) drawDebug();
+		// The frame buffer colors are premultiplied by the blending used to draw them.
+		Texture texture = frameBuffer.getColorBufferTexture();
+		int srcFunc = batch.getBlendSrcFunc(), dstFunc = batch.getBlendDstFunc();
+		float color = batch.getPackedColor();
+		batch.setProjectionMatrix(compositeProjection.idt());
+		batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		batch.setColor(Color.WHITE);
+		batch.begin();
+		batch.draw(texture, -1, -1, 2, 2, x / (float)width, y / (float)height, (x + screenWidth) / (float)width,
+			(y + screenHeight) / (float)height);
+		batch.end();
+		batch.setBlendFunction(srcFunc, dstFunc);
+		batch.setColor(color);
+	}
+
+	/** When true, the actors are drawn to a {@link FrameBuffer} the size of the screen and {@link #draw()} only draws them again
+	 * when something changed, otherwise the frame buffer is drawn. Changes are tracked for actor bounds, rotation, scale, color,
+	 * visibility, children, actions, layout invalidation, the state set by the UI widgets' setters, handled input events, enter
+	 * and exit, keyboard focus and the camera. {@link #redraw()} must be called for other changes, such as modifying an actor's
+	 * color returned by {@link Actor#getColor()}. The stage must be drawn to the default frame buffer and translucent pixels
+	 * lose some alpha because it is blended twice. Default is false. */
+	public void setRetained (boolean retained) {
+		this.retained = retained;
+		redraw = true;
+		if (!retained && frameBuffer != null) {
+			frameBuffer.dispose();
+			frameBuffer = null;
+		}
+	}
+
+	public boolean isRetained () {
+		return retained;
+	}
+
+	/** Causes the actors to be drawn again by the next {@link #draw()} when the stage is {@link #setRetained(boolean) retained}. */
+	public void redraw () {
+		redraw = true;
 	}
 
 	private void drawDebug () {
@@ -228,6 +316,7 @@ public class Stage extends InputAdapter implements Disposable {
 		screenToStageCoordinates(tempCoords.set(screenX, screenY));
 		Actor over = hit(tempCoords.x, tempCoords.y, true);
 		if (over == overLast) return overLast;
+		redraw = true;
 
 		InputEvent event = Pools.obtain(InputEvent.class);
 		event.setStage(this);
@@ -314,6 +403,7 @@ public class Stage extends InputAdapter implements Disposable {
 		touchFocuses.end();
 
 		boolean handled = event.isHandled();
+		if (handled) redraw = true;
 		Pools.free(event);
 		return handled;
 	}
@@ -351,6 +441,7 @@ public class Stage extends InputAdapter implements Disposable {
 		touchFocuses.end();
 
 		boolean handled = event.isHandled();
+		if (handled) redraw = true;
 		Pools.free(event);
 		return handled;
 	}
@@ -601,6 +692,7 @@ public class Stage extends InputAdapter implements Disposable {
 	 * @param actor May be null. */
 	public void setKeyboardFocus (Actor actor) {
 		if (keyboardFocus == actor) return;
+		redraw = true;
 		FocusEvent event = Pools.obtain(FocusEvent.class);
 		event.setStage(this);
 		event.setType(FocusEvent.Type.keyboard);
@@ -810,6 +902,7 @@ public class Stage extends InputAdapter implements Disposable {
 	public void dispose () {
 		clear();
 		if (ownsBatch) batch.dispose();
+		if (frameBuffer != null) frameBuffer.dispose();
 	}
 
 	/** Internal class for managing touch focus. Public only for GWT.
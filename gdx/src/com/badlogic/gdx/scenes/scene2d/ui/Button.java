@@ -123,6 +123,7 @@ public class Button extends Table implements Disableable {
 			if (fire(changeEvent)) this.isChecked = !isChecked;
 			Pools.free(changeEvent);
 		}
+		redraw();
 	}
 
 	/** Toggles the checked state. This method changes the checked state, which fires a {@link ChangeEvent} (if programmatic change
@@ -153,7 +154,9 @@ public class Button extends Table implements Disableable {
 
 	/** When true, the button will not toggle {@link #isChecked()} when clicked and will not fire a {@link ChangeEvent}. */
 	public void setDisabled (boolean isDisabled) {
+		if (this.isDisabled == isDisabled) return;
 		this.isDisabled = isDisabled;
+		redraw();
 	}
 
 	/** If false, {@link #setChecked(boolean)} and {@link #toggle()} will not fire {@link ChangeEvent}, event will be fired only when user clicked the checkbox */
@@ -88,7 +88,8 @@ public class Container<T extends Actor> extends WidgetGroup {
 			else
 				pad(background.getTopHeight(), background.getLeftWidth(), background.getBottomHeight(), background.getRightWidth());
 			invalidate();
-		}
+		} else
+			redraw();
 	}
 
 	/** @see #setBackground(Drawable) */
@@ -145,6 +145,7 @@ public class Image extends Widget {
 		} else
 			invalidateHierarchy();
 		this.drawable = drawable;
+		redraw();
 	}
 
 	public Drawable getDrawable () {
@@ -154,10 +155,12 @@ public class Image extends Widget {
 	public void setScaling (Scaling scaling) {
 		if (scaling == null) throw new IllegalArgumentException("scaling cannot be null.");
 		this.scaling = scaling;
+		invalidate();
 	}
 
 	public void setAlign (int align) {
 		this.align = align;
+		invalidate();
 	}
 
 	public float getMinWidth () {
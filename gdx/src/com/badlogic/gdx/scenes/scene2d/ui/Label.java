@@ -68,6 +68,7 @@ public class Label extends Widget {
 
 	public Label (CharSequence text, LabelStyle style) {
 		if (text != null) this.text.append(text);
+		layout.setIncremental(true);
 		setStyle(style);
 		if (text != null && text.length() > 0) setSize(getPrefWidth(), getPrefHeight());
 	}
@@ -77,6 +78,7 @@ public class Label extends Widget {
 		if (style.font == null) throw new IllegalArgumentException("Missing LabelStyle font.");
 		this.style = style;
 		cache = style.font.newFontCache();
+		cache.setIncremental(true);
 		invalidateHierarchy();
 	}
 
@@ -103,7 +103,10 @@ public class ProgressBar extends Widget implements Disableable {
 		if (animateTime > 0) {
 			animateTime -= delta;
 			Stage stage = getStage();
-			if (stage != null && stage.getActionsRequestRendering()) Gdx.graphics.requestRendering();
+			if (stage != null) {
+				if (stage.getActionsRequestRendering()) Gdx.graphics.requestRendering();
+				stage.redraw();
+			}
 		}
 	}
 
@@ -243,6 +246,7 @@ public class ProgressBar extends Widget implements Disableable {
 			animateTime = animateDuration;
 		}
 		Pools.free(changeEvent);
+		redraw();
 		return !cancelled;
 	}
 
@@ -260,6 +264,7 @@ public class ProgressBar extends Widget implements Disableable {
 		if (value < min)
 			setValue(min);
 		else if (value > max) setValue(max);
+		redraw();
 	}
 
 	public void setStepSize (float stepSize) {
@@ -330,7 +335,9 @@ public class ProgressBar extends Widget implements Disableable {
 	}
 
 	public void setDisabled (boolean disabled) {
+		if (this.disabled == disabled) return;
 		this.disabled = disabled;
+		redraw();
 	}
 
 	public boolean isDisabled () {
@@ -357,7 +357,10 @@ public class ScrollPane extends WidgetGroup {
 
 		if (animating) {
 			Stage stage = getStage();
-			if (stage != null && stage.getActionsRequestRendering()) Gdx.graphics.requestRendering();
+			if (stage != null) {
+				if (stage.getActionsRequestRendering()) Gdx.graphics.requestRendering();
+				stage.redraw();
+			}
 		}
 	}
 
@@ -715,21 +718,25 @@ public class ScrollPane extends WidgetGroup {
 	/** Called whenever the x scroll amount is changed. */
 	protected void scrollX (float pixelsX) {
 		this.amountX = pixelsX;
+		redraw();
 	}
 
 	/** Called whenever the y scroll amount is changed. */
 	protected void scrollY (float pixelsY) {
 		this.amountY = pixelsY;
+		redraw();
 	}
 
 	/** Called whenever the visual x scroll amount is changed. */
 	protected void visualScrollX (float pixelsX) {
 		this.visualAmountX = pixelsX;
+		redraw();
 	}
 
 	/** Called whenever the visual y scroll amount is changed. */
 	protected void visualScrollY (float pixelsY) {
 		this.visualAmountY = pixelsY;
+		redraw();
 	}
 
 	/** Returns the amount to scroll horizontally when the mouse wheel is scrolled. */
@@ -279,7 +279,9 @@ public class SelectBox<T> extends Widget implements Disableable {
 
 	public void setDisabled (boolean disabled) {
 		if (disabled && !this.disabled) hideList();
+		if (this.disabled == disabled) return;
 		this.disabled = disabled;
+		redraw();
 	}
 
 	public boolean isDisabled () {
@@ -145,6 +145,8 @@ public class Table extends WidgetGroup {
 			invalidateHierarchy();
 		else if (padTopOld != padTopNew || padLeftOld != padLeftNew || padBottomOld != padBottomNew || padRightOld != padRightNew)
 			invalidate();
+		else
+			redraw();
 	}
 
 	/** @see #setBackground(Drawable) */
@@ -375,6 +375,7 @@ public class TextField extends Widget implements Disableable {
 
 		layout.setText(font, displayText);
 		glyphPositions.clear();
+		redraw();
 		float x = 0;
 		if (layout.runs.size > 0) {
 			GlyphRun run = layout.runs.first();
@@ -392,7 +393,8 @@ public class TextField extends Widget implements Disableable {
 	}
 
 	private void blink () {
-		if (!Gdx.graphics.isContinuousRendering()) {
+		Stage stage = getStage();
+		if (!Gdx.graphics.isContinuousRendering() || (stage != null && stage.isRetained())) {
 			cursorOn = true;
 			return;
 		}
@@ -542,6 +544,7 @@ public class TextField extends Widget implements Disableable {
 	 * @param messageText may be null. */
 	public void setMessageText (String messageText) {
 		this.messageText = messageText;
+		redraw();
 	}
 
 	public void appendText (String str) {
@@ -594,6 +597,7 @@ public class TextField extends Widget implements Disableable {
 		hasSelection = true;
 		this.selectionStart = selectionStart;
 		cursor = selectionEnd;
+		redraw();
 	}
 
 	public void selectAll () {
@@ -602,6 +606,7 @@ public class TextField extends Widget implements Disableable {
 
 	public void clearSelection () {
 		hasSelection = false;
+		redraw();
 	}
 
 	/** Sets the cursor position and clears any selection. */
@@ -609,6 +614,7 @@ public class TextField extends Widget implements Disableable {
 		if (cursorPosition < 0) throw new IllegalArgumentException("cursorPosition must be >= 0");
 		clearSelection();
 		cursor = Math.min(cursorPosition, text.length());
+		redraw();
 	}
 
 	public int getCursorPosition () {
@@ -645,6 +651,7 @@ public class TextField extends Widget implements Disableable {
 	 * @see Align */
 	public void setAlignment (int alignment) {
 		if (alignment == Align.left || alignment == Align.center || alignment == Align.right) this.textHAlign = alignment;
+		redraw();
 	}
 
 	/** If true, the text in this text field will be shown as bullet characters.
@@ -671,6 +678,7 @@ public class TextField extends Widget implements Disableable {
 
 	public void setDisabled (boolean disabled) {
 		this.disabled = disabled;
+		redraw();
 	}
 
 	public boolean isDisabled () {
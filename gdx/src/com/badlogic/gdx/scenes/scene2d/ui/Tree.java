@@ -296,7 +296,9 @@ public class Tree extends WidgetGroup {
 	}
 
 	public void setOverNode (Node overNode) {
+		if (this.overNode == overNode) return;
 		this.overNode = overNode;
+		redraw();
 	}
 
 	/** Sets the amount of horizontal space between the nodes and the left/right edges of the tree. */
@@ -522,6 +524,8 @@ public class Tree extends WidgetGroup {
 		/** Sets an icon that will be drawn to the left of the actor. */
 		public void setIcon (Drawable icon) {
 			this.icon = icon;
+			Tree tree = getTree();
+			if (tree != null) tree.redraw();
 		}
 
 		public Object getObject () {
@@ -95,6 +95,8 @@ public class Widget extends Actor implements Layout {
 
 	public void invalidate () {
 		needsLayout = true;
+		Stage stage = getStage();
+		if (stage != null) stage.redraw();
 	}
 
 	public void invalidateHierarchy () {
@@ -113,6 +113,8 @@ public class WidgetGroup extends Group implements Layout {
 
 	public void invalidate () {
 		needsLayout = true;
+		Stage stage = getStage();
+		if (stage != null) stage.redraw();
 	}
 
 	public void invalidateHierarchy () {
@@ -2,6 +2,7 @@
 package com.badlogic.gdx.scenes.scene2d.utils;
 
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.OrderedSet;
@@ -97,6 +98,7 @@ public class Selection<T> implements Disableable, Iterable<T> {
 		snapshot();
 		selected.clear();
 		selected.add(item);
+		changed();
 		if (programmaticChangeEvents && fireChangeEvent())
 			revert();
 		else
@@ -113,6 +115,7 @@ public class Selection<T> implements Disableable, Iterable<T> {
 			if (item == null) throw new IllegalArgumentException("item cannot be null.");
 			if (selected.add(item)) added = true;
 		}
+		if (added) changed();
 		if (added && programmaticChangeEvents && fireChangeEvent())
 			revert();
 		else
@@ -124,6 +127,7 @@ public class Selection<T> implements Disableable, Iterable<T> {
 	public void add (T item) {
 		if (item == null) throw new IllegalArgumentException("item cannot be null.");
 		if (!selected.add(item)) return;
+		changed();
 		if (programmaticChangeEvents && fireChangeEvent())
 			selected.remove(item);
 		else
@@ -138,6 +142,7 @@ public class Selection<T> implements Disableable, Iterable<T> {
 			if (item == null) throw new IllegalArgumentException("item cannot be null.");
 			if (selected.add(item)) added = true;
 		}
+		if (added) changed();
 		if (added && programmaticChangeEvents && fireChangeEvent())
 			revert();
 		else
@@ -148,6 +153,7 @@ public class Selection<T> implements Disableable, Iterable<T> {
 	public void remove (T item) {
 		if (item == null) throw new IllegalArgumentException("item cannot be null.");
 		if (!selected.remove(item)) return;
+		changed();
 		if (programmaticChangeEvents && fireChangeEvent())
 			selected.add(item);
 		else
@@ -162,6 +168,7 @@ public class Selection<T> implements Disableable, Iterable<T> {
 			if (item == null) throw new IllegalArgumentException("item cannot be null.");
 			if (selected.remove(item)) removed = true;
 		}
+		if (removed) changed();
 		if (removed && programmaticChangeEvents && fireChangeEvent())
 			revert();
 		else
@@ -173,6 +180,7 @@ public class Selection<T> implements Disableable, Iterable<T> {
 		if (selected.size == 0) return;
 		snapshot();
 		selected.clear();
+		changed();
 		if (programmaticChangeEvents && fireChangeEvent())
 			revert();
 		else
@@ -180,6 +188,14 @@ public class Selection<T> implements Disableable, Iterable<T> {
 		cleanup();
 	}
 
+	/** Causes a {@link Stage#setRetained(boolean) retained} stage to draw the selection's actor again, since programmatic
+	 * selection changes don't go through input events. */
+	void changed () {
+		if (actor == null) return;
+		Stage stage = actor.getStage();
+		if (stage != null) stage.redraw();
+	}
+
 	/** Fires a change event on the selection's actor, if any. Called internally when the selection changes, depending on
 	 * {@link #setProgrammaticChangeEvents(boolean)}.
 	 * @return true if the change should be undone. */
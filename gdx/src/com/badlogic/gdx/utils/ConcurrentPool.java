@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** A {@link Pool} that can be used by multiple threads at once. Each thread keeps up to {@link #cacheSize} free objects for
+ * itself, so most calls to {@link #obtain()} and {@link #free(Object)} don't touch any shared state. When a thread's cache is
+ * full, half of it is moved to a shared lock-free stack, where threads with an empty cache find it again. {@link #max} limits
+ * the number of objects on the shared stack.
+ * <p>
+ * Install it with {@link Pools#set(Class, Pool)} to have {@link Pools} use it for a type:
+ * 
+ * <pre>
+ * Pools.set(Vector2.class, ConcurrentPool.forType(Vector2.class, 32, 1000));
+ * </pre> */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	/** The maximum number of free objects each thread keeps for itself. */
+	public final int cacheSize;
+
+	private final ThreadLocal<Cache> caches = new ThreadLocal<Cache>() {
+		protected Cache initialValue () {
+			return new Cache(cacheSize);
+		}
+	};
+	private final AtomicReference<Batch> shared = new AtomicReference();
+	private final AtomicInteger sharedFree = new AtomicInteger();
+	private final AtomicLong misses = new AtomicLong(), allocations = new AtomicLong();
+
+	/** Creates a pool with a per thread cache of 32 objects and no maximum. */
+	public ConcurrentPool () {
+		this(32, Integer.MAX_VALUE);
+	}
+
+	/** @param cacheSize The maximum number of free objects each thread keeps for itself.
+	 * @param max The maximum number of free objects to store on the shared stack. */
+	public ConcurrentPool (int cacheSize, int max) {
+		super(0, max);
+		if (cacheSize < 0) throw new IllegalArgumentException("cacheSize cannot be < 0: " + cacheSize);
+		this.cacheSize = cacheSize;
+	}
+
+	/** Returns an object from this pool. The object is taken from the calling thread's cache if possible, else from the shared
+	 * stack, else it is new (from {@link #newObject()}). */
+	public T obtain () {
+		Cache cache = caches.get();
+		if (cache.size == 0) {
+			misses.incrementAndGet();
+			Batch batch = pop();
+			if (batch == null) {
+				allocations.incrementAndGet();
+				T object = newObject();
+				if (tracker != null) tracker.obtained(object, true);
+				return object;
+			}
+			System.arraycopy(batch.items, 0, cache.items, 0, batch.items.length);
+			cache.size = batch.items.length;
+		}
+		Object[] items = cache.items;
+		int index = --cache.size;
+		T object = (T)items[index];
+		items[index] = null;
+		if (tracker != null) tracker.obtained(object, false);
+		return object;
+	}
+
+	/** Puts the specified object in the calling thread's cache. If the cache is full, half of it is moved to the shared stack.
+	 * If the shared stack already contains {@link #max} free objects, the cache is kept and the object is discarded. The object
+	 * is reset before it is made available to other threads. */
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		Cache cache = cacheSize == 0 ? null : caches.get();
+		boolean discarded = cache == null || (cache.size == cacheSize && !flush(cache, (cacheSize + 1) / 2));
+		if (tracker != null) tracker.freed(object, discarded);
+		if (object instanceof Poolable) ((Poolable)object).reset();
+		if (discarded) return;
+		cache.items[cache.size++] = object;
+		int free = sharedFree.get() + cache.size;
+		if (free > peak) peak = free;
+	}
+
+	/** Puts the specified objects in the pool. Null objects within the array are silently ignored.
+	 * @see #free(Object) */
+	public void freeAll (Array<T> objects) {
+		if (objects == null) throw new IllegalArgumentException("object cannot be null.");
+		for (int i = 0; i < objects.size; i++) {
+			T object = objects.get(i);
+			if (object != null) free(object);
+		}
+	}
+
+	/** Removes all free objects from the shared stack and the calling thread's cache. Objects cached by other threads are not
+	 * removed. */
+	public void clear () {
+		for (Batch batch = shared.getAndSet(null); batch != null; batch = batch.next)
+			sharedFree.addAndGet(-batch.items.length);
+		Cache cache = caches.get();
+		for (int i = 0, n = cache.size; i < n; i++)
+			cache.items[i] = null;
+		cache.size = 0;
+	}
+
+	/** The number of objects available to be obtained by the calling thread without allocating. */
+	public int getFree () {
+		return sharedFree.get() + caches.get().size;
+	}
+
+	/** The number of times {@link #obtain()} found the calling thread's cache empty. */
+	public long getMisses () {
+		return misses.get();
+	}
+
+	/** The number of objects created by {@link #newObject()}. */
+	public long getAllocations () {
+		return allocations.get();
+	}
+
+	/** Resets {@link #peak}, {@link #getMisses()} and {@link #getAllocations()} to zero. */
+	public void resetCounters () {
+		peak = 0;
+		misses.set(0);
+		allocations.set(0);
+	}
+
+	/** Moves the oldest count objects from the cache to the shared stack.
+	 * @return false if the stack is full, the cache is then unchanged. */
+	private boolean flush (Cache cache, int count) {
+		if (sharedFree.addAndGet(count) > max) {
+			sharedFree.addAndGet(-count);
+			return false;
+		}
+		Object[] items = cache.items;
+		int size = cache.size;
+		Object[] batchItems = new Object[count];
+		System.arraycopy(items, 0, batchItems, 0, count);
+		push(new Batch(batchItems));
+		System.arraycopy(items, count, items, 0, size - count);
+		for (int i = size - count; i < size; i++)
+			items[i] = null;
+		cache.size = size - count;
+		return true;
+	}
+
+	/** Batches are never reused once popped, so the stack can't see ABA. */
+	private void push (Batch batch) {
+		while (true) {
+			Batch head = shared.get();
+			batch.next = head;
+			if (shared.compareAndSet(head, batch)) return;
+		}
+	}
+
+	private Batch pop () {
+		while (true) {
+			Batch head = shared.get();
+			if (head == null) return null;
+			if (shared.compareAndSet(head, head.next)) {
+				sharedFree.addAndGet(-head.items.length);
+				return head;
+			}
+		}
+	}
+
+	/** Returns a pool that creates new instances of the specified type using reflection, like {@link ReflectionPool}. */
+	static public <T> ConcurrentPool<T> forType (Class<T> type, int cacheSize, int max) {
+		final ReflectionPool<T> factory = new ReflectionPool(type, 0, 0);
+		return new ConcurrentPool<T>(cacheSize, max) {
+			protected T newObject () {
+				return factory.newObject();
+			}
+		};
+	}
+
+	static private class Cache {
+		final Object[] items;
+		int size;
+
+		Cache (int capacity) {
+			items = new Object[capacity];
+		}
+	}
+
+	static private class Batch {
+		final Object[] items;
+		Batch next;
+
+		Batch (Object[] items) {
+			this.items = items;
+		}
+	}
+}
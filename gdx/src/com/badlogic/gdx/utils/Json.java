@@ -31,6 +31,7 @@ import java.util.Map;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.JsonValue.PrettyPrintSettings;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.OrderedMap.OrderedMapValues;
@@ -53,6 +54,7 @@ public class Json {
 	private boolean quoteLongValues;
 	private boolean ignoreUnknownFields;
 	private boolean enumNames = true;
+	private boolean streaming;
 	private Serializer defaultSerializer;
 	private final ObjectMap<Class, OrderedMap<String, FieldMetadata>> typeToFields = new ObjectMap();
 	private final ObjectMap<String, Class> tagToClass = new ObjectMap();
@@ -75,6 +77,10 @@ public class Json {
 		this.ignoreUnknownFields = ignoreUnknownFields;
 	}
 
+	public boolean getIgnoreUnknownFields () {
+		return ignoreUnknownFields;
+	}
+
 	/** @see JsonWriter#setOutputType(OutputType) */
 	public void setOutputType (OutputType outputType) {
 		this.outputType = outputType;
@@ -135,6 +141,23 @@ public class Json {
 		this.usePrototypes = usePrototypes;
 	}
 
+	public boolean getUsePrototypes () {
+		return usePrototypes;
+	}
+
+	/** When true, the fromJson methods deserialize directly from the {@link JsonReader} parse events instead of first parsing the
+	 * whole document to a tree of {@link JsonValue} objects, which greatly reduces the memory needed to read large documents. Only
+	 * values read by a {@link Serializer}, {@link Serializable} objects and objects of unknown type are still parsed to a JsonValue,
+	 * one at a time. A class tag is only recognized as the first field of an object, which is where Json always writes it. Default
+	 * is false. */
+	public void setStreaming (boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	public boolean getStreaming () {
+		return streaming;
+	}
+
 	/** Sets the type of elements in a collection. When the element type is known, the class for each element in the collection does
 	 * not need to be written unless different from the element type. */
 	public void setElementType (Class type, String fieldName, Class elementType) {
@@ -651,37 +674,43 @@ public class Json {
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Reader reader) {
-		return (T)readValue(type, null, new JsonReader().parse(reader));
+		return fromJson(type, null, reader);
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @param elementType May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, Reader reader) {
+		if (streaming) {
+			StreamReader streamReader = new StreamReader(type, elementType);
+			streamReader.parse(reader);
+			return (T)streamReader.rootValue;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(reader));
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, InputStream input) {
-		return (T)readValue(type, null, new JsonReader().parse(input));
+		return fromJson(type, null, input);
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @param elementType May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, InputStream input) {
+		if (streaming) {
+			StreamReader streamReader = new StreamReader(type, elementType);
+			streamReader.parse(input);
+			return (T)streamReader.rootValue;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(input));
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, FileHandle file) {
-		try {
-			return (T)readValue(type, null, new JsonReader().parse(file));
-		} catch (Exception ex) {
-			throw new SerializationException("Error reading file: " + file, ex);
-		}
+		return fromJson(type, null, file);
 	}
 
 	/** @param type May be null if the type is unknown.
@@ -689,6 +718,11 @@ public class Json {
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, FileHandle file) {
 		try {
+			if (streaming) {
+				StreamReader streamReader = new StreamReader(type, elementType);
+				streamReader.parse(file);
+				return (T)streamReader.rootValue;
+			}
 			return (T)readValue(type, elementType, new JsonReader().parse(file));
 		} catch (Exception ex) {
 			throw new SerializationException("Error reading file: " + file, ex);
@@ -698,25 +732,35 @@ public class Json {
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, char[] data, int offset, int length) {
-		return (T)readValue(type, null, new JsonReader().parse(data, offset, length));
+		return fromJson(type, null, data, offset, length);
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @param elementType May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, char[] data, int offset, int length) {
+		if (streaming) {
+			StreamReader streamReader = new StreamReader(type, elementType);
+			streamReader.parse(data, offset, length);
+			return (T)streamReader.rootValue;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(data, offset, length));
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, String json) {
-		return (T)readValue(type, null, new JsonReader().parse(json));
+		return fromJson(type, null, json);
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, String json) {
+		if (streaming) {
+			StreamReader streamReader = new StreamReader(type, elementType);
+			streamReader.parse(json);
+			return (T)streamReader.rootValue;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(json));
 	}
 
@@ -1048,6 +1092,456 @@ public class Json {
 		return new JsonReader().parse(json).prettyPrint(settings);
 	}
 
+	static private class StreamFrame {
+		int kind;
+		Class type, elementType;
+		String name;
+		Object object;
+		OrderedMap<String, FieldMetadata> fields;
+		FieldMetadata field;
+
+		void reset () {
+			type = null;
+			elementType = null;
+			name = null;
+			object = null;
+			fields = null;
+			field = null;
+		}
+	}
+
+	/** Deserializes from the {@link JsonReader} events without building a {@link JsonValue} tree, except for the objects that must
+	 * be read from a JsonValue. See {@link Json#setStreaming(boolean)}. */
+	private class StreamReader extends JsonReader {
+		static private final int pending = 0, fields = 1, map = 2, array = 3, collection = 4, javaArray = 5, buffer = 6, skip = 7;
+
+		private final Class rootType, rootElementType;
+		private final Array<StreamFrame> frames = new Array();
+		private int depth;
+		private final Array<JsonValue> bufferStack = new Array(), bufferLast = new Array();
+		private Class valueType, valueElementType;
+		private Object rootValue;
+		private SerializationException error;
+
+		public StreamReader (Class rootType, Class rootElementType) {
+			this.rootType = rootType;
+			this.rootElementType = rootElementType;
+		}
+
+		public JsonValue parse (char[] data, int offset, int length) {
+			try {
+				super.parse(data, offset, length);
+			} catch (SerializationException ex) {
+				if (error != null) throw error;
+				throw ex;
+			}
+			if (depth != 0) {
+				int kind = frames.get(depth - 1).kind;
+				boolean object = bufferStack.size > 0 ? bufferStack.peek().isObject() : kind != array && kind != collection
+					&& kind != javaArray;
+				throw new SerializationException("Error parsing JSON, unmatched " + (object ? "brace." : "bracket."));
+			}
+			return null;
+		}
+
+		protected void startObject (String name) {
+			try {
+				if (bufferStack.size > 0) {
+					bufferStart(name, new JsonValue(ValueType.object));
+					return;
+				}
+				StreamFrame frame = resolveParent();
+				if (bufferStack.size > 0) {
+					bufferStart(name, new JsonValue(ValueType.object));
+					return;
+				}
+				if (!beginValue(frame, name)) {
+					push(skip, null, null, name);
+					return;
+				}
+				push(pending, valueType, valueElementType, name);
+			} catch (RuntimeException ex) {
+				throw error(ex);
+			}
+		}
+
+		protected void startArray (String name) {
+			try {
+				if (bufferStack.size > 0) {
+					bufferStart(name, new JsonValue(ValueType.array));
+					return;
+				}
+				StreamFrame frame = resolveParent();
+				if (bufferStack.size > 0) {
+					bufferStart(name, new JsonValue(ValueType.array));
+					return;
+				}
+				if (!beginValue(frame, name)) {
+					push(skip, null, null, name);
+					return;
+				}
+				Class type = valueType, elementType = valueElementType;
+				if (type != null && classToSerializer.get(type) != null) {
+					push(buffer, type, elementType, name);
+					bufferStart(name, new JsonValue(ValueType.array));
+					return;
+				}
+				if (type == null || type == Object.class) type = Array.class;
+				if (ClassReflection.isAssignableFrom(Array.class, type)) {
+					push(array, type, elementType, name).object = type == Array.class ? new Array() : newInstance(type);
+				} else if (ClassReflection.isAssignableFrom(Collection.class, type)) {
+					push(collection, type, elementType, name).object = type.isInterface() ? new ArrayList() : newInstance(type);
+				} else if (type.isArray()) {
+					if (elementType == null) elementType = type.getComponentType();
+					push(javaArray, type, elementType, name).object = new Array();
+				} else {
+					// Buffered so readValue fails with the same message as when reading from a JsonValue tree.
+					push(buffer, type, elementType, name);
+					bufferStart(name, new JsonValue(ValueType.array));
+				}
+			} catch (RuntimeException ex) {
+				throw error(ex);
+			}
+		}
+
+		protected void pop () {
+			try {
+				if (bufferStack.size > 0) {
+					bufferStack.pop();
+					bufferLast.pop();
+					if (bufferStack.size > 0) return;
+				}
+				StreamFrame frame = frames.get(--depth);
+				if (frame.kind == pending) {
+					resolve(frame);
+					if (frame.kind == buffer) {
+						bufferStack.pop();
+						bufferLast.pop();
+					}
+				}
+				Object value;
+				switch (frame.kind) {
+				case skip:
+					frame.reset();
+					return;
+				case buffer:
+					value = readValue(frame.type, frame.elementType, (JsonValue)frame.object);
+					break;
+				case javaArray:
+					Array values = (Array)frame.object;
+					value = ArrayReflection.newInstance(frame.type.getComponentType(), values.size);
+					for (int i = 0, n = values.size; i < n; i++)
+						ArrayReflection.set(value, i, values.get(i));
+					break;
+				default:
+					value = frame.object;
+				}
+				String name = frame.name;
+				frame.reset();
+				addValue(depth == 0 ? null : frames.get(depth - 1), name, value);
+			} catch (RuntimeException ex) {
+				throw error(ex);
+			}
+		}
+
+		protected void string (String name, String value) {
+			try {
+				if (bufferStack.size > 0) {
+					bufferAdd(name, new JsonValue(value));
+					return;
+				}
+				StreamFrame frame = depth == 0 ? null : frames.get(depth - 1);
+				if (frame != null && frame.kind == pending) {
+					if (typeName != null && value != null && typeName.equals(name)) {
+						Class type = Json.this.getClass(value);
+						if (type == null) {
+							try {
+								type = ClassReflection.forName(value);
+							} catch (ReflectionException ex) {
+								throw new SerializationException(ex);
+							}
+						}
+						frame.type = type;
+						resolve(frame);
+						return;
+					}
+					resolve(frame);
+					if (bufferStack.size > 0) {
+						bufferAdd(name, new JsonValue(value));
+						return;
+					}
+				}
+				if (!beginValue(frame, name)) return;
+				Class type = valueType;
+				Object object;
+				if (type != null && classToSerializer.get(type) != null)
+					object = readScalar(name, new JsonValue(value));
+				else if (value == null || type == null || type == String.class)
+					object = value;
+				else
+					object = readScalar(name, new JsonValue(value));
+				addValue(frame, name, object);
+			} catch (RuntimeException ex) {
+				throw error(ex);
+			}
+		}
+
+		protected void number (String name, double value, String stringValue) {
+			try {
+				if (bufferStack.size > 0) {
+					bufferAdd(name, new JsonValue(value, stringValue));
+					return;
+				}
+				StreamFrame frame = resolveParent();
+				if (bufferStack.size > 0) {
+					bufferAdd(name, new JsonValue(value, stringValue));
+					return;
+				}
+				if (!beginValue(frame, name)) return;
+				Class type = valueType;
+				Object object;
+				if (type != null && classToSerializer.get(type) != null)
+					object = readScalar(name, new JsonValue(value, stringValue));
+				else if (type == null || type == float.class || type == Float.class)
+					object = (float)value;
+				else if (type == int.class || type == Integer.class)
+					object = (int)value;
+				else if (type == long.class || type == Long.class)
+					object = (long)value;
+				else if (type == double.class || type == Double.class)
+					object = value;
+				else if (type == short.class || type == Short.class)
+					object = (short)value;
+				else if (type == byte.class || type == Byte.class)
+					object = (byte)value;
+				else
+					object = readScalar(name, new JsonValue(value, stringValue));
+				addValue(frame, name, object);
+			} catch (RuntimeException ex) {
+				throw error(ex);
+			}
+		}
+
+		protected void number (String name, long value, String stringValue) {
+			try {
+				if (bufferStack.size > 0) {
+					bufferAdd(name, new JsonValue(value, stringValue));
+					return;
+				}
+				StreamFrame frame = resolveParent();
+				if (bufferStack.size > 0) {
+					bufferAdd(name, new JsonValue(value, stringValue));
+					return;
+				}
+				if (!beginValue(frame, name)) return;
+				Class type = valueType;
+				Object object;
+				if (type != null && classToSerializer.get(type) != null)
+					object = readScalar(name, new JsonValue(value, stringValue));
+				else if (type == null || type == float.class || type == Float.class)
+					object = (float)value;
+				else if (type == int.class || type == Integer.class)
+					object = (int)value;
+				else if (type == long.class || type == Long.class)
+					object = value;
+				else if (type == double.class || type == Double.class)
+					object = (double)value;
+				else if (type == short.class || type == Short.class)
+					object = (short)value;
+				else if (type == byte.class || type == Byte.class)
+					object = (byte)value;
+				else
+					object = readScalar(name, new JsonValue(value, stringValue));
+				addValue(frame, name, object);
+			} catch (RuntimeException ex) {
+				throw error(ex);
+			}
+		}
+
+		protected void bool (String name, boolean value) {
+			try {
+				if (bufferStack.size > 0) {
+					bufferAdd(name, new JsonValue(value));
+					return;
+				}
+				StreamFrame frame = resolveParent();
+				if (bufferStack.size > 0) {
+					bufferAdd(name, new JsonValue(value));
+					return;
+				}
+				if (!beginValue(frame, name)) return;
+				Class type = valueType;
+				Object object;
+				if ((type == null || type == boolean.class || type == Boolean.class) && (type == null || classToSerializer.get(type) == null))
+					object = value;
+				else
+					object = readScalar(name, new JsonValue(value));
+				addValue(frame, name, object);
+			} catch (RuntimeException ex) {
+				throw error(ex);
+			}
+		}
+
+		private Object readScalar (String name, JsonValue jsonValue) {
+			jsonValue.setName(name);
+			return readValue(valueType, valueElementType, jsonValue);
+		}
+
+		/** Returns the current frame, resolving its type if it is still waiting for a class tag. May be null. */
+		private StreamFrame resolveParent () {
+			if (depth == 0) return null;
+			StreamFrame frame = frames.get(depth - 1);
+			if (frame.kind == pending) resolve(frame);
+			return frame;
+		}
+
+		/** Decides how a JSON object is read once its type is known, the same as {@link Json#readValue(Class, Class, JsonValue)}. */
+		private void resolve (StreamFrame frame) {
+			Class type = frame.type;
+			if (type == null || type == String.class || type == Integer.class || type == Boolean.class || type == Float.class
+				|| type == Long.class || type == Double.class || type == Short.class || type == Byte.class || type == Character.class
+				|| ClassReflection.isAssignableFrom(Enum.class, type)
+				|| (typeName != null && ClassReflection.isAssignableFrom(Collection.class, type)) || classToSerializer.get(type) != null
+				|| ClassReflection.isAssignableFrom(Serializable.class, type)) {
+				frame.kind = buffer;
+				JsonValue root = new JsonValue(ValueType.object);
+				root.setName(frame.name);
+				frame.object = root;
+				bufferStack.add(root);
+				bufferLast.add(null);
+				return;
+			}
+			Object object = newInstance(type);
+			frame.object = object;
+			if (object instanceof ObjectMap || object instanceof ArrayMap || object instanceof Map)
+				frame.kind = map;
+			else {
+				frame.kind = fields;
+				frame.fields = getFields(type);
+			}
+		}
+
+		/** Sets the type and element type of the next value in the frame.
+		 * @param frame May be null for the root value.
+		 * @return false if the value should be skipped. */
+		private boolean beginValue (StreamFrame frame, String name) {
+			if (frame == null) {
+				valueType = rootType;
+				valueElementType = rootElementType;
+				return true;
+			}
+			switch (frame.kind) {
+			case skip:
+				return false;
+			case fields:
+				FieldMetadata metadata = frame.fields.get(name);
+				if (metadata == null) {
+					if (ignoreUnknownFields) {
+						if (debug) System.out.println("Ignoring unknown field: " + name + " (" + frame.type.getName() + ")");
+						return false;
+					}
+					throw new SerializationException("Field not found: " + name + " (" + frame.type.getName() + ")");
+				}
+				frame.field = metadata;
+				valueType = metadata.field.getType();
+				valueElementType = metadata.elementType;
+				return true;
+			default:
+				valueType = frame.elementType;
+				valueElementType = null;
+				return true;
+			}
+		}
+
+		/** @param frame May be null for the root value. */
+		private void addValue (StreamFrame frame, String name, Object value) {
+			if (frame == null) {
+				rootValue = value;
+				return;
+			}
+			switch (frame.kind) {
+			case fields:
+				Field field = frame.field.field;
+				try {
+					field.set(frame.object, value);
+				} catch (ReflectionException ex) {
+					throw new SerializationException("Error accessing field: " + field.getName() + " (" + frame.type.getName() + ")", ex);
+				}
+				frame.field = null;
+				break;
+			case map:
+				if (frame.object instanceof ObjectMap)
+					((ObjectMap)frame.object).put(name, value);
+				else if (frame.object instanceof ArrayMap)
+					((ArrayMap)frame.object).put(name, value);
+				else
+					((Map)frame.object).put(name, value);
+				break;
+			case array:
+			case javaArray:
+				((Array)frame.object).add(value);
+				break;
+			case collection:
+				((Collection)frame.object).add(value);
+				break;
+			}
+		}
+
+		private StreamFrame push (int kind, Class type, Class elementType, String name) {
+			StreamFrame frame;
+			if (depth < frames.size)
+				frame = frames.get(depth);
+			else
+				frames.add(frame = new StreamFrame());
+			depth++;
+			frame.kind = kind;
+			frame.type = type;
+			frame.elementType = elementType;
+			frame.name = name;
+			return frame;
+		}
+
+		private void bufferStart (String name, JsonValue value) {
+			if (bufferStack.size > 0)
+				bufferAdd(name, value);
+			else {
+				value.setName(name);
+				frames.get(depth - 1).object = value;
+			}
+			bufferStack.add(value);
+			bufferLast.add(null);
+		}
+
+		private void bufferAdd (String name, JsonValue value) {
+			value.setName(name);
+			int index = bufferStack.size - 1;
+			JsonValue parent = bufferStack.get(index), last = bufferLast.get(index);
+			if (last == null)
+				parent.child = value;
+			else {
+				last.next = value;
+				value.prev = last;
+			}
+			bufferLast.set(index, value);
+			parent.size++;
+		}
+
+		/** Adds the fields being read to the trace, like {@link Json#readFields(Object, JsonValue)}, and keeps the exception so it
+		 * is thrown instead of the parse error it causes. */
+		private SerializationException error (RuntimeException runtimeEx) {
+			if (runtimeEx == error) return error;
+			SerializationException ex = runtimeEx instanceof SerializationException ? (SerializationException)runtimeEx
+				: new SerializationException(runtimeEx);
+			for (int i = depth - 1; i >= 0; i--) {
+				StreamFrame frame = frames.get(i);
+				if (frame.kind == fields && frame.field != null)
+					ex.addTrace(frame.field.field.getName() + " (" + frame.type.getName() + ")");
+			}
+			error = ex;
+			return ex;
+		}
+	}
+
 	static private class FieldMetadata {
 		Field field;
 		Class elementType;
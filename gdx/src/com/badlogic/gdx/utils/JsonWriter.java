@@ -89,6 +89,57 @@ public class JsonWriter extends Writer {
 		return this;
 	}
 
+	/** Writes the value without boxing. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (int value) throws IOException {
+		requireCommaOrName();
+		writer.write(Integer.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (long value) throws IOException {
+		requireCommaOrName();
+		if (quoteLongValues)
+			writer.write(outputType.quoteValue(Long.toString(value)));
+		else
+			writer.write(Long.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (float value) throws IOException {
+		requireCommaOrName();
+		long longValue = (long)value;
+		writer.write((double)value == longValue ? Long.toString(longValue) : Float.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (double value) throws IOException {
+		requireCommaOrName();
+		if (quoteLongValues)
+			writer.write(outputType.quoteValue(Double.toString(value)));
+		else {
+			long longValue = (long)value;
+			writer.write(value == longValue ? Long.toString(longValue) : Double.toString(value));
+		}
+		return this;
+	}
+
+	/** Writes the value without boxing. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (boolean value) throws IOException {
+		requireCommaOrName();
+		writer.write(value ? "true" : "false");
+		return this;
+	}
+
+	/** Writes the value as a string. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (char value) throws IOException {
+		requireCommaOrName();
+		writer.write(outputType.quoteValue(String.valueOf(value)));
+		return this;
+	}
+
 	/** Writes the specified JSON value, without quoting or escaping. */
 	public JsonWriter json (String json) throws IOException {
 		requireCommaOrName();
@@ -0,0 +1,589 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** An unordered map that uses long keys. This implementation uses linear probing with Robin Hood ordering and backward shift
+ * deletion, so there are no random walks, no stash and removals don't leave tombstones. Keys are spread with Fibonacci hashing,
+ * which copes well with sequential or clustered keys. Null values are allowed. No allocation is done except when growing the
+ * table size. <br>
+ * <br>
+ * This map has the same API as {@link LongMap}. get, containsKey and remove stop probing as soon as a key further from its ideal
+ * bucket than the key being searched is found, so misses are cheap even at high load factors. Load factors above 0.9 make probes
+ * longer.
+ * @see LongMap */
+public class LinearLongMap<V> implements Iterable<LinearLongMap.Entry<V>> {
+	private static final int EMPTY = 0;
+
+	public int size;
+
+	long[] keyTable;
+	V[] valueTable;
+	int capacity;
+	V zeroValue;
+	boolean hasZeroValue;
+
+	private float loadFactor;
+	private int shift, mask, threshold;
+
+	private Entries entries1, entries2;
+	private Values values1, values2;
+	private Keys keys1, keys2;
+
+	/** Creates a new map with an initial capacity of 32 and a load factor of 0.8. This map will hold 25 items before growing the
+	 * backing table. */
+	public LinearLongMap () {
+		this(32, 0.8f);
+	}
+
+	/** Creates a new map with a load factor of 0.8. This map will hold initialCapacity * 0.8 items before growing the backing
+	 * table. */
+	public LinearLongMap (int initialCapacity) {
+		this(initialCapacity, 0.8f);
+	}
+
+	/** Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity * loadFactor items
+	 * before growing the backing table.
+	 * @param loadFactor Must be > 0 and < 1. */
+	public LinearLongMap (int initialCapacity, float loadFactor) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		if (initialCapacity > 1 << 30) throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity);
+		if (loadFactor <= 0 || loadFactor >= 1) throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		this.loadFactor = loadFactor;
+		setCapacity(Math.max(2, MathUtils.nextPowerOfTwo(initialCapacity)));
+		keyTable = new long[capacity];
+		valueTable = (V[])new Object[capacity];
+	}
+
+	/** Creates a new map identical to the specified map. */
+	public LinearLongMap (LinearLongMap<? extends V> map) {
+		this(map.capacity, map.loadFactor);
+		System.arraycopy(map.keyTable, 0, keyTable, 0, map.keyTable.length);
+		System.arraycopy(map.valueTable, 0, valueTable, 0, map.valueTable.length);
+		size = map.size;
+		zeroValue = map.zeroValue;
+		hasZeroValue = map.hasZeroValue;
+	}
+
+	private void setCapacity (int capacity) {
+		this.capacity = capacity;
+		mask = capacity - 1;
+		shift = 64 - Integer.numberOfTrailingZeros(capacity);
+		// At least one bucket must stay empty so probes and iteration terminate.
+		threshold = Math.min((int)(capacity * loadFactor), capacity - 1);
+	}
+
+	/** Returns the ideal bucket for the key. */
+	private int place (long key) {
+		return (int)(key * 0x9e3779b97f4a7c15L >>> shift);
+	}
+
+	/** Returns the bucket containing the key, or -1. */
+	private int locate (long key) {
+		long[] keyTable = this.keyTable;
+		int mask = this.mask;
+		for (int i = place(key), distance = 0;; i = i + 1 & mask, distance++) {
+			long other = keyTable[i];
+			if (other == key) return i;
+			if (other == EMPTY || (i - place(other) & mask) < distance) return -1;
+		}
+	}
+
+	public V put (long key, V value) {
+		if (key == 0) {
+			V oldValue = zeroValue;
+			zeroValue = value;
+			if (!hasZeroValue) {
+				hasZeroValue = true;
+				size++;
+			}
+			return oldValue;
+		}
+		int index = locate(key);
+		if (index != -1) {
+			V oldValue = valueTable[index];
+			valueTable[index] = value;
+			return oldValue;
+		}
+		insert(key, value);
+		if (size++ >= threshold) resize(capacity << 1);
+		return null;
+	}
+
+	public void putAll (LinearLongMap<V> map) {
+		ensureCapacity(map.size);
+		for (Entry<V> entry : map.entries())
+			put(entry.key, entry.value);
+	}
+
+	/** Inserts a key that is not in the map. Keys closer to their ideal bucket are displaced to make room for keys further from
+	 * theirs. */
+	private void insert (long key, V value) {
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		int mask = this.mask;
+		for (int i = place(key), distance = 0;; i = i + 1 & mask, distance++) {
+			long other = keyTable[i];
+			if (other == EMPTY) {
+				keyTable[i] = key;
+				valueTable[i] = value;
+				return;
+			}
+			int otherDistance = i - place(other) & mask;
+			if (otherDistance < distance) {
+				V otherValue = valueTable[i];
+				keyTable[i] = key;
+				valueTable[i] = value;
+				key = other;
+				value = otherValue;
+				distance = otherDistance;
+			}
+		}
+	}
+
+	public V get (long key) {
+		return get(key, null);
+	}
+
+	public V get (long key, V defaultValue) {
+		if (key == 0) {
+			if (!hasZeroValue) return defaultValue;
+			return zeroValue;
+		}
+		int index = locate(key);
+		return index == -1 ? defaultValue : valueTable[index];
+	}
+
+	public V remove (long key) {
+		if (key == 0) {
+			if (!hasZeroValue) return null;
+			V oldValue = zeroValue;
+			zeroValue = null;
+			hasZeroValue = false;
+			size--;
+			return oldValue;
+		}
+		int index = locate(key);
+		if (index == -1) return null;
+		V oldValue = valueTable[index];
+		removeIndex(index);
+		size--;
+		return oldValue;
+	}
+
+	/** Empties the bucket and shifts the following keys of the cluster back, unless they are already in their ideal bucket. */
+	void removeIndex (int index) {
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		int mask = this.mask;
+		for (int next = index + 1 & mask;; next = next + 1 & mask) {
+			long key = keyTable[next];
+			if (key == EMPTY || place(key) == next) break;
+			keyTable[index] = key;
+			valueTable[index] = valueTable[next];
+			index = next;
+		}
+		keyTable[index] = EMPTY;
+		valueTable[index] = null;
+	}
+
+	/** Reduces the size of the backing arrays to be the specified capacity or less. If the capacity is already less, nothing is
+	 * done. If the map contains more items than the specified capacity, the next highest power of two capacity is used instead. */
+	public void shrink (int maximumCapacity) {
+		if (maximumCapacity < 0) throw new IllegalArgumentException("maximumCapacity must be >= 0: " + maximumCapacity);
+		if (size > maximumCapacity) maximumCapacity = size;
+		if (capacity <= maximumCapacity) return;
+		maximumCapacity = MathUtils.nextPowerOfTwo(maximumCapacity);
+		// Keep the load factor satisfied.
+		while (size > (int)(maximumCapacity * loadFactor) || size >= maximumCapacity)
+			maximumCapacity <<= 1;
+		if (capacity > maximumCapacity) resize(maximumCapacity);
+	}
+
+	/** Clears the map and reduces the size of the backing arrays to be the specified capacity if they are larger. */
+	public void clear (int maximumCapacity) {
+		if (capacity <= maximumCapacity) {
+			clear();
+			return;
+		}
+		zeroValue = null;
+		hasZeroValue = false;
+		size = 0;
+		setCapacity(Math.max(2, MathUtils.nextPowerOfTwo(maximumCapacity)));
+		keyTable = new long[capacity];
+		valueTable = (V[])new Object[capacity];
+	}
+
+	public void clear () {
+		if (size == 0) return;
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		for (int i = capacity; i-- > 0;) {
+			keyTable[i] = EMPTY;
+			valueTable[i] = null;
+		}
+		size = 0;
+		zeroValue = null;
+		hasZeroValue = false;
+	}
+
+	/** Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may be
+	 * an expensive operation.
+	 * @param identity If true, uses == to compare the specified value with values in the map. If false, uses
+	 *           {@link #equals(Object)}. */
+	public boolean containsValue (Object value, boolean identity) {
+		V[] valueTable = this.valueTable;
+		if (value == null) {
+			if (hasZeroValue && zeroValue == null) return true;
+			long[] keyTable = this.keyTable;
+			for (int i = capacity; i-- > 0;)
+				if (keyTable[i] != EMPTY && valueTable[i] == null) return true;
+		} else if (identity) {
+			if (value == zeroValue) return true;
+			for (int i = capacity; i-- > 0;)
+				if (valueTable[i] == value) return true;
+		} else {
+			if (hasZeroValue && value.equals(zeroValue)) return true;
+			for (int i = capacity; i-- > 0;)
+				if (value.equals(valueTable[i])) return true;
+		}
+		return false;
+	}
+
+	public boolean containsKey (long key) {
+		if (key == 0) return hasZeroValue;
+		return locate(key) != -1;
+	}
+
+	/** Returns the key for the specified value, or <tt>notFound</tt> if it is not in the map. Note this traverses the entire map
+	 * and compares every value, which may be an expensive operation.
+	 * @param identity If true, uses == to compare the specified value with values in the map. If false, uses
+	 *           {@link #equals(Object)}. */
+	public long findKey (Object value, boolean identity, long notFound) {
+		V[] valueTable = this.valueTable;
+		if (value == null) {
+			if (hasZeroValue && zeroValue == null) return 0;
+			long[] keyTable = this.keyTable;
+			for (int i = capacity; i-- > 0;)
+				if (keyTable[i] != EMPTY && valueTable[i] == null) return keyTable[i];
+		} else if (identity) {
+			if (value == zeroValue) return 0;
+			for (int i = capacity; i-- > 0;)
+				if (valueTable[i] == value) return keyTable[i];
+		} else {
+			if (hasZeroValue && value.equals(zeroValue)) return 0;
+			for (int i = capacity; i-- > 0;)
+				if (value.equals(valueTable[i])) return keyTable[i];
+		}
+		return notFound;
+	}
+
+	/** Increases the size of the backing array to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing array resizes. */
+	public void ensureCapacity (int additionalCapacity) {
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded >= threshold) resize(MathUtils.nextPowerOfTwo((int)Math.ceil(sizeNeeded / loadFactor)));
+	}
+
+	private void resize (int newSize) {
+		int oldCapacity = capacity;
+		long[] oldKeyTable = keyTable;
+		V[] oldValueTable = valueTable;
+
+		setCapacity(newSize);
+		keyTable = new long[newSize];
+		valueTable = (V[])new Object[newSize];
+
+		if (size > 0) {
+			for (int i = 0; i < oldCapacity; i++) {
+				long key = oldKeyTable[i];
+				if (key != EMPTY) insert(key, oldValueTable[i]);
+			}
+		}
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		int i = keyTable.length;
+		if (hasZeroValue) {
+			buffer.append("0=");
+			buffer.append(zeroValue);
+		} else {
+			while (i-- > 0) {
+				long key = keyTable[i];
+				if (key == EMPTY) continue;
+				buffer.append(key);
+				buffer.append('=');
+				buffer.append(valueTable[i]);
+				break;
+			}
+		}
+		while (i-- > 0) {
+			long key = keyTable[i];
+			if (key == EMPTY) continue;
+			buffer.append(", ");
+			buffer.append(key);
+			buffer.append('=');
+			buffer.append(valueTable[i]);
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+
+	public Iterator<Entry<V>> iterator () {
+		return entries();
+	}
+
+	/** Returns an iterator for the entries in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Entries<V> entries () {
+		if (entries1 == null) {
+			entries1 = new Entries(this);
+			entries2 = new Entries(this);
+		}
+		if (!entries1.valid) {
+			entries1.reset();
+			entries1.valid = true;
+			entries2.valid = false;
+			return entries1;
+		}
+		entries2.reset();
+		entries2.valid = true;
+		entries1.valid = false;
+		return entries2;
+	}
+
+	/** Returns an iterator for the values in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Values<V> values () {
+		if (values1 == null) {
+			values1 = new Values(this);
+			values2 = new Values(this);
+		}
+		if (!values1.valid) {
+			values1.reset();
+			values1.valid = true;
+			values2.valid = false;
+			return values1;
+		}
+		values2.reset();
+		values2.valid = true;
+		values1.valid = false;
+		return values2;
+	}
+
+	/** Returns an iterator for the keys in the map. Remove is supported. Note that the same iterator instance is returned each time
+	 * this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Keys keys () {
+		if (keys1 == null) {
+			keys1 = new Keys(this);
+			keys2 = new Keys(this);
+		}
+		if (!keys1.valid) {
+			keys1.reset();
+			keys1.valid = true;
+			keys2.valid = false;
+			return keys1;
+		}
+		keys2.reset();
+		keys2.valid = true;
+		keys1.valid = false;
+		return keys2;
+	}
+
+	static public class Entry<V> {
+		public long key;
+		public V value;
+
+		public String toString () {
+			return key + "=" + value;
+		}
+	}
+
+	/** Iterates the buckets starting after an empty one. No cluster wraps past that point, so when remove shifts keys back they
+	 * only come from buckets that have not been visited yet. */
+	static private class MapIterator<V> {
+		static final int INDEX_ILLEGAL = -2;
+		static final int INDEX_ZERO = -1;
+
+		public boolean hasNext;
+
+		final LinearLongMap<V> map;
+		int nextIndex, currentIndex;
+		int start, position;
+		boolean valid = true;
+
+		public MapIterator (LinearLongMap<V> map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset () {
+			currentIndex = INDEX_ILLEGAL;
+			nextIndex = INDEX_ZERO;
+			long[] keyTable = map.keyTable;
+			start = 0;
+			while (keyTable[start] != EMPTY)
+				start++;
+			position = 0;
+			if (map.hasZeroValue)
+				hasNext = true;
+			else
+				findNextIndex();
+		}
+
+		void findNextIndex () {
+			hasNext = false;
+			long[] keyTable = map.keyTable;
+			for (int mask = map.mask, n = map.capacity; position < n;) {
+				int index = start + ++position & mask;
+				if (keyTable[index] != EMPTY) {
+					nextIndex = index;
+					hasNext = true;
+					break;
+				}
+			}
+		}
+
+		public void remove () {
+			if (currentIndex == INDEX_ZERO && map.hasZeroValue) {
+				map.zeroValue = null;
+				map.hasZeroValue = false;
+			} else if (currentIndex < 0) {
+				throw new IllegalStateException("next must be called before remove.");
+			} else {
+				map.removeIndex(currentIndex);
+				if (map.keyTable[currentIndex] != EMPTY) {
+					// A key was shifted back into the removed bucket, visit it next.
+					position = (currentIndex - start & map.mask) - 1;
+					findNextIndex();
+				}
+			}
+			currentIndex = INDEX_ILLEGAL;
+			map.size--;
+		}
+	}
+
+	static public class Entries<V> extends MapIterator<V> implements Iterable<Entry<V>>, Iterator<Entry<V>> {
+		private Entry<V> entry = new Entry();
+
+		public Entries (LinearLongMap map) {
+			super(map);
+		}
+
+		/** Note the same entry instance is returned each time this method is called. */
+		public Entry<V> next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			long[] keyTable = map.keyTable;
+			if (nextIndex == INDEX_ZERO) {
+				entry.key = 0;
+				entry.value = map.zeroValue;
+			} else {
+				entry.key = keyTable[nextIndex];
+				entry.value = map.valueTable[nextIndex];
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return entry;
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public Iterator<Entry<V>> iterator () {
+			return this;
+		}
+
+		public void remove () {
+			super.remove();
+		}
+	}
+
+	static public class Values<V> extends MapIterator<V> implements Iterable<V>, Iterator<V> {
+		public Values (LinearLongMap<V> map) {
+			super(map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public V next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			V value;
+			if (nextIndex == INDEX_ZERO)
+				value = map.zeroValue;
+			else
+				value = map.valueTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return value;
+		}
+
+		public Iterator<V> iterator () {
+			return this;
+		}
+
+		/** Returns a new array containing the remaining values. */
+		public Array<V> toArray () {
+			Array array = new Array(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		public void remove () {
+			super.remove();
+		}
+	}
+
+	static public class Keys extends MapIterator {
+		public Keys (LinearLongMap map) {
+			super(map);
+		}
+
+		public long next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			long key = nextIndex == INDEX_ZERO ? 0 : map.keyTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return key;
+		}
+
+		/** Returns a new array containing the remaining keys. */
+		public LongArray toArray () {
+			LongArray array = new LongArray(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+	}
+}
@@ -25,6 +25,7 @@ abstract public class Pool<T> {
 	public int peak;
 
 	private final Array<T> freeObjects;
+	Tracker tracker;
 
 	/** Creates a pool with an initial capacity of 16 and no maximum. */
 	public Pool () {
@@ -47,17 +48,23 @@ abstract public class Pool<T> {
 	/** Returns an object from this pool. The object may be new (from {@link #newObject()}) or reused (previously
 	 * {@link #free(Object) freed}). */
 	public T obtain () {
-		return freeObjects.size == 0 ? newObject() : freeObjects.pop();
+		if (tracker == null) return freeObjects.size == 0 ? newObject() : freeObjects.pop();
+		boolean created = freeObjects.size == 0;
+		T object = created ? newObject() : freeObjects.pop();
+		tracker.obtained(object, created);
+		return object;
 	}
 
 	/** Puts the specified object in the pool, making it eligible to be returned by {@link #obtain()}. If the pool already contains
 	 * {@link #max} free objects, the specified object is reset but not added to the pool. */
 	public void free (T object) {
 		if (object == null) throw new IllegalArgumentException("object cannot be null.");
-		if (freeObjects.size < max) {
+		boolean discarded = freeObjects.size >= max;
+		if (!discarded) {
 			freeObjects.add(object);
 			peak = Math.max(peak, freeObjects.size);
 		}
+		if (tracker != null) tracker.freed(object, discarded);
 		if (object instanceof Poolable) ((Poolable)object).reset();
 	}
 
@@ -70,7 +77,9 @@ abstract public class Pool<T> {
 		for (int i = 0; i < objects.size; i++) {
 			T object = objects.get(i);
 			if (object == null) continue;
-			if (freeObjects.size < max) freeObjects.add(object);
+			boolean discarded = freeObjects.size >= max;
+			if (!discarded) freeObjects.add(object);
+			if (tracker != null) tracker.freed(object, discarded);
 			if (object instanceof Poolable) ((Poolable)object).reset();
 		}
 		peak = Math.max(peak, freeObjects.size);
@@ -86,6 +95,135 @@ abstract public class Pool<T> {
 		return freeObjects.size;
 	}
 
+	/** Enables or disables counting the objects that go through this pool. Tracking is off by default, when off it costs a null check.
+	 * Enabling it resets the counts.
+	 * @param captureSites If true, the stack trace of each {@link #obtain()} is kept until the object is freed, so objects that are
+	 *           never freed can be found. This is slow and keeps outstanding objects reachable. */
+	public void setTracking (boolean enabled, boolean captureSites) {
+		tracker = enabled ? new Tracker(captureSites) : null;
+	}
+
+	/** Returns the counts for this pool, or null if tracking is not {@link #setTracking(boolean, boolean) enabled}. */
+	public Tracker getTracker () {
+		return tracker;
+	}
+
+	/** Returns a one line summary of this pool, followed by a line for each allocation site of outstanding objects if sites are
+	 * being captured. */
+	public String getDiagnostics () {
+		StringBuilder buffer = new StringBuilder(128);
+		buffer.append("free: ");
+		buffer.append(getFree());
+		buffer.append(", peak: ");
+		buffer.append(peak);
+		buffer.append(", max: ");
+		buffer.append(max);
+		Tracker tracker = this.tracker;
+		if (tracker != null) tracker.appendDiagnostics(buffer);
+		return buffer.toString();
+	}
+
+	/** Counts the objects that go through a pool, see {@link Pool#setTracking(boolean, boolean)}. Thread safe, so it can be used
+	 * with a {@link ConcurrentPool}. */
+	static public class Tracker {
+		long obtained, freed, created, discarded;
+		int peakOutstanding;
+		final IdentityMap<Object, Throwable> sites;
+
+		Tracker (boolean captureSites) {
+			sites = captureSites ? new IdentityMap() : null;
+		}
+
+		synchronized void obtained (Object object, boolean created) {
+			obtained++;
+			if (created) this.created++;
+			peakOutstanding = Math.max(peakOutstanding, (int)(obtained - freed));
+			if (sites != null) sites.put(object, new Throwable());
+		}
+
+		synchronized void freed (Object object, boolean discarded) {
+			freed++;
+			if (discarded) this.discarded++;
+			if (sites != null) sites.remove(object);
+		}
+
+		/** The number of objects returned by {@link Pool#obtain()}. */
+		public synchronized long getObtained () {
+			return obtained;
+		}
+
+		/** The number of objects passed to {@link Pool#free(Object)} or {@link Pool#freeAll(Array)}. */
+		public synchronized long getFreed () {
+			return freed;
+		}
+
+		/** The number of objects created by {@link Pool#newObject()}. If this keeps growing once the application has warmed up,
+		 * objects are not being freed or {@link Pool#max} is too low. */
+		public synchronized long getCreated () {
+			return created;
+		}
+
+		/** The number of freed objects that were not pooled because the pool already contained {@link Pool#max} free objects. */
+		public synchronized long getDiscarded () {
+			return discarded;
+		}
+
+		/** The number of objects obtained but not yet freed. */
+		public synchronized int getOutstanding () {
+			return (int)(obtained - freed);
+		}
+
+		/** The highest number of objects obtained but not yet freed. */
+		public synchronized int getPeakOutstanding () {
+			return peakOutstanding;
+		}
+
+		/** Returns the stack trace captured when each outstanding object was obtained, or null if sites are not being captured. */
+		public synchronized IdentityMap<Object, StackTraceElement[]> getOutstandingSites () {
+			if (sites == null) return null;
+			IdentityMap<Object, StackTraceElement[]> result = new IdentityMap(sites.size);
+			for (IdentityMap.Entry<Object, Throwable> entry : sites.entries())
+				result.put(entry.key, entry.value.getStackTrace());
+			return result;
+		}
+
+		synchronized void appendDiagnostics (StringBuilder buffer) {
+			buffer.append(", obtained: ");
+			buffer.append(obtained);
+			buffer.append(", freed: ");
+			buffer.append(freed);
+			buffer.append(", created: ");
+			buffer.append(created);
+			buffer.append(", discarded: ");
+			buffer.append(discarded);
+			buffer.append(", outstanding: ");
+			buffer.append(obtained - freed);
+			buffer.append(", peak outstanding: ");
+			buffer.append(peakOutstanding);
+			if (sites == null) return;
+			// Group outstanding objects by the first frame outside of the pool classes.
+			ObjectIntMap<String> counts = new ObjectIntMap();
+			for (Throwable site : sites.values())
+				counts.getAndIncrement(getCaller(site.getStackTrace()), 0, 1);
+			for (ObjectIntMap.Entry<String> entry : counts.entries()) {
+				buffer.append("\n  ");
+				buffer.append(entry.value);
+				buffer.append(" at ");
+				buffer.append(entry.key);
+			}
+		}
+
+		static private String getCaller (StackTraceElement[] trace) {
+			for (StackTraceElement element : trace) {
+				String className = element.getClassName();
+				if (className.startsWith(Pool.class.getName()) || className.equals(Pools.class.getName())) continue;
+				if (element.getMethodName().equals("obtain")) continue;
+				return element.toString();
+			}
+			return "unknown";
+		}
+	}
+
 	/** Objects implementing this interface will have {@link #reset()} called when passed to {@link #free(Object)}. */
 	static public interface Poolable {
 		/** Resets the object for reuse. Object references should be nulled and fields may be set to default values. */
@@ -16,18 +16,27 @@
 
 package com.badlogic.gdx.utils;
 
-/** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access.
+/** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access. Looking up pools is
+ * thread safe, but a pool can only be used by multiple threads if it is thread safe itself, eg a {@link ConcurrentPool}.
  * @author Nathan Sweet */
 public class Pools {
-	static private final ObjectMap<Class, Pool> typePools = new ObjectMap();
+	/** Copied on write so lookups don't need to synchronize. */
+	static private volatile ObjectMap<Class, Pool> typePools = new ObjectMap();
+	static private boolean tracking, captureSites;
 
 	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. Note the max size is ignored
 	 * if this is not the first time this pool has been requested. */
 	static public <T> Pool<T> get (Class<T> type, int max) {
 		Pool pool = typePools.get(type);
 		if (pool == null) {
-			pool = new ReflectionPool(type, 4, max);
-			typePools.put(type, pool);
+			synchronized (Pools.class) {
+				pool = typePools.get(type);
+				if (pool == null) {
+					pool = new ReflectionPool(type, 4, max);
+					if (tracking) pool.setTracking(true, captureSites);
+					put(type, pool);
+				}
+			}
 		}
 		return pool;
 	}
@@ -40,7 +49,39 @@ public class Pools {
 
 	/** Sets an existing pool for the specified type, stored in a Class to {@link Pool} map. */
 	static public <T> void set (Class<T> type, Pool<T> pool) {
+		synchronized (Pools.class) {
+			if (tracking && pool.getTracker() == null) pool.setTracking(true, captureSites);
+			put(type, pool);
+		}
+	}
+
+	/** Enables or disables tracking for all pools, including pools created or set later.
+	 * @see Pool#setTracking(boolean, boolean) */
+	static public void setTracking (boolean enabled, boolean captureSites) {
+		synchronized (Pools.class) {
+			tracking = enabled;
+			Pools.captureSites = captureSites;
+			for (Pool pool : new ObjectMap.Values<Pool>(typePools))
+				pool.setTracking(enabled, captureSites);
+		}
+	}
+
+	/** Returns a line for each pool with its type and {@link Pool#getDiagnostics() diagnostics}. */
+	static public String getDiagnostics () {
+		StringBuilder buffer = new StringBuilder(256);
+		for (ObjectMap.Entry<Class, Pool> entry : new ObjectMap.Entries<Class, Pool>(typePools)) {
+			buffer.append(entry.key.getName());
+			buffer.append(", ");
+			buffer.append(entry.value.getDiagnostics());
+			buffer.append("\n");
+		}
+		return buffer.toString();
+	}
+
+	static private void put (Class type, Pool pool) {
+		ObjectMap<Class, Pool> typePools = new ObjectMap(Pools.typePools);
 		typePools.put(type, pool);
+		Pools.typePools = typePools;
 	}
 
 	/** Obtains an object from the {@link #get(Class) pool}. */
@@ -66,6 +107,7 @@ public class Pools {
 	 * @param samePool If true, objects don't need to be from the same pool but the pool must be looked up for each object. */
 	static public void freeAll (Array objects, boolean samePool) {
 		if (objects == null) throw new IllegalArgumentException("Objects cannot be null.");
+		ObjectMap<Class, Pool> typePools = Pools.typePools;
 		Pool pool = null;
 		for (int i = 0, n = objects.size; i < n; i++) {
 			Object object = objects.get(i);
@@ -20,6 +20,9 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
@@ -153,7 +156,7 @@ public class UBJsonReader implements BaseJsonReader {
 		long c = 0;
 		while (din.available() > 0 && type != '}') {
 			final String key = parseString(din, true, type);
-			final JsonValue child = parse(din, valueType == 0 ? din.readByte() : valueType);
+			final JsonValue child = parseField(din, key, valueType == 0 ? din.readByte() : valueType);
 			child.setName(key);
 			if (prev != null) {
 				child.prev = prev;
@@ -170,15 +173,23 @@ public class UBJsonReader implements BaseJsonReader {
 		return result;
 	}
 
+	/** Parses the value of a field of an object. Override to read the value of specific fields differently, eg using
+	 * {@link #parseFloatArray(DataInputStream, byte)} to avoid a JsonValue per array element.
+	 * @param type The type marker of the value, which has already been read. */
+	protected JsonValue parseField (final DataInputStream din, final String name, final byte type) throws IOException {
+		return parse(din, type);
+	}
+
 	protected JsonValue parseData (final DataInputStream din, final byte blockType) throws IOException {
 		// FIXME: a/A is currently not following the specs because it lacks strong typed, fixed sized containers,
 		// see: https://github.com/thebuzzmedia/universal-binary-json/issues/27
 		final byte dataType = din.readByte();
 		final long size = blockType == 'A' ? readUInt(din) : (long)readUChar(din);
 		final JsonValue result = new JsonValue(JsonValue.ValueType.array);
+		final float[] floats = dataType == 'd' ? readFloats(din, dataType, size) : null;
 		JsonValue prev = null;
 		for (long i = 0; i < size; i++) {
-			final JsonValue val = parse(din, dataType);
+			final JsonValue val = floats != null ? new JsonValue(floats[(int)i]) : parse(din, dataType);
 			if (prev != null) {
 				prev.next = val;
 				result.size++;
@@ -191,6 +202,114 @@ public class UBJsonReader implements BaseJsonReader {
 		return result;
 	}
 
+	/** Parses an array of numbers directly into a float array. Strongly typed arrays (data blocks, or containers with a type and
+	 * count) of floats are read in bulk, without a JsonValue per element.
+	 * @param type The type marker of the value, which has already been read. */
+	public float[] parseFloatArray (final DataInputStream din, final byte type) throws IOException {
+		if (type == 'a' || type == 'A') {
+			final byte dataType = din.readByte();
+			return readFloats(din, dataType, type == 'A' ? readUInt(din) : (long)readUChar(din));
+		}
+		if (type == '[') {
+			byte next = din.readByte();
+			if (next == '$') {
+				final byte valueType = din.readByte();
+				if (din.readByte() != '#') throw new GdxRuntimeException("Unrecognized data type");
+				final long size = parseSize(din, false, -1);
+				if (size < 0) throw new GdxRuntimeException("Unrecognized data type");
+				return readFloats(din, valueType, size);
+			}
+			long size = -1;
+			if (next == '#') {
+				size = parseSize(din, false, -1);
+				if (size < 0) throw new GdxRuntimeException("Unrecognized data type");
+				if (size == 0) return new float[0];
+				next = din.readByte();
+			}
+			FloatArray values = new FloatArray(size > 0 ? (int)size : 16);
+			while (next != ']') {
+				values.add(parse(din, next).asFloat());
+				if (size > 0 && values.size >= size) break;
+				next = din.readByte();
+			}
+			return values.toArray();
+		}
+		return parse(din, type).asFloatArray();
+	}
+
+	/** Parses an array of numbers directly into a short array. Strongly typed arrays (data blocks, or containers with a type and
+	 * count) of 16 bit integers are read in bulk, without a JsonValue per element.
+	 * @param type The type marker of the value, which has already been read. */
+	public short[] parseShortArray (final DataInputStream din, final byte type) throws IOException {
+		if (type == 'a' || type == 'A') {
+			final byte dataType = din.readByte();
+			return readShorts(din, dataType, type == 'A' ? readUInt(din) : (long)readUChar(din));
+		}
+		if (type == '[') {
+			byte next = din.readByte();
+			if (next == '$') {
+				final byte valueType = din.readByte();
+				if (din.readByte() != '#') throw new GdxRuntimeException("Unrecognized data type");
+				final long size = parseSize(din, false, -1);
+				if (size < 0) throw new GdxRuntimeException("Unrecognized data type");
+				return readShorts(din, valueType, size);
+			}
+			long size = -1;
+			if (next == '#') {
+				size = parseSize(din, false, -1);
+				if (size < 0) throw new GdxRuntimeException("Unrecognized data type");
+				if (size == 0) return new short[0];
+				next = din.readByte();
+			}
+			ShortArray values = new ShortArray(size > 0 ? (int)size : 16);
+			while (next != ']') {
+				values.add(parse(din, next).asShort());
+				if (size > 0 && values.size >= size) break;
+				next = din.readByte();
+			}
+			return values.toArray();
+		}
+		return parse(din, type).asShortArray();
+	}
+
+	private float[] readFloats (final DataInputStream din, final byte dataType, final long size) throws IOException {
+		final float[] result = new float[(int)size];
+		if (dataType == 'd') {
+			final byte[] bytes = new byte[Math.min(result.length * 4, 16384)];
+			final FloatBuffer buffer = ByteBuffer.wrap(bytes).asFloatBuffer();
+			for (int i = 0, n = result.length; i < n;) {
+				final int count = Math.min(n - i, bytes.length / 4);
+				din.readFully(bytes, 0, count * 4);
+				buffer.position(0);
+				buffer.get(result, i, count);
+				i += count;
+			}
+		} else {
+			for (int i = 0, n = result.length; i < n; i++)
+				result[i] = parse(din, dataType).asFloat();
+		}
+		return result;
+	}
+
+	private short[] readShorts (final DataInputStream din, final byte dataType, final long size) throws IOException {
+		final short[] result = new short[(int)size];
+		if ((dataType == 'i' && oldFormat) || (dataType == 'I' && !oldFormat)) {
+			final byte[] bytes = new byte[Math.min(result.length * 2, 16384)];
+			final ShortBuffer buffer = ByteBuffer.wrap(bytes).asShortBuffer();
+			for (int i = 0, n = result.length; i < n;) {
+				final int count = Math.min(n - i, bytes.length / 2);
+				din.readFully(bytes, 0, count * 2);
+				buffer.position(0);
+				buffer.get(result, i, count);
+				i += count;
+			}
+		} else {
+			for (int i = 0, n = result.length; i < n; i++)
+				result[i] = parse(din, dataType).asShort();
+		}
+		return result;
+	}
+
 	protected String parseString (final DataInputStream din, final byte type) throws IOException {
 		return parseString(din, false, type);
 	}
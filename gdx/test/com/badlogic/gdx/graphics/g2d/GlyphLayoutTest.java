@@ -0,0 +1,111 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+
+public class GlyphLayoutTest {
+	static private final String chars = "abcdefgAVTWxyz 0123456789.,'\"[]#\n\u2603";
+	static private final int[] aligns = {Align.left, Align.center, Align.right};
+
+	@Test
+	public void test_incremental_matches_full_layout () throws Exception {
+		BitmapFontData data = new BitmapFontData(new FileHandle("src/com/badlogic/gdx/utils/arial-15.fnt"), false);
+		// Glyph regions aren't needed for layout, so no textures are loaded.
+		BitmapFont font = new BitmapFont(data, Array.with(new TextureRegion()), false) {
+			protected void load (BitmapFontData data) {
+			}
+		};
+		Field updatable = GlyphLayout.class.getDeclaredField("updatable");
+		updatable.setAccessible(true);
+
+		GlyphLayout incremental = new GlyphLayout(), full = new GlyphLayout();
+		incremental.setIncremental(true);
+		Random random = new Random(1);
+		StringBuilder text = new StringBuilder("Score: 100");
+		int updates = 0;
+		for (int i = 0; i < 20000; i++) {
+			int edits = 1 + random.nextInt(3);
+			for (int e = 0; e < edits; e++) {
+				int index = random.nextInt(text.length() + 1);
+				// Mostly plain characters, so most texts can be updated incrementally.
+				char ch = chars.charAt(random.nextInt(random.nextInt(8) == 0 ? chars.length() : 26));
+				switch (random.nextInt(3)) {
+				case 0:
+					text.insert(index, ch);
+					break;
+				case 1:
+					if (index < text.length()) text.deleteCharAt(index);
+					break;
+				default:
+					if (index < text.length()) text.setCharAt(index, ch);
+				}
+			}
+			if (random.nextInt(50) == 0) text.setLength(random.nextInt(text.length() + 1));
+			data.markupEnabled = random.nextInt(10) == 0;
+			Color color = random.nextInt(20) == 0 ? Color.RED : Color.WHITE;
+			int halign = aligns[random.nextInt(aligns.length)];
+			int start = random.nextInt(4) == 0 ? Math.min(2, text.length()) : 0;
+
+			if (updatable.getBoolean(incremental)) updates++;
+			incremental.setText(font, text, start, text.length(), color, 300, halign, false, null);
+			full.setText(font, text, start, text.length(), color, 300, halign, false, null);
+			assertLayoutEquals(text.toString(), full, incremental);
+		}
+		assertTrue("Too few incremental updates: " + updates, updates > 10000);
+	}
+
+	@Test
+	public void test_incremental_after_eviction () throws Exception {
+		BitmapFontData data = new BitmapFontData(new FileHandle("src/com/badlogic/gdx/utils/arial-15.fnt"), false);
+		BitmapFont font = new BitmapFont(data, Array.with(new TextureRegion()), false) {
+			protected void load (BitmapFontData data) {
+			}
+		};
+		GlyphLayout incremental = new GlyphLayout(), full = new GlyphLayout();
+		incremental.setIncremental(true);
+		incremental.setText(font, "Score: 100");
+
+		// Replace a glyph of the unchanged prefix, as a font reusing texture space for new glyphs does.
+		Glyph old = data.getGlyph('S'), glyph = new Glyph();
+		glyph.id = old.id;
+		glyph.width = old.width;
+		glyph.height = old.height;
+		glyph.xadvance = old.xadvance;
+		data.setGlyph('S', glyph);
+		data.evictions++;
+
+		incremental.setText(font, "Score: 101");
+		full.setText(font, "Score: 101");
+		assertLayoutEquals("Score: 101", full, incremental);
+		assertSame(glyph, incremental.runs.first().glyphs.first());
+	}
+
+	private void assertLayoutEquals (String text, GlyphLayout expected, GlyphLayout actual) {
+		assertEquals(text, expected.width, actual.width, 0.0001f);
+		assertEquals(text, expected.height, actual.height, 0.0001f);
+		assertEquals(text, expected.runs.size, actual.runs.size);
+		for (int i = 0; i < expected.runs.size; i++) {
+			GlyphRun expectedRun = expected.runs.get(i), actualRun = actual.runs.get(i);
+			assertEquals(text, expectedRun.x, actualRun.x, 0.0001f);
+			assertEquals(text, expectedRun.y, actualRun.y, 0.0001f);
+			assertEquals(text, expectedRun.width, actualRun.width, 0.0001f);
+			assertEquals(text, expectedRun.color, actualRun.color);
+			assertEquals(text, expectedRun.glyphs, actualRun.glyphs);
+			assertEquals(text, expectedRun.xAdvances.size, actualRun.xAdvances.size);
+			for (int ii = 0; ii < expectedRun.xAdvances.size; ii++)
+				assertEquals(text, expectedRun.xAdvances.get(ii), actualRun.xAdvances.get(ii), 0.0001f);
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+public class JsonStreamingTest {
+	@Test
+	public void test_streaming_matches_tree () {
+		Json json = newJson();
+		Sample sample = newSample();
+		String[] documents = {json.toJson(sample), json.prettyPrint(sample), newJson(OutputType.minimal).toJson(sample),
+			newJson(OutputType.javascript).toJson(sample)};
+		for (String document : documents) {
+			Sample tree = read(Sample.class, null, document, false);
+			Sample streamed = read(Sample.class, null, document, true);
+			assertEquals(json.toJson(tree), json.toJson(streamed));
+			assertEquals(json.toJson(sample), json.toJson(streamed));
+		}
+	}
+
+	@Test
+	public void test_streaming_matches_tree_for_root_types () {
+		Json json = newJson();
+		Array<Item> items = newSample().items;
+		String document = json.toJson(items, Array.class, Item.class);
+		assertEquals(json.toJson(read(Array.class, Item.class, document, false)),
+			json.toJson(read(Array.class, Item.class, document, true)));
+
+		// Objects of unknown type are read as JsonValue.
+		document = "[1, 2.5, \"three\", true, null, {a: 1, b: [x, y]}]";
+		Object tree = read(null, null, document, false), streamed = read(null, null, document, true);
+		assertEquals(tree.toString(), streamed.toString());
+		tree = read(ArrayList.class, null, document, false);
+		streamed = read(ArrayList.class, null, document, true);
+		assertEquals(tree.toString(), streamed.toString());
+
+		document = "{a: 1, b: {c: [1, 2], d: \"e\"}, f: null}";
+		tree = read(null, null, document, false);
+		streamed = read(null, null, document, true);
+		assertEquals(tree.toString(), streamed.toString());
+		tree = read(ObjectMap.class, null, document, false);
+		streamed = read(ObjectMap.class, null, document, true);
+		assertEquals(tree.toString(), streamed.toString());
+
+		document = "[[1, 2], [3], []]";
+		int[][] treeArray = read(int[][].class, null, document, false);
+		int[][] streamedArray = read(int[][].class, null, document, true);
+		assertEquals(treeArray.length, streamedArray.length);
+		for (int i = 0; i < treeArray.length; i++)
+			assertArrayEquals(treeArray[i], streamedArray[i]);
+
+		assertEquals(read(String.class, null, "\"text\"", false), read(String.class, null, "\"text\"", true));
+		assertEquals(read(Integer.class, null, "42", false), read(Integer.class, null, "42", true));
+		assertEquals(read(Kind.class, null, "second", false), read(Kind.class, null, "second", true));
+		assertNull(read(Sample.class, null, "null", true));
+	}
+
+	@Test
+	public void test_streaming_skips_unknown_fields () {
+		String document = "{unknown: {a: [1, {b: 2}], c: d}, id: 7, other: [1, 2, [3]], name: sample}";
+		Sample tree = read(Sample.class, null, document, false), streamed = read(Sample.class, null, document, true);
+		assertEquals(7, streamed.id);
+		assertEquals("sample", streamed.name);
+		assertEquals(newJson().toJson(tree), newJson().toJson(streamed));
+	}
+
+	@Test
+	public void test_streaming_errors_match_tree () {
+		String[] documents = {"{id: [1, 2]}", "{name: [a]}", "{kind: fifth}", "{id: 1", "[1, 2", "{values: [a, b]}"};
+		for (String document : documents) {
+			String treeMessage = null, streamedMessage = null;
+			try {
+				read(Sample.class, null, document, false);
+			} catch (SerializationException ex) {
+				treeMessage = ex.getMessage();
+			}
+			try {
+				read(Sample.class, null, document, true);
+			} catch (SerializationException ex) {
+				streamedMessage = ex.getMessage();
+			}
+			assertNotNull(document, treeMessage);
+			assertEquals(document, treeMessage, streamedMessage);
+		}
+	}
+
+	private <T> T read (Class<T> type, Class elementType, String document, boolean streaming) {
+		Json json = newJson();
+		json.setIgnoreUnknownFields(true);
+		json.setStreaming(streaming);
+		return json.fromJson(type, elementType, document);
+	}
+
+	private Json newJson () {
+		return newJson(OutputType.json);
+	}
+
+	private Json newJson (OutputType outputType) {
+		Json json = new Json(outputType);
+		json.addClassTag("item", Item.class);
+		json.setSerializer(Point.class, new Json.ReadOnlySerializer<Point>() {
+			public Point read (Json json, JsonValue jsonData, Class type) {
+				Point point = new Point();
+				point.x = jsonData.getInt(0);
+				point.y = jsonData.getInt(1);
+				return point;
+			}
+
+			public void write (Json json, Point point, Class knownType) {
+				json.writeArrayStart();
+				json.writeValue(point.x);
+				json.writeValue(point.y);
+				json.writeArrayEnd();
+			}
+		});
+		return json;
+	}
+
+	private Sample newSample () {
+		Sample sample = new Sample();
+		sample.id = 7;
+		sample.name = "sample \"quoted\"\n";
+		sample.scale = 1.5f;
+		sample.ratio = 0.125;
+		sample.time = 1L << 40;
+		sample.visible = false;
+		sample.letter = 'q';
+		sample.kind = Kind.second;
+		sample.values = new int[] {1, -2, 3};
+		sample.names = new String[] {"a", null, "c"};
+		for (int i = 0; i < 3; i++) {
+			Item item = new Item();
+			item.count = i;
+			item.label = "item" + i;
+			sample.items.add(item);
+			sample.list.add("entry" + i);
+			sample.map.put("key" + i, i * 10);
+		}
+		sample.child = new Sample();
+		sample.child.name = "child";
+		Item any = new Item();
+		any.count = 3;
+		sample.any = any;
+		sample.point = new Point();
+		sample.point.x = 4;
+		sample.point.y = 5;
+		sample.tree = new Tree();
+		sample.tree.depth = 2;
+		return sample;
+	}
+
+	static public enum Kind {
+		first, second
+	}
+
+	static public class Item {
+		public int count;
+		public String label;
+	}
+
+	static public class Point {
+		public int x, y;
+	}
+
+	static public class Tree implements Json.Serializable {
+		public int depth;
+
+		public void write (Json json) {
+			json.writeValue("depth", depth);
+		}
+
+		public void read (Json json, JsonValue jsonData) {
+			depth = jsonData.getInt("depth");
+		}
+	}
+
+	static public class Sample {
+		public int id;
+		public String name;
+		public float scale = 1;
+		public double ratio;
+		public long time;
+		public boolean visible = true;
+		public char letter;
+		public Kind kind = Kind.first;
+		public int[] values;
+		public String[] names;
+		public Array<Item> items = new Array();
+		public ArrayList<String> list = new ArrayList();
+		public ObjectMap<String, Integer> map = new ObjectMap();
+		public Sample child;
+		public Object any;
+		public Point point;
+		public Tree tree;
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+
+/** Loads several textures and atlases with an {@link AssetManager} using multiple loading threads, and checks every asset against
+ * the same file loaded directly. Stock loaders keep the state of the asset being loaded in fields, so assets of the same loader
+ * must not be mixed up when loaded in parallel lanes. */
+public class ParallelAssetManagerTest extends GdxTest {
+	static private final String[] textures = {"data/animation.png", "data/badlogic.jpg", "data/egg.png", "data/isotile.png",
+		"data/particle-fire.png", "data/planet_earth.png", "data/bobrgb888-32x32.png", "data/group-debug.png"};
+	static private final String[] atlases = {"data/pack", "data/uiskin.atlas",
+		"data/maps/tiled-atlas-processed/tileset/packed.atlas"};
+
+	private AssetManager manager;
+	private SpriteBatch batch;
+	private BitmapFont font;
+	private String result = "Loading...";
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		manager = new AssetManager(new InternalFileHandleResolver(), 4);
+		for (String fileName : textures)
+			manager.load(fileName, Texture.class);
+		for (String fileName : atlases)
+			manager.load(fileName, TextureAtlas.class);
+	}
+
+	@Override
+	public void render () {
+		if (manager.update() && result.equals("Loading...")) {
+			Array<String> errors = new Array();
+			for (String fileName : textures)
+				checkTexture(fileName, manager.get(fileName, Texture.class), Gdx.files.internal(fileName), errors);
+			for (String fileName : atlases)
+				checkAtlas(fileName, manager.get(fileName, TextureAtlas.class), errors);
+			result = errors.size == 0 ? "All " + (textures.length + atlases.length) + " assets match" : errors.toString("\n");
+			Gdx.app.log("ParallelAssetManagerTest", result);
+		}
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		batch.begin();
+		font.draw(batch, result, 10, Gdx.graphics.getHeight() - 10);
+		batch.end();
+	}
+
+	private void checkTexture (String fileName, Texture texture, FileHandle file, Array<String> errors) {
+		Pixmap pixmap = new Pixmap(file);
+		if (texture.getWidth() != pixmap.getWidth() || texture.getHeight() != pixmap.getHeight())
+			errors.add(fileName + ": " + texture.getWidth() + "x" + texture.getHeight() + ", expected " + pixmap.getWidth() + "x"
+				+ pixmap.getHeight());
+		pixmap.dispose();
+	}
+
+	private void checkAtlas (String fileName, TextureAtlas atlas, Array<String> errors) {
+		FileHandle file = Gdx.files.internal(fileName);
+		TextureAtlasData data = new TextureAtlasData(file, file.parent(), false);
+		if (atlas.getRegions().size != data.getRegions().size) {
+			errors.add(fileName + ": " + atlas.getRegions().size + " regions, expected " + data.getRegions().size);
+			return;
+		}
+		for (Region region : data.getRegions()) {
+			AtlasRegion atlasRegion = atlas.findRegion(region.name, region.index);
+			if (atlasRegion == null || atlasRegion.getRegionWidth() != region.width || atlasRegion.getRegionHeight() != region.height
+				|| atlasRegion.getTexture() != pageTexture(region.page))
+				errors.add(fileName + ": region " + region.name + " doesn't match");
+		}
+		for (Page page : data.getPages())
+			checkTexture(fileName + " " + page.textureFile.name(), pageTexture(page), page.textureFile, errors);
+	}
+
+	private Texture pageTexture (Page page) {
+		return manager.get(page.textureFile.path().replaceAll("\\\\", "/"), Texture.class);
+	}
+
+	@Override
+	public void dispose () {
+		manager.dispose();
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationUpdater;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Measures how many animated instances per millisecond are updated by calling {@link AnimationController#update(float)} for
+ * each of them compared to an {@link AnimationUpdater}, which applies the animations on an executor. */
+public class AnimationUpdaterBench extends BaseBench {
+	static private final int instances = 500, frames = 200;
+	static private final String[] animations = {"Idle", "Walk", "Attack"};
+
+	private final int threads = Runtime.getRuntime().availableProcessors();
+	private AnimationUpdater updater;
+	private final Array<AnimationController> controllers = new Array();
+
+	@Override
+	public void create () {
+		super.create();
+
+		Model model = new G3dModelLoader(new UBJsonReader()).loadModel(Gdx.files.internal("data/g3d/knight.g3db"));
+		AsyncExecutor executor = new AsyncExecutor(Math.max(1, threads - 1));
+		updater = new AnimationUpdater(executor, threads);
+		for (int i = 0; i < instances; i++) {
+			AnimationController controller = new AnimationController(new ModelInstance(model));
+			controller.setAnimation(animations[i % animations.length], -1, 0.5f + (i % 7) * 0.1f, null);
+			controllers.add(controller);
+			updater.add(controller);
+		}
+		measure();
+
+		executor.dispose();
+		model.dispose();
+	}
+
+	@Override
+	protected void bench () {
+		results.append(instances).append(" instances, ").append(frames).append(" frames, ").append(threads)
+			.append(" slices\n");
+
+		long start = TimeUtils.nanoTime();
+		for (int frame = 0; frame < frames; frame++) {
+			for (int i = 0; i < instances; i++)
+				controllers.get(i).update(1 / 60f);
+		}
+		report("serial", TimeUtils.nanoTime() - start);
+
+		start = TimeUtils.nanoTime();
+		for (int frame = 0; frame < frames; frame++)
+			updater.update(1 / 60f);
+		report("updater", TimeUtils.nanoTime() - start);
+	}
+
+	private void report (String name, long time) {
+		results.append(name).append(": ").append(instances * (long)frames * 1000000 / Math.max(1, time))
+			.append(" instances/ms\n");
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.tests.utils.GdxTest;
+
+/** Base class for benchmarks that measure once in {@link #create()} and draw the results as text. Subclasses prepare their data,
+ * call {@link #measure()} and append a line per measurement to {@link #results} in {@link #bench()}. */
+abstract public class BaseBench extends GdxTest {
+	protected final StringBuilder results = new StringBuilder();
+	protected BitmapFont font;
+	private SpriteBatch batch;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	/** Calls {@link #bench()} twice, the first pass warms up the JIT, and logs the results of the second pass. */
+	protected void measure () {
+		for (int pass = 0; pass < 2; pass++) {
+			results.setLength(0);
+			bench();
+		}
+		Gdx.app.log(getClass().getSimpleName(), "\n" + results);
+	}
+
+	/** Runs every measurement once and appends a line per measurement to {@link #results}. */
+	abstract protected void bench ();
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		batch.begin();
+		font.draw(batch, results, 10, Gdx.graphics.getHeight() - 10);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Measures the layout cost per character of HUD style text that changes every frame, comparing a full {@link GlyphLayout}
+ * and {@link BitmapFontCache} update against their incremental mode. */
+public class GlyphLayoutBench extends BaseBench {
+	static private final int updates = 200000;
+
+	private final StringBuilder text = new StringBuilder();
+	private final GlyphLayout fullLayout = new GlyphLayout(), incrementalLayout = new GlyphLayout();
+	private BitmapFontCache fullCache, incrementalCache;
+
+	@Override
+	public void create () {
+		super.create();
+
+		incrementalLayout.setIncremental(true);
+		fullCache = font.newFontCache();
+		incrementalCache = font.newFontCache();
+		incrementalCache.setIncremental(true);
+		measure();
+	}
+
+	@Override
+	protected void bench () {
+		results.append(updates).append(" updates\n");
+		for (int mode = 0; mode < 2; mode++) {
+			String name = mode == 0 ? "score" : "timer";
+			long start = TimeUtils.nanoTime();
+			long chars = 0;
+			for (int i = 0; i < updates; i++) {
+				fullLayout.setText(font, text(mode, i));
+				chars += text.length();
+			}
+			long full = TimeUtils.nanoTime() - start;
+			start = TimeUtils.nanoTime();
+			for (int i = 0; i < updates; i++)
+				incrementalLayout.setText(font, text(mode, i));
+			report(name + " layout", full, TimeUtils.nanoTime() - start, chars);
+
+			start = TimeUtils.nanoTime();
+			for (int i = 0; i < updates; i++)
+				fullCache.setText(text(mode, i), 0, 0);
+			full = TimeUtils.nanoTime() - start;
+			start = TimeUtils.nanoTime();
+			for (int i = 0; i < updates; i++)
+				incrementalCache.setText(text(mode, i), 0, 0);
+			report(name + " cache", full, TimeUtils.nanoTime() - start, chars);
+		}
+	}
+
+	/** Mode 0 changes the last digits of a score, mode 1 changes several fields in the middle of the text. */
+	private StringBuilder text (int mode, int i) {
+		StringBuilder text = this.text;
+		text.setLength(0);
+		if (mode == 0)
+			text.append("Player one score: ").append(100000 + i % 1000);
+		else {
+			int seconds = i / 10;
+			text.append("Health: ").append(i % 1000).append(" / 1000  Time: ").append(seconds / 60 % 60).append(':')
+				.append(seconds % 60);
+		}
+		return text;
+	}
+
+	private void report (String name, long full, long incremental, long chars) {
+		results.append(name).append(": full ").append(full / chars).append(" ns/char, incremental ")
+			.append(incremental / chars).append(" ns/char\n");
+	}
+}
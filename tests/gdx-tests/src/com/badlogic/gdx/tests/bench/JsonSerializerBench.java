@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares the reflective {@link Json} path with a serializer generated by JsonSerializerGenerator in gdx-tools. Regenerate
+ * {@link JsonSerializerBench_SampleJsonSerializer} after changing {@link Sample}. */
+public class JsonSerializerBench extends BaseBench {
+	static private final int iterations = 2000;
+
+	private final Array<Sample> samples = new Array();
+	private final Json reflective = new Json(), generated = new Json();
+
+	@Override
+	public void create () {
+		super.create();
+
+		for (int i = 0; i < 100; i++) {
+			Sample sample = new Sample();
+			sample.id = i;
+			sample.name = "sample" + i;
+			sample.x = i * 1.5f;
+			sample.y = i * -0.25f;
+			sample.scale = 1 + i / 100f;
+			sample.visible = i % 2 == 0;
+			sample.time = i * 1000L;
+			sample.values = new float[] {i, i + 0.5f, i + 1};
+			samples.add(sample);
+		}
+
+		JsonSerializerBench_SampleJsonSerializer.register(generated);
+		measure();
+	}
+
+	@Override
+	protected void bench () {
+		bench("Reflective", reflective);
+		bench("Generated", generated);
+	}
+
+	private void bench (String name, Json json) {
+		String text = json.toJson(samples, Array.class, Sample.class);
+
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			json.toJson(samples, Array.class, Sample.class);
+		long write = TimeUtils.nanoTime() - start;
+
+		JsonValue root = new JsonReader().parse(text);
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			json.readValue(Array.class, Sample.class, root);
+		long read = TimeUtils.nanoTime() - start;
+
+		results.append(name).append(": write ").append(write / 1000000).append(" ms, read ").append(read / 1000000)
+			.append(" ms (").append(samples.size).append(" objects x ").append(iterations).append(")\n");
+	}
+
+	static public class Sample {
+		public int id;
+		public String name;
+		public float x, y, scale = 1;
+		public boolean visible = true;
+		public long time;
+		public float[] values;
+	}
+}
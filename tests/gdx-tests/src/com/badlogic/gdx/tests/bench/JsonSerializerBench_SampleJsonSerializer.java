@@ -0,0 +1,123 @@
+// Generated by com.badlogic.gdx.tools.json.JsonSerializerGenerator from com.badlogic.gdx.tests.bench.JsonSerializerBench$Sample. Do not edit.
+
+package com.badlogic.gdx.tests.bench;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+
+/** Reflection-free serializer for {@link JsonSerializerBench.Sample}. */
+@SuppressWarnings("all")
+public class JsonSerializerBench_SampleJsonSerializer implements Json.Serializer<JsonSerializerBench.Sample> {
+	private final JsonSerializerBench.Sample defaults = new JsonSerializerBench.Sample();
+
+	static public void register (Json json) {
+		json.setSerializer(JsonSerializerBench.Sample.class, new JsonSerializerBench_SampleJsonSerializer());
+	}
+
+	public void write (Json json, JsonSerializerBench.Sample object, Class knownType) {
+		json.writeObjectStart(JsonSerializerBench.Sample.class, knownType);
+		JsonSerializerBench.Sample defaults = json.getUsePrototypes() ? this.defaults : null;
+		JsonWriter writer = json.getWriter();
+		try {
+			if (defaults == null || object.id != defaults.id) writer.name("id").value(object.id);
+			if (defaults == null || !equal(object.name, defaults.name)) writer.name("name").value(object.name);
+			if (defaults == null || Float.floatToIntBits(object.x) != Float.floatToIntBits(defaults.x)) writer.name("x").value(object.x);
+			if (defaults == null || Float.floatToIntBits(object.y) != Float.floatToIntBits(defaults.y)) writer.name("y").value(object.y);
+			if (defaults == null || Float.floatToIntBits(object.scale) != Float.floatToIntBits(defaults.scale)) writer.name("scale").value(object.scale);
+			if (defaults == null || object.visible != defaults.visible) writer.name("visible").value(object.visible);
+			if (defaults == null || object.time != defaults.time) writer.name("time").value(object.time);
+			if (defaults == null || !equal(object.values, defaults.values)) {
+				writer.name("values");
+				json.writeValue(object.values, float[].class, (Class)null);
+			}
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+		json.writeObjectEnd();
+	}
+
+	public JsonSerializerBench.Sample read (Json json, JsonValue jsonData, Class type) {
+		if (jsonData.isNull()) return null;
+		if (!jsonData.isObject()) throw new SerializationException("Unable to convert value to required type: " + jsonData + " (" + JsonSerializerBench.Sample.class.getName() + ")");
+		JsonSerializerBench.Sample object = new JsonSerializerBench.Sample();
+		for (JsonValue child = jsonData.child; child != null; child = child.next) {
+			String name = child.name;
+			try {
+				switch (name.hashCode()) {
+				case -823812830:
+					if (name.equals("values")) {
+						object.values = json.readValue(float[].class, (Class)null, child);
+						continue;
+					}
+					break;
+				case 120:
+					if (name.equals("x")) {
+						object.x = child.isNumber() ? child.asFloat() : json.readValue(float.class, (Class)null, child);
+						continue;
+					}
+					break;
+				case 121:
+					if (name.equals("y")) {
+						object.y = child.isNumber() ? child.asFloat() : json.readValue(float.class, (Class)null, child);
+						continue;
+					}
+					break;
+				case 3355:
+					if (name.equals("id")) {
+						object.id = child.isNumber() ? child.asInt() : json.readValue(int.class, (Class)null, child);
+						continue;
+					}
+					break;
+				case 3373707:
+					if (name.equals("name")) {
+						object.name = json.readValue(String.class, (Class)null, child);
+						continue;
+					}
+					break;
+				case 3560141:
+					if (name.equals("time")) {
+						object.time = child.isNumber() ? child.asLong() : json.readValue(long.class, (Class)null, child);
+						continue;
+					}
+					break;
+				case 109250890:
+					if (name.equals("scale")) {
+						object.scale = child.isNumber() ? child.asFloat() : json.readValue(float.class, (Class)null, child);
+						continue;
+					}
+					break;
+				case 466743410:
+					if (name.equals("visible")) {
+						object.visible = child.isBoolean() ? child.asBoolean() : json.readValue(boolean.class, (Class)null, child);
+						continue;
+					}
+					break;
+				}
+			} catch (SerializationException ex) {
+				ex.addTrace(name + " (" + JsonSerializerBench.Sample.class.getName() + ")");
+				throw ex;
+			} catch (RuntimeException runtimeEx) {
+				SerializationException ex = new SerializationException(runtimeEx);
+				ex.addTrace(name + " (" + JsonSerializerBench.Sample.class.getName() + ")");
+				throw ex;
+			}
+			if (!json.getIgnoreUnknownFields())
+				throw new SerializationException("Field not found: " + name + " (" + JsonSerializerBench.Sample.class.getName() + ")");
+		}
+		return object;
+	}
+
+	static private boolean equal (Object value, Object defaultValue) {
+		if (value == null) return defaultValue == null;
+		if (defaultValue == null) return false;
+		if (value.equals(defaultValue)) return true;
+		if (value.getClass().isArray() && defaultValue.getClass().isArray())
+			return Arrays.deepEquals(new Object[] {value}, new Object[] {defaultValue});
+		return false;
+	}
+}
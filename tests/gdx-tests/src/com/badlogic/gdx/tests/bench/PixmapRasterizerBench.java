@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapRasterizer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Compares drawing to a large {@link Pixmap} with the per call methods against {@link PixmapRasterizer}, which splits the
+ * target into row bands drawn on an executor. Covers a list of blits, a scaled blit, shape fills, format conversion and alpha
+ * premultiplication. */
+public class PixmapRasterizerBench extends BaseBench {
+	static private final int size = 4096, sprites = 2000, shapes = 500;
+
+	private final int threads = Runtime.getRuntime().availableProcessors();
+	private AsyncExecutor executor;
+	private PixmapRasterizer rasterizer, single;
+	private Pixmap target, sprite, small;
+	private final int[] positions = new int[sprites * 2], vertices = new int[shapes * 6];
+
+	@Override
+	public void create () {
+		super.create();
+
+		executor = new AsyncExecutor(Math.max(1, threads - 1));
+		rasterizer = new PixmapRasterizer(executor, threads);
+		single = new PixmapRasterizer(executor, 1);
+
+		target = new Pixmap(size, size, Format.RGBA8888);
+		sprite = new Pixmap(64, 64, Format.RGBA8888);
+		sprite.setColor(Color.ORANGE);
+		sprite.fillCircle(32, 32, 31);
+		small = new Pixmap(512, 512, Format.RGBA8888);
+		small.setColor(0.2f, 0.4f, 0.8f, 0.5f);
+		small.fill();
+
+		for (int i = 0; i < positions.length; i++)
+			positions[i] = MathUtils.random(-64, size);
+		for (int i = 0; i < vertices.length; i++)
+			vertices[i] = MathUtils.random(size);
+		measure();
+
+		target.dispose();
+		sprite.dispose();
+		small.dispose();
+		executor.dispose();
+	}
+
+	@Override
+	protected void bench () {
+		results.append(size).append("x").append(size).append(", ").append(threads).append(" bands\n");
+		long start, perCall, banded;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < positions.length; i += 2)
+			target.drawPixmap(sprite, positions[i], positions[i + 1]);
+		perCall = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		rasterizer.begin(target);
+		for (int i = 0; i < positions.length; i += 2)
+			rasterizer.drawPixmap(sprite, positions[i], positions[i + 1]);
+		rasterizer.end();
+		banded = TimeUtils.nanoTime() - start;
+		report(sprites + " blits", perCall, banded);
+
+		start = TimeUtils.nanoTime();
+		target.drawPixmap(small, 0, 0, 512, 512, 0, 0, size, size);
+		perCall = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		rasterizer.begin(target);
+		rasterizer.drawPixmap(small, 0, 0, 512, 512, 0, 0, size, size);
+		rasterizer.end();
+		banded = TimeUtils.nanoTime() - start;
+		report("scaled blit", perCall, banded);
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < vertices.length; i += 6) {
+			target.setColor(0.5f, 0.5f, 0.5f, 0.5f);
+			target.fillTriangle(vertices[i], vertices[i + 1], vertices[i + 2], vertices[i + 3], vertices[i + 4], vertices[i + 5]);
+			target.setColor(0.8f, 0.2f, 0.2f, 0.5f);
+			target.fillCircle(vertices[i], vertices[i + 1], vertices[i + 2] / 16);
+		}
+		perCall = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		rasterizer.begin(target);
+		for (int i = 0; i < vertices.length; i += 6) {
+			rasterizer.setColor(0.5f, 0.5f, 0.5f, 0.5f);
+			rasterizer.fillTriangle(vertices[i], vertices[i + 1], vertices[i + 2], vertices[i + 3], vertices[i + 4],
+				vertices[i + 5]);
+			rasterizer.setColor(0.8f, 0.2f, 0.2f, 0.5f);
+			rasterizer.fillCircle(vertices[i], vertices[i + 1], vertices[i + 2] / 16);
+		}
+		rasterizer.end();
+		banded = TimeUtils.nanoTime() - start;
+		report(shapes * 2 + " fills", perCall, banded);
+
+		start = TimeUtils.nanoTime();
+		Pixmap converted = new Pixmap(size, size, Format.RGB565);
+		converted.setBlending(Blending.None);
+		converted.drawPixmap(target, 0, 0);
+		perCall = TimeUtils.nanoTime() - start;
+		converted.dispose();
+		start = TimeUtils.nanoTime();
+		converted = rasterizer.convert(target, Format.RGB565);
+		banded = TimeUtils.nanoTime() - start;
+		converted.dispose();
+		report("convert", perCall, banded);
+
+		start = TimeUtils.nanoTime();
+		single.premultiplyAlpha(target);
+		perCall = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		rasterizer.premultiplyAlpha(target);
+		banded = TimeUtils.nanoTime() - start;
+		report("premultiply", perCall, banded);
+	}
+
+	private void report (String name, long perCall, long banded) {
+		results.append(name).append(": per call ").append(perCall / 1000000).append(" ms, banded ").append(banded / 1000000)
+			.append(" ms\n");
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.LinearIntIntMap;
+import com.badlogic.gdx.utils.LinearLongMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares the cuckoo {@link IntIntMap} and {@link LongMap} with the linear probing {@link LinearIntIntMap} and
+ * {@link LinearLongMap} for random keys, sequential ids, keys with a large stride and tile coordinates packed into longs. */
+public class PrimitiveMapBench extends BaseBench {
+	static private final int count = 100000;
+
+	private final int[] random = new int[count], sequential = new int[count], stride = new int[count];
+	private final long[] tiles = new long[count];
+	private int sink;
+
+	@Override
+	public void create () {
+		super.create();
+
+		int side = (int)Math.sqrt(count);
+		for (int i = 0; i < count; i++) {
+			random[i] = MathUtils.random(1, Integer.MAX_VALUE);
+			sequential[i] = i + 1;
+			stride[i] = (i + 1) << 10;
+			tiles[i] = (long)(i / side) << 32 | i % side;
+		}
+		measure();
+	}
+
+	@Override
+	protected void bench () {
+		benchInt("random", random);
+		benchInt("sequential", sequential);
+		benchInt("stride", stride);
+		benchLong("tiles", tiles);
+	}
+
+	private void benchInt (String name, int[] keys) {
+		long put, get, miss, remove, start;
+
+		IntIntMap cuckoo = new IntIntMap();
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			cuckoo.put(keys[i], i);
+		put = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			sink += cuckoo.get(keys[i], 0);
+		get = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			sink += cuckoo.get(-keys[i], 0);
+		miss = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			sink += cuckoo.remove(keys[i], 0);
+		remove = TimeUtils.nanoTime() - start;
+		report("IntIntMap", name, put, get, miss, remove);
+
+		LinearIntIntMap linear = new LinearIntIntMap();
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			linear.put(keys[i], i);
+		put = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			sink += linear.get(keys[i], 0);
+		get = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			sink += linear.get(-keys[i], 0);
+		miss = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			sink += linear.remove(keys[i], 0);
+		remove = TimeUtils.nanoTime() - start;
+		report("LinearIntIntMap", name, put, get, miss, remove);
+	}
+
+	private void benchLong (String name, long[] keys) {
+		long put, get, miss, remove, start;
+		Object value = new Object();
+
+		LongMap cuckoo = new LongMap();
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			cuckoo.put(keys[i], value);
+		put = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			if (cuckoo.get(keys[i]) != null) sink++;
+		get = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			if (cuckoo.get(~keys[i]) != null) sink++;
+		miss = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			if (cuckoo.remove(keys[i]) != null) sink++;
+		remove = TimeUtils.nanoTime() - start;
+		report("LongMap", name, put, get, miss, remove);
+
+		LinearLongMap linear = new LinearLongMap();
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			linear.put(keys[i], value);
+		put = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			if (linear.get(keys[i]) != null) sink++;
+		get = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			if (linear.get(~keys[i]) != null) sink++;
+		miss = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < count; i++)
+			if (linear.remove(keys[i]) != null) sink++;
+		remove = TimeUtils.nanoTime() - start;
+		report("LinearLongMap", name, put, get, miss, remove);
+	}
+
+	private void report (String map, String keys, long put, long get, long miss, long remove) {
+		results.append(map).append(", ").append(keys).append(": put ").append(put / 1000).append(" us, get ").append(get / 1000)
+			.append(" us, miss ").append(miss / 1000).append(" us, remove ").append(remove / 1000).append(" us\n");
+	}
+}
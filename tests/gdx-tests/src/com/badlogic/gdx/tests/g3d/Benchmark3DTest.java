@@ -37,6 +37,7 @@ import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader.Config;
 import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.StateRenderableSorter;
 import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.graphics.profiling.GL20Profiler;
 import com.badlogic.gdx.graphics.profiling.GL30Profiler;
@@ -44,6 +45,7 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.WindowedMean;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
@@ -53,6 +55,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /** @author Daniel Holderbaum */
 public class Benchmark3DTest extends BaseG3dHudTest {
@@ -60,11 +63,14 @@ public class Benchmark3DTest extends BaseG3dHudTest {
 	protected Environment environment;
 
 	protected Label vertexCountLabel, textureBindsLabel, shaderSwitchesLabel, drawCallsLabel, glCallsLabel,
-		lightsLabel;
+		lightsLabel, frameTimeLabel;
 
-	protected CheckBox lightingCheckBox, lightsCheckBox;
+	protected CheckBox lightingCheckBox, lightsCheckBox, instancingCheckBox, spawnCheckBox;
 
-	protected boolean lighting;
+	protected boolean lighting, instancing;
+
+	/** Time spent rendering the models (including waiting for the GPU) in milliseconds, with and without instancing */
+	protected final WindowedMean regularTime = new WindowedMean(60), instancedTime = new WindowedMean(60);
 
 	@Override
 	public void create () {
@@ -104,6 +110,10 @@ public class Benchmark3DTest extends BaseG3dHudTest {
 		lightsLabel.setPosition(0, glCallsLabel.getTop());
 		hud.addActor(lightsLabel);
 
+		frameTimeLabel = new Label("Frame time: 999", skin);
+		frameTimeLabel.setPosition(0, lightsLabel.getTop());
+		hud.addActor(frameTimeLabel);
+
 		lightingCheckBox = new CheckBox("Lighting", skin);
 		lightingCheckBox.setChecked(lighting);
 		lightingCheckBox.addListener(new ChangeListener() {
@@ -127,6 +137,32 @@ public class Benchmark3DTest extends BaseG3dHudTest {
 		lightsCheckBox.setPosition(hudWidth - lightsCheckBox.getWidth(), lightingCheckBox.getTop());
 		hud.addActor(lightsCheckBox);
 
+		instancingCheckBox = new CheckBox("Instancing", skin);
+		instancingCheckBox.setChecked(instancing);
+		instancingCheckBox.setDisabled(Gdx.gl30 == null);
+		instancingCheckBox.addListener(new ChangeListener() {
+			@Override
+			public void changed (ChangeEvent event, Actor actor) {
+				setInstancing(instancingCheckBox.isChecked());
+			}
+		});
+		instancingCheckBox.setPosition(hudWidth - instancingCheckBox.getWidth(), lightsCheckBox.getTop());
+		hud.addActor(instancingCheckBox);
+
+		spawnCheckBox = new CheckBox("Add 500 instances", skin);
+		spawnCheckBox.setChecked(false);
+		spawnCheckBox.addListener(new ChangeListener() {
+			@Override
+			public void changed (ChangeEvent event, Actor actor) {
+				if (!spawnCheckBox.isChecked()) return;
+				spawnCheckBox.setChecked(false);
+				for (int i = 0; i < 500; i++)
+					onLoaded();
+			}
+		});
+		spawnCheckBox.setPosition(hudWidth - spawnCheckBox.getWidth(), instancingCheckBox.getTop());
+		hud.addActor(spawnCheckBox);
+
 		moveCheckBox.remove();
 		rotateCheckBox.remove();
 	}
@@ -141,7 +177,9 @@ public class Benchmark3DTest extends BaseG3dHudTest {
 		config.numSpotLights = 0;
 
 		modelBatch.dispose();
-		modelBatch = new ModelBatch(new DefaultShaderProvider(config));
+		// Group the renderables by state, so instances of the same mesh part can be merged when instancing is enabled.
+		modelBatch = new ModelBatch(new DefaultShaderProvider(config), new StateRenderableSorter());
+		modelBatch.setInstancing(instancing);
 
 		environment = new Environment();
 		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1.f));
@@ -155,6 +193,13 @@ public class Benchmark3DTest extends BaseG3dHudTest {
 		}
 	}
 
+	protected void setInstancing (boolean instancing) {
+		this.instancing = instancing;
+		modelBatch.setInstancing(instancing);
+		regularTime.clear();
+		instancedTime.clear();
+	}
+
 	protected Color randomColor () {
 		return new Color(MathUtils.random(1.0f), MathUtils.random(1.0f), MathUtils.random(1.0f), MathUtils.random(1.0f));
 	}
@@ -206,12 +251,36 @@ public class Benchmark3DTest extends BaseG3dHudTest {
 		stringBuilder.append(pointLights == null ? 0 : pointLights.lights.size);
 		lightsLabel.setText(stringBuilder);
 
+		stringBuilder.setLength(0);
+		stringBuilder.append("Frame time: ");
+		appendTime(stringBuilder, regularTime);
+		stringBuilder.append(", instanced: ");
+		appendTime(stringBuilder, instancedTime);
+		stringBuilder.append(", instances: ");
+		stringBuilder.append(instances.size);
+		frameTimeLabel.setText(stringBuilder);
+
 		GLProfiler.reset();
 
 		stringBuilder.setLength(0);
 		super.getStatus(stringBuilder);
 	}
 
+	private void appendTime (final StringBuilder stringBuilder, final WindowedMean time) {
+		if (!time.hasEnoughData())
+			stringBuilder.append("-");
+		else
+			stringBuilder.append((int)(time.getMean() * 100f) / 100f).append(" ms");
+	}
+
+	@Override
+	public void render (final Array<ModelInstance> instances) {
+		final long start = TimeUtils.nanoTime();
+		super.render(instances);
+		Gdx.gl.glFinish();
+		(modelBatch.isInstancing() ? instancedTime : regularTime).addValue((TimeUtils.nanoTime() - start) / 1000000f);
+	}
+
 	@Override
 	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
 		if (lighting) {
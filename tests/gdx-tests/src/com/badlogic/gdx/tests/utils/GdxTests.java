@@ -37,6 +37,11 @@ import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.tests.*;
+import com.badlogic.gdx.tests.bench.AnimationUpdaterBench;
+import com.badlogic.gdx.tests.bench.GlyphLayoutBench;
+import com.badlogic.gdx.tests.bench.JsonSerializerBench;
+import com.badlogic.gdx.tests.bench.PixmapRasterizerBench;
+import com.badlogic.gdx.tests.bench.PrimitiveMapBench;
 import com.badlogic.gdx.tests.bench.TiledMapBench;
 import com.badlogic.gdx.tests.examples.MoveSpriteExample;
 import com.badlogic.gdx.tests.extensions.ControllersTest;
@@ -86,6 +91,7 @@ public class GdxTests {
 		AlphaTest.class,
 		Animation3DTest.class,
 		AnimationTest.class,
+		AnimationUpdaterBench.class,
 		AnnotationTest.class,
 		AssetManagerTest.class,
 		AtlasIssueTest.class,
@@ -129,6 +135,7 @@ public class GdxTests {
 		ControllersTest.class,
 		Gdx2DTest.class,
 		GestureDetectorTest.class,
+		GlyphLayoutBench.class,
 		GroupCullingTest.class,
 		GroupFadeTest.class,
 		GroupTest.class,
@@ -146,6 +153,7 @@ public class GdxTests {
 		InterpolationTest.class,
 		InverseKinematicsTest.class,
 		IsometricTileTest.class,
+		JsonSerializerBench.class,
 		KinematicBodyTest.class,
 		KTXTest.class,
 		LabelScaleTest.class,
@@ -167,16 +175,19 @@ public class GdxTests {
 		OnscreenKeyboardTest.class,
 		PathTest.class,
 		ParallaxTest.class,
+		ParallelAssetManagerTest.class,
 		ParticleControllerTest.class,
 		ParticleEmitterTest.class,
 		ParticleEmittersTest.class,
 		PixelsPerInchTest.class,
 		PixmapBlendingTest.class,
 		PixmapPackerTest.class,
+		PixmapRasterizerBench.class,
 		PixmapTest.class,
 		PolygonRegionTest.class,
 		PolygonSpriteTest.class,
 		PreferencesTest.class,
+		PrimitiveMapBench.class,
 		ProjectTest.class,
 		ProjectiveTextureTest.class,
 		ReflectionTest.class,